@@ -81,6 +81,13 @@ public class GameConfig {
     public static int numEnemies = 0;
     public static int enemyMovePeriod = 10;
 
+    // Minimum tile distance between spawned items; 0 or 1 spawns uniformly
+    public static int spawnMinDistance = 0;
+
+    // At most spawnRegionCap items per spawnRegionSize x spawnRegionSize region; 0 turns caps off
+    public static int spawnRegionSize = 0;
+    public static int spawnRegionCap = 0;
+
     // Barrier density for RANDOM barrier mode (fraction of interior cells)
     public static double boardBarrierPercentage = 0.30;
 
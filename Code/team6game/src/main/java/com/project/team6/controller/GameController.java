@@ -18,7 +18,7 @@ import java.util.Objects;
 /**
  * Runs input and the game loop.
  * Reads keys, moves the player, and advances the world on each tick.
- * Repaints the view after actions.
+ * Hands the view a fresh board snapshot after actions.
  */
 public final class GameController {
 
@@ -53,7 +53,7 @@ public final class GameController {
         }
         scoreboard.start();
         timer.start();
-        view.repaint();
+        publishFrame();
     }
 
     /**
@@ -107,9 +107,12 @@ public final class GameController {
                 board.collectAt(player.position())
                         .ifPresent(this::applyCollectible);
                 evaluateEndStates();
-                view.repaint();
+                publishFrame();
+            }
+            case COLLISION -> {
+                lose("You were caught!");
+                publishFrame();
             }
-            case COLLISION -> lose("You were caught!");
             // BLOCKED moves: do nothing (no separate branch needed)
         }
     }
@@ -139,6 +142,7 @@ public final class GameController {
     /** Handles non-score side effects (spawner + UI). */
     private void handleCollectibleEvents(CollectibleObject obj) {
         notifyBonusIfNeeded(obj);
+        spawner.notifyCollected(CollectibleRegistry.Kind.of(obj));
         view.onCollected(obj);
     }
 
@@ -167,7 +171,16 @@ public final class GameController {
             evaluateEndStates();
         }
 
-        view.repaint();
+        publishFrame();
+    }
+
+    /**
+     * Takes one snapshot after the latest changes and hands it to the view.
+     * Runs on the event thread with every board change; repaints in
+     * between only redraw the published frame.
+     */
+    private void publishFrame() {
+        view.showFrame(board.snapshot());
     }
 
     // ---------------------------------------------------------------
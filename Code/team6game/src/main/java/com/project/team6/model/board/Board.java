@@ -1,7 +1,9 @@
 package com.project.team6.model.board;
 
 import com.project.team6.model.board.generators.*;
+import com.project.team6.model.board.utilities.BitPlane;
 import com.project.team6.model.board.utilities.Direction;
+import com.project.team6.model.board.utilities.IntHashSet;
 import com.project.team6.model.board.utilities.MoveResult;
 import com.project.team6.model.board.utilities.TickSummary;
 import com.project.team6.model.characters.*;
@@ -10,6 +12,7 @@ import com.project.team6.model.collectibles.rewards.*;
 import com.project.team6.model.collectibles.*;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Main model for the grid world.
@@ -18,22 +21,77 @@ import java.util.*;
  */
 public final class Board {
 
+    /**
+     * How tile data is stored.
+     */
+    public enum StorageMode {
+        /** One packed array per attribute, with dense indexes. Best for normal boards. */
+        PACKED,
+        /**
+         * Lazily materialized 64 x 64 chunks, with lazy indexes. For large sparse worlds;
+         * tiles use int keys, so rows * cols must fit in an int (about 46k x 46k).
+         */
+        CHUNKED;
+
+        /** Boards with more tiles than this default to {@link #CHUNKED}. */
+        public static final int CHUNKED_THRESHOLD = 1 << 22;
+
+        /**
+         * Picks the default mode for a board size.
+         *
+         * @param rows number of rows
+         * @param cols number of columns
+         * @return CHUNKED above {@link #CHUNKED_THRESHOLD} tiles, PACKED otherwise
+         */
+        public static StorageMode forSize(int rows, int cols) {
+            return (long) rows * cols > CHUNKED_THRESHOLD ? CHUNKED : PACKED;
+        }
+    }
+
     private final int rows;
     private final int cols;
-    private final Cell[][] grid;
+
+    private final StorageMode storageMode;
+
+    /**
+     * Tile data. Cells handed out by {@link #cellAt} are views over it.
+     * Also keeps the free cells and bit planes up to date on every write.
+     */
+    private final IndexedGridStorage storage;
+
+    /** One shared Position per tile, addressed by packed key. */
+    private final PositionTable positions;
+
+    /** Key offset of one step, indexed by Direction ordinal. */
+    private final int[] neighborOffsets;
+
+    /** Reusable cell view for the movement path. Never handed out. */
+    private final Cell cursor;
+
+    /** Read-only view over the storage. */
+    private final GridView view = new StorageView();
 
     private final Position start;
     private final Position exit;
 
     private final Player player;
     private final List<MovingEnemy> enemies = new ArrayList<>();
-    private final List<RegularReward> regularRewards = new ArrayList<>();
-    private final List<Punishment> punishments = new ArrayList<>();
-    private final List<BonusReward> bonusRewards = new ArrayList<>();
+
+    /** Enemies bucketed by area, kept up to date by {@link #step}. */
+    private final EnemySpatialIndex enemyIndex;
+
+    /** Rewards and punishments by cell key, with per-kind counts. */
+    private final CollectibleRegistry collectibles = new CollectibleRegistry();
 
     /** Optional explosion position for game over rendering. */
     private Position explosionPos;
 
+    /** Last snapshot handed out; its clean chunks are shared by the next one. */
+    private BoardSnapshot lastSnapshot;
+
+    /** Component labels for terrain-only reachability; built on first use. */
+    private ReachabilityCache reachability;
+
     // -----------------------------------------------------------------
     // Construction
     // -----------------------------------------------------------------
@@ -41,24 +99,44 @@ public final class Board {
     /**
      * Builds a board from a generated output.
      * Fills the grid with terrain and places the player at start.
+     * The storage mode is picked from the board size.
      *
      * @param output generated terrain, start, and exit
      * @throws NullPointerException if output is null
      */
     public Board(BoardGenerator.Output output) {
+        this(output, StorageMode.forSize(output.rows(), output.cols()));
+    }
+
+    /**
+     * Builds a board from a generated output with a given storage mode.
+     *
+     * @param output generated terrain, start, and exit
+     * @param mode   how to store tiles
+     * @throws NullPointerException if output or mode is null
+     * @throws ArithmeticException if rows * cols does not fit in an int
+     */
+    public Board(BoardGenerator.Output output, StorageMode mode) {
         Objects.requireNonNull(output);
+        this.storageMode = Objects.requireNonNull(mode);
         this.rows = output.rows();
         this.cols = output.cols();
         this.start = output.start();
         this.exit = output.exit();
 
-        this.grid = new Cell[rows][cols];
-        Cell.Terrain[][] terrain = output.terrain();
-        for (int row = 0; row < rows; row++) {
-            for (int column = 0; column < cols; column++) {
-                grid[row][column] = new Cell(terrain[row][column]);
-            }
+        this.storage = switch (mode) {
+            case PACKED -> new IndexedGridStorage(
+                    new PackedGridStorage(rows, cols, output.source()), false);
+            case CHUNKED -> new IndexedGridStorage(
+                    new ChunkedGridStorage(output.source()), true);
+        };
+        this.positions = new PositionTable(rows, cols);
+        this.enemyIndex = new EnemySpatialIndex(rows, cols);
+        this.neighborOffsets = new int[Direction.values().length];
+        for (Direction d : Direction.values()) {
+            neighborOffsets[d.ordinal()] = d.d_row * cols + d.d_column;
         }
+        this.cursor = new Cell(storage, 0);
 
         // Create Player at start and register into the Cell.
         this.player = new Player(start);
@@ -69,6 +147,9 @@ public final class Board {
     // Basic accessors
     // -----------------------------------------------------------------
 
+    /** @return how tiles are stored */
+    public StorageMode storageMode() { return storageMode; }
+
     /** @return number of rows in the board */
     public int rows() { return rows; }
 
@@ -76,12 +157,79 @@ public final class Board {
     public int cols() { return cols; }
 
     /**
-     * Returns a shallow copy of the grid array.
-     * Inner rows are shared.
+     * Returns a read-only view of the grid.
+     * The view reads the live board and never copies it.
+     *
+     * @return shared grid view
+     */
+    public GridView view() { return view; }
+
+    /**
+     * Returns the interned position table of this board.
+     * Use it to pack positions into int keys and back.
+     *
+     * @return position table
+     */
+    public PositionTable positions() { return positions; }
+
+    /**
+     * Returns the live plane of walkable terrain (floor, start, exit).
+     * Do not modify it; take a {@link BitPlane#copy()} to work on.
+     * In {@link StorageMode#CHUNKED} mode the first call builds it in O(rows * cols).
+     *
+     * @return walkable plane
+     */
+    public BitPlane walkablePlane() { return storage.walkablePlane(); }
+
+    /** @return true once {@link #walkablePlane()} has been built */
+    boolean hasWalkablePlane() { return storage.hasWalkablePlane(); }
+
+    /**
+     * Checks if one tile reaches every target, chunk by chunk.
+     * Blocked tiles are treated as walls; the start tile is always entered.
+     * Works only on {@link StorageMode#CHUNKED} boards and never builds a
+     * whole-board plane; memory follows the chunks the flood reaches.
+     *
+     * @param fromKey packed key of the start tile
+     * @param targets packed keys to reach; not modified
+     * @param count   number of targets to check
+     * @param blocked packed keys of blocked tiles, may be null
+     * @return true if every target is reachable
+     * @throws IllegalStateException if the board is not chunked
+     */
+    public boolean reachesAllByChunks(int fromKey, int[] targets, int count, IntHashSet blocked) {
+        if (!(storage.delegate() instanceof ChunkedGridStorage chunked)) {
+            throw new IllegalStateException("Board is not chunked");
+        }
+        return ChunkFlood.reachesAll(chunked, fromKey, targets, count, blocked);
+    }
+
+    /**
+     * Returns the live plane of tiles that hold an item.
+     * Do not modify it; take a {@link BitPlane#copy()} to work on.
      *
-     * @return cloned top level grid array
+     * @return item plane
      */
-    public Cell[][] grid() {return grid.clone();}
+    public BitPlane itemPlane() { return storage.itemPlane(); }
+
+    /**
+     * Returns the live plane of tiles that hold an enemy.
+     * Do not modify it; take a {@link BitPlane#copy()} to work on.
+     *
+     * @return enemy plane
+     */
+    public BitPlane enemyPlane() { return storage.enemyPlane(); }
+
+    /**
+     * Returns live item counts per square region.
+     * The counts follow every item write, including collectAt and bonus expiry.
+     * Only one region size is tracked; asking for another rebuilds the counts.
+     *
+     * @param regionSize side of one region in tiles
+     * @return region counts
+     * @throws IllegalArgumentException if regionSize is below 1
+     */
+    public RegionCounts regionCounts(int regionSize) { return storage.regionCounts(regionSize); }
 
     /** @return start position */
     public Position start() { return start; }
@@ -97,12 +245,16 @@ public final class Board {
 
     /**
      * Gets the cell at a position.
+     * The returned cell is a lightweight view over the board storage.
      *
      * @param p position inside the board
-     * @return the cell reference
+     * @return the cell view
+     * @throws IndexOutOfBoundsException if the position is outside the board
      */
     public Cell cellAt(Position p) {
-        return grid[p.row()][p.column()];
+        Objects.checkIndex(p.column(), cols);
+        Objects.checkIndex(p.row(), rows);
+        return new Cell(storage, p.row() * cols + p.column());
     }
 
     /**
@@ -116,6 +268,83 @@ public final class Board {
         return x >= 0 && x < cols && y >= 0 && y < rows;
     }
 
+    /**
+     * Returns the key of the neighbor one step away.
+     *
+     * @param key packed key of a tile
+     * @param dir direction to step
+     * @return neighbor key, or -1 if the step leaves the board
+     */
+    public int neighborKey(int key, Direction dir) {
+        int column = positions.column(key) + dir.d_column;
+        int row = positions.row(key) + dir.d_row;
+        if (!positions.contains(column, row)) return -1;
+        return key + neighborOffsets[dir.ordinal()];
+    }
+
+    /**
+     * Checks terrain walkability by key.
+     *
+     * @param key packed key of a tile
+     * @return true for floor, start, or exit
+     */
+    public boolean isWalkableTerrain(int key) {
+        Cell.Terrain t = storage.terrain(key);
+        return t != Cell.Terrain.WALL && t != Cell.Terrain.BARRIER;
+    }
+
+    /**
+     * Replaces the terrain of a floor, wall, or barrier tile.
+     * Keeps the walkable plane, free cells, and snapshot chunks in step and
+     * bumps {@link #modificationCount()} when the terrain actually changes.
+     *
+     * @param p       position inside the board
+     * @param terrain FLOOR, WALL, or BARRIER
+     * @throws IllegalArgumentException if p is the start or exit, terrain is
+     *         START or EXIT, or a blocking terrain would cover an item or character
+     * @throws IndexOutOfBoundsException if the position is outside the board
+     */
+    public void setTerrain(Position p, Cell.Terrain terrain) {
+        Objects.requireNonNull(terrain);
+        Objects.checkIndex(p.column(), cols);
+        Objects.checkIndex(p.row(), rows);
+        int key = positions.key(p);
+        if (p.equals(start) || p.equals(exit)) {
+            throw new IllegalArgumentException("Start and exit terrain cannot change");
+        }
+        if (terrain == Cell.Terrain.START || terrain == Cell.Terrain.EXIT) {
+            throw new IllegalArgumentException("Cannot add another " + terrain);
+        }
+        boolean blocking = terrain == Cell.Terrain.WALL || terrain == Cell.Terrain.BARRIER;
+        if (blocking && (storage.item(key) != null || storage.hasPlayer(key) || storage.hasEnemy(key))) {
+            throw new IllegalArgumentException("Tile " + p + " is occupied");
+        }
+        storage.setTerrain(key, terrain);
+    }
+
+    /**
+     * Counts terrain changes made since the board was built.
+     * Reachability over terrain can only change when this does, so callers
+     * may cache results keyed by it.
+     *
+     * @return modification count
+     */
+    public long modificationCount() {
+        return storage.terrainChanges();
+    }
+
+    /**
+     * Returns this board's reachability cache.
+     * It relabels itself when {@link #modificationCount()} moves.
+     * Like the rest of the board, use it from the board's thread.
+     *
+     * @return cache owned by this board
+     */
+    public ReachabilityCache reachabilityCache() {
+        if (reachability == null) reachability = new ReachabilityCache(this);
+        return reachability;
+    }
+
     /**
      * Computes Chebyshev distance between two positions.
      *
@@ -131,17 +360,15 @@ public final class Board {
     // Registration helpers used by Spawner
     // -----------------------------------------------------------------
 
+    /**
+     * Adds a collectible to the board and places it into its cell.
+     *
+     * @param item collectible to register
+     */
     public void registerCollectible(CollectibleObject item) {
-        if (item instanceof RegularReward rr) {
-            regularRewards.add(rr);
-        } else if (item instanceof BonusReward br) {
-            bonusRewards.add(br);
-        } else if (item instanceof Punishment pu) {
-            punishments.add(pu);
-        }
-
-
-        cellAt(item.position()).setItem(item);
+        int key = positions.key(item.position());
+        collectibles.add(key, item);
+        storage.setItem(key, item);
     }
 
     /**
@@ -152,6 +379,99 @@ public final class Board {
     public void registerEnemy(MovingEnemy e) {
         enemies.add(e);
         cellAt(e.position()).addOccupant(e);
+        enemyIndex.add(e, positions.key(e.position()));
+    }
+
+    // -----------------------------------------------------------------
+    // Enemy proximity queries
+    // -----------------------------------------------------------------
+
+    /**
+     * Finds the registered enemy standing on a position.
+     * Costs O(1) whatever the enemy count.
+     *
+     * @param p position to check
+     * @return enemy or null if none
+     * @throws IndexOutOfBoundsException if p is outside the board
+     */
+    public MovingEnemy enemyAt(Position p) {
+        return enemyIndex.enemyAt(positions.key(p));
+    }
+
+    /**
+     * Lists registered enemies within a Chebyshev radius of a position.
+     * Only buckets that overlap the radius are visited.
+     *
+     * @param center center position
+     * @param radius maximum distance in tiles, at least 0
+     * @return enemies in range, in no particular order
+     * @throws IllegalArgumentException if radius is negative
+     */
+    public List<MovingEnemy> enemiesWithin(Position center, int radius) {
+        List<MovingEnemy> out = new ArrayList<>();
+        forEachEnemyWithin(center, radius, out::add);
+        return out;
+    }
+
+    /**
+     * Visits registered enemies within a Chebyshev radius without allocating a list.
+     *
+     * @param center center position
+     * @param radius maximum distance in tiles, at least 0
+     * @param action receives each enemy in range
+     * @throws IllegalArgumentException if radius is negative
+     */
+    public void forEachEnemyWithin(Position center, int radius, Consumer<? super MovingEnemy> action) {
+        if (radius < 0) throw new IllegalArgumentException("radius must be >= 0: " + radius);
+        Objects.requireNonNull(action);
+        enemyIndex.forEachWithin(center.column(), center.row(), radius, action);
+    }
+
+    /**
+     * Finds the registered enemy closest to a position by Chebyshev distance.
+     *
+     * @param p position to search from
+     * @return nearest enemy, or empty if there are none
+     */
+    public Optional<MovingEnemy> nearestEnemy(Position p) {
+        return Optional.ofNullable(enemyIndex.nearest(p.column(), p.row()));
+    }
+
+    // -----------------------------------------------------------------
+    // Free cell index used by Spawner
+    // -----------------------------------------------------------------
+
+    /**
+     * Counts free floor cells: FLOOR terrain with no item, player, or enemy.
+     * The count is maintained incrementally and costs O(1).
+     *
+     * @return number of free cells
+     */
+    public int freeCellCount() {
+        return storage.freeCells().size();
+    }
+
+    /**
+     * Copies the keys of all free floor cells.
+     * Order follows the internal index, not the board.
+     * In {@link StorageMode#CHUNKED} mode this scans the whole board.
+     *
+     * @return packed keys of free cells
+     */
+    public int[] freeCellKeys() {
+        return storage.freeCells().toArray();
+    }
+
+    /**
+     * Draws distinct free floor cells uniformly at random without scanning the board.
+     * In {@link StorageMode#CHUNKED} mode it scans only when free cells are rare.
+     *
+     * @param count  how many cells to draw, capped at the free count
+     * @param random random source
+     * @return packed keys of the drawn cells
+     */
+    public int[] sampleFreeCells(int count, Random random) {
+        return storage.freeCells().sample(count, random);
     }
 
     /**
@@ -159,8 +479,30 @@ public final class Board {
      *
      * @return list of regular rewards
      */
+    @SuppressWarnings("unchecked")
     public List<RegularReward> regularRewards() {
-        return Collections.unmodifiableList(regularRewards);
+        // The registry only files RegularReward instances under this kind.
+        return (List<RegularReward>) (List<?>) collectibles.items(CollectibleRegistry.Kind.REGULAR_REWARD);
+    }
+
+    /**
+     * Exposes the enemies in registration order as an unmodifiable view.
+     *
+     * @return list of enemies
+     */
+    public List<MovingEnemy> enemies() {
+        return Collections.unmodifiableList(enemies);
+    }
+
+    /**
+     * Exposes the collectible registry for keyed lookups and per-kind counts.
+     * Callers outside this package can only read it; the board changes it
+     * through registerCollectible and collectAt.
+     *
+     * @return collectible registry
+     */
+    public CollectibleRegistry collectibles() {
+        return collectibles;
     }
 
     /**
@@ -169,7 +511,7 @@ public final class Board {
      * @return true if at least one bonus is on the board
      */
     public boolean hasActiveBonusRewards() {
-        return !bonusRewards.isEmpty();
+        return collectibles.count(CollectibleRegistry.Kind.BONUS_REWARD) > 0;
     }
 
     // -----------------------------------------------------------------
@@ -189,14 +531,15 @@ public final class Board {
         Objects.requireNonNull(who);
         Objects.requireNonNull(dir);
 
-        Position from = who.position();
-        Position to   = new Position(from.column() + dir.d_column, from.row() + dir.d_row);
+        // Keys and interned positions keep this path free of allocations.
+        int fromKey = positions.key(who.position());
+        int toKey = neighborKey(fromKey, dir);
 
-        if (!isInBounds(to)) {
+        if (toKey < 0) {
             return MoveResult.BLOCKED;
         }
 
-        Cell target = cellAt(to);
+        Cell target = cursor.moveTo(toKey);
         if (!target.isWalkableTerrain()) {
             return MoveResult.BLOCKED;
         }
@@ -208,9 +551,12 @@ public final class Board {
         boolean collision = target.hasEnemy();
 
         // Move occupant between cells
-        cellAt(from).removeOccupant(who);
-        target.addOccupant(who);
-        who.setPosition(to);
+        cursor.moveTo(fromKey).removeOccupant(who);
+        cursor.moveTo(toKey).addOccupant(who);
+        who.setPosition(positions.at(toKey));
+        if (who instanceof MovingEnemy enemy) {
+            enemyIndex.move(enemy, fromKey, toKey);
+        }
 
         return collision ? MoveResult.COLLISION : MoveResult.MOVED;
     }
@@ -227,28 +573,56 @@ public final class Board {
      * @return summary of what happened this tick
      */
     public TickSummary tick(Position playerPos) {
-        boolean caught = false;
-
-        // enemies
-        for (MovingEnemy enemy : enemies) {
-            enemy.tick(this, playerPos);
-            if (enemy.position().equals(playerPos)) {
-                caught = true;
-            }
+        // enemies (indexed loops: no iterator per tick)
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).tick(this, playerPos);
         }
 
+        // An enemy never leaves a tile in the tick it entered it,
+        // so one lookup after all moves matches a per-enemy check.
+        boolean caught = enemyIndex.enemyAt(positions.key(playerPos)) != null;
+
         // bonus lifetime and expiry
-        Iterator<BonusReward> it = bonusRewards.iterator();
-        while (it.hasNext()) {
-            BonusReward b = it.next();
+        // Walk backwards: swap-remove only moves already visited entries.
+        CollectibleRegistry.Kind bonus = CollectibleRegistry.Kind.BONUS_REWARD;
+        for (int i = collectibles.count(bonus) - 1; i >= 0; i--) {
+            BonusReward b = (BonusReward) collectibles.itemAt(bonus, i);
             if (!b.onTickAndAlive()) {
                 // remove from board
-                cellAt(b.position()).setItem(null);
-                it.remove();
+                int key = collectibles.keyAt(bonus, i);
+                storage.setItem(key, null);
+                collectibles.remove(key);
             }
         }
 
-        return new TickSummary(caught);
+        return TickSummary.of(caught);
+    }
+
+    // -----------------------------------------------------------------
+    // Snapshots
+    // -----------------------------------------------------------------
+
+    /**
+     * Captures an immutable frame of the board for other threads.
+     * Only chunks written since the previous snapshot are copied; the rest
+     * are shared with it. Call this from the thread that mutates the board.
+     *
+     * @return snapshot of the current state
+     */
+    public BoardSnapshot snapshot() {
+        BoardSnapshot previous = lastSnapshot;
+        byte[][] chunks = new byte[BoardSnapshot.chunkCount(rows, cols)][];
+        for (int c = 0; c < chunks.length; c++) {
+            chunks[c] = previous != null && !storage.isSnapshotDirty(c)
+                    ? previous.chunk(c)
+                    : BoardSnapshot.encodeChunk(storage, c);
+        }
+        storage.clearSnapshotDirty();
+
+        long version = previous == null ? 1 : previous.version() + 1;
+        lastSnapshot = new BoardSnapshot(version, rows, cols, chunks,
+                start, exit, player.position(), explosionPos);
+        return lastSnapshot;
     }
 
     // -----------------------------------------------------------------
@@ -264,19 +638,12 @@ public final class Board {
      * @return present item wrapped in Optional or empty if none
      */
     public Optional<CollectibleObject> collectAt(Position p) {
-        Cell c = cellAt(p);
-        CollectibleObject item = c.item();
+        int key = positions.key(p);
+        CollectibleObject item = storage.item(key);
         if (item == null) return Optional.empty();
 
-        c.setItem(null);
-
-        if (item instanceof RegularReward rr) {
-            regularRewards.remove(rr);
-        } else if (item instanceof BonusReward br) {
-            bonusRewards.remove(br);
-        } else if (item instanceof Punishment pu) {
-            punishments.remove(pu);
-        }
+        storage.setItem(key, null);
+        collectibles.remove(key);
 
         return Optional.of(item);
     }
@@ -289,4 +656,49 @@ public final class Board {
     public void setExplosion(Position p) {
         this.explosionPos = p;
     }
+
+    // -----------------------------------------------------------------
+    // Read-only grid view
+    // -----------------------------------------------------------------
+
+    private final class StorageView implements GridView {
+
+        @Override public int rows() { return rows; }
+
+        @Override public int cols() { return cols; }
+
+        @Override
+        public Cell.Terrain terrainAt(int index) {
+            return storage.terrain(Objects.checkIndex(index, size()));
+        }
+
+        @Override
+        public boolean isWalkable(int index) {
+            return isWalkableTerrain(Objects.checkIndex(index, size()));
+        }
+
+        @Override
+        public boolean hasItem(int index) {
+            return storage.item(Objects.checkIndex(index, size())) != null;
+        }
+
+        @Override
+        public boolean hasPlayer(int index) {
+            return storage.hasPlayer(Objects.checkIndex(index, size()));
+        }
+
+        @Override
+        public boolean hasEnemy(int index) {
+            return storage.hasEnemy(Objects.checkIndex(index, size()));
+        }
+
+        @Override
+        public void forEachCell(CellVisitor visitor) {
+            int size = size();
+            for (int index = 0; index < size; index++) {
+                visitor.visit(index, storage.terrain(index), storage.item(index) != null,
+                        storage.hasPlayer(index) || storage.hasEnemy(index));
+            }
+        }
+    }
 }
@@ -0,0 +1,227 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.collectibles.CollectibleObject;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable frame of a board, safe to read from any thread.
+ * Tiles are packed one byte each into 32 x 32 chunks. A new snapshot
+ * copies only the chunks written since the previous one and shares the
+ * rest, so taking one per tick costs little more than the changes.
+ */
+public final class BoardSnapshot implements GridView {
+
+    static final int CHUNK_BITS = 5;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // Tile byte layout: terrain ordinal, item kind + 1, player bit, enemy bit.
+    private static final int TERRAIN_MASK = 0x07;
+    private static final int ITEM_SHIFT = 3;
+    private static final int ITEM_MASK = 0x03 << ITEM_SHIFT;
+    private static final int PLAYER_BIT = 1 << 5;
+    private static final int ENEMY_BIT = 1 << 6;
+
+    private static final Cell.Terrain[] TERRAINS = Cell.Terrain.values();
+    private static final CollectibleRegistry.Kind[] KINDS = CollectibleRegistry.Kind.values();
+
+    /** Shared full chunks whose tiles all have the same byte, by byte value. */
+    private static final byte[][] UNIFORM = new byte[1 << 7][];
+    static {
+        for (int b = 0; b < UNIFORM.length; b++) {
+            UNIFORM[b] = new byte[CHUNK_SIZE * CHUNK_SIZE];
+            Arrays.fill(UNIFORM[b], (byte) b);
+        }
+    }
+
+    private final long version;
+    private final int rows;
+    private final int cols;
+    private final int chunkCols;
+    private final byte[][] chunks;
+    private final Position start;
+    private final Position exit;
+    private final Position player;
+    private final Position explosion;
+
+    BoardSnapshot(long version, int rows, int cols, byte[][] chunks,
+                  Position start, Position exit, Position player, Position explosion) {
+        this.version = version;
+        this.rows = rows;
+        this.cols = cols;
+        this.chunkCols = chunkCols(cols);
+        this.chunks = chunks;
+        this.start = start;
+        this.exit = exit;
+        this.player = player;
+        this.explosion = explosion;
+    }
+
+    /** @return sequence number, increasing by one per snapshot of the same board */
+    public long version() { return version; }
+
+    @Override public int rows() { return rows; }
+
+    @Override public int cols() { return cols; }
+
+    /** @return start position */
+    public Position start() { return start; }
+
+    /** @return exit position */
+    public Position exit() { return exit; }
+
+    /** @return player position when the snapshot was taken */
+    public Position playerPosition() { return player; }
+
+    /** @return explosion position, or null if none */
+    public Position explosionPos() { return explosion; }
+
+    @Override
+    public Cell.Terrain terrainAt(int index) {
+        return TERRAINS[tile(index) & TERRAIN_MASK];
+    }
+
+    @Override
+    public boolean isWalkable(int index) {
+        Cell.Terrain t = terrainAt(index);
+        return t != Cell.Terrain.WALL && t != Cell.Terrain.BARRIER;
+    }
+
+    @Override
+    public boolean hasItem(int index) {
+        return (tile(index) & ITEM_MASK) != 0;
+    }
+
+    @Override
+    public boolean hasPlayer(int index) {
+        return (tile(index) & PLAYER_BIT) != 0;
+    }
+
+    @Override
+    public boolean hasEnemy(int index) {
+        return (tile(index) & ENEMY_BIT) != 0;
+    }
+
+    /**
+     * Gets the kind of item on a tile.
+     *
+     * @param index packed key
+     * @return item kind or null if none
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    public CollectibleRegistry.Kind itemKind(int index) {
+        int item = (tile(index) & ITEM_MASK) >>> ITEM_SHIFT;
+        return item == 0 ? null : KINDS[item - 1];
+    }
+
+    /**
+     * Returns the same ASCII symbol as {@link Cell#symbol()} did for this tile.
+     *
+     * @param index packed key
+     * @return symbol
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    public char symbol(int index) {
+        int b = tile(index);
+        boolean p = (b & PLAYER_BIT) != 0;
+        boolean e = (b & ENEMY_BIT) != 0;
+        if (p && e) return 'C';
+        if (p)      return 'P';
+        if (e)      return 'B';
+        CollectibleRegistry.Kind kind = itemKind(index);
+        if (kind != null) {
+            return switch (kind) {
+                case REGULAR_REWARD -> '.';
+                case BONUS_REWARD   -> 'o';
+                case PUNISHMENT     -> '*';
+            };
+        }
+        return switch (TERRAINS[b & TERRAIN_MASK]) {
+            case WALL    -> 'X';
+            case BARRIER -> '#';
+            case START   -> 'S';
+            case EXIT    -> 'E';
+            default      -> ' ';
+        };
+    }
+
+    @Override
+    public void forEachCell(CellVisitor visitor) {
+        for (int index = 0; index < rows * cols; index++) {
+            int b = tile(index);
+            visitor.visit(index, TERRAINS[b & TERRAIN_MASK], (b & ITEM_MASK) != 0,
+                    (b & (PLAYER_BIT | ENEMY_BIT)) != 0);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Building (used by Board)
+    // ------------------------------------------------------------------
+
+    /** @return number of chunk columns for a width */
+    static int chunkCols(int cols) {
+        return (cols + CHUNK_MASK) >>> CHUNK_BITS;
+    }
+
+    /** @return number of chunks for a board size */
+    static int chunkCount(int rows, int cols) {
+        return ((rows + CHUNK_MASK) >>> CHUNK_BITS) * chunkCols(cols);
+    }
+
+    /** @return chunk holding a flat tile index */
+    static int chunkOf(int index, int cols) {
+        int row = index / cols;
+        int column = index - row * cols;
+        return (row >>> CHUNK_BITS) * chunkCols(cols) + (column >>> CHUNK_BITS);
+    }
+
+    /** @return the packed tile bytes of one chunk; for sharing with the next snapshot */
+    byte[] chunk(int chunk) {
+        return chunks[chunk];
+    }
+
+    /**
+     * Encodes one chunk from a storage.
+     * Full chunks whose tiles are all alike reuse a shared array.
+     *
+     * @param storage storage to read
+     * @param chunk   chunk number
+     * @return packed tile bytes, row-major within the chunk
+     */
+    static byte[] encodeChunk(GridStorage storage, int chunk) {
+        int rows = storage.rows();
+        int cols = storage.cols();
+        int chunkCols = chunkCols(cols);
+        int column0 = (chunk % chunkCols) << CHUNK_BITS;
+        int row0 = (chunk / chunkCols) << CHUNK_BITS;
+        int width = Math.min(CHUNK_SIZE, cols - column0);
+        int height = Math.min(CHUNK_SIZE, rows - row0);
+
+        byte[] out = new byte[width * height];
+        boolean uniform = true;
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                int index = (row0 + r) * cols + column0 + c;
+                int b = storage.terrain(index).ordinal();
+                CollectibleObject item = storage.item(index);
+                if (item != null) b |= (CollectibleRegistry.Kind.of(item).ordinal() + 1) << ITEM_SHIFT;
+                if (storage.hasPlayer(index)) b |= PLAYER_BIT;
+                if (storage.hasEnemy(index)) b |= ENEMY_BIT;
+                out[r * width + c] = (byte) b;
+                uniform &= out[r * width + c] == out[0];
+            }
+        }
+        return uniform && width == CHUNK_SIZE && height == CHUNK_SIZE ? UNIFORM[out[0]] : out;
+    }
+
+    private int tile(int index) {
+        Objects.checkIndex(index, rows * cols);
+        int row = index / cols;
+        int column = index - row * cols;
+        int chunk = (row >>> CHUNK_BITS) * chunkCols + (column >>> CHUNK_BITS);
+        int width = Math.min(CHUNK_SIZE, cols - (column & ~CHUNK_MASK));
+        return chunks[chunk][(row & CHUNK_MASK) * width + (column & CHUNK_MASK)];
+    }
+}
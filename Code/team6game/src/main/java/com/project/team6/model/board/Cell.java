@@ -11,6 +11,7 @@ import java.util.Objects;
  * Represents one tile on the board.
  * A cell can hold one player and one enemy at most.
  * It can also hold one item.
+ * A cell is a lightweight view; the tile data lives in the board storage.
  */
 public final class Cell {
 
@@ -20,18 +21,43 @@ public final class Cell {
      */
     public static enum Terrain { FLOOR, WALL, BARRIER, START, EXIT }
 
-    private final Terrain terrain;
-    private CollectibleObject item; // optional
-    private Player playerOcc;       // null if none
-    private Enemy  enemyOcc;        // null if none
+    private final GridStorage storage;
+
+    /** Tile index. Only the owning board re-points its internal cursor cell. */
+    private int index;
 
     /**
-     * Creates a cell with a terrain type.
+     * Creates a standalone cell with a terrain type.
      *
      * @param terrain the terrain of this cell
      * @throws NullPointerException if terrain is null
      */
-    public Cell(Terrain terrain) { this.terrain = Objects.requireNonNull(terrain); }
+    public Cell(Terrain terrain) {
+        this(new PackedGridStorage(Objects.requireNonNull(terrain)), 0);
+    }
+
+    /**
+     * Creates a view over one tile of a storage.
+     *
+     * @param storage backing storage
+     * @param index   flat tile index
+     */
+    Cell(GridStorage storage, int index) {
+        this.storage = storage;
+        this.index = index;
+    }
+
+    /**
+     * Re-points this view to another tile of the same storage.
+     * Lets the board reuse one cursor cell on its movement path.
+     *
+     * @param index flat tile index
+     * @return this cell
+     */
+    Cell moveTo(int index) {
+        this.index = index;
+        return this;
+    }
 
     // --- Accessors
 
@@ -40,49 +66,49 @@ public final class Cell {
      *
      * @return terrain enum
      */
-    public Terrain terrain()                 { return terrain; }
+    public Terrain terrain()                 { return storage.terrain(index); }
 
     /**
      * Gets the item in this cell.
      *
      * @return item or null
      */
-    public CollectibleObject item()          { return item; }
+    public CollectibleObject item()          { return storage.item(index); }
 
     /**
      * Sets the item in this cell.
      *
      * @param i item to place, or null to clear
      */
-    public void setItem(CollectibleObject i) { this.item = i; }
+    public void setItem(CollectibleObject i) { storage.setItem(index, i); }
 
     /**
      * Gets the player occupant.
      *
      * @return player or null
      */
-    public Player player()      { return playerOcc; }
+    public Player player()      { return storage.player(index); }
 
     /**
      * Gets the enemy occupant.
      *
      * @return enemy or null
      */
-    public Enemy  enemy()       { return enemyOcc; }
+    public Enemy  enemy()       { return storage.enemy(index); }
 
     /**
      * Checks if a player is present.
      *
      * @return true if a player is here
      */
-    public boolean hasPlayer()  { return playerOcc != null; }
+    public boolean hasPlayer()  { return storage.hasPlayer(index); }
 
     /**
      * Checks if an enemy is present.
      *
      * @return true if an enemy is here
      */
-    public boolean hasEnemy()   { return enemyOcc  != null; }
+    public boolean hasEnemy()   { return storage.hasEnemy(index); }
 
     /**
      * Checks if both a player and an enemy are here.
@@ -99,6 +125,7 @@ public final class Cell {
      * @return true for floor, start, or exit
      */
     public boolean isWalkableTerrain() {
+        Terrain terrain = terrain();
         return terrain != Terrain.WALL && terrain != Terrain.BARRIER;
     }
 
@@ -115,11 +142,13 @@ public final class Cell {
     public void addOccupant(CharacterObject obj) {
         Objects.requireNonNull(obj);
         if (obj instanceof Player p) {
+            Player playerOcc = player();
             if (playerOcc != null && playerOcc != p) throw new IllegalStateException("Cell already has a Player.");
-            playerOcc = p;
+            storage.setPlayer(index, p);
         } else if (obj instanceof Enemy e) {
+            Enemy enemyOcc = enemy();
             if (enemyOcc != null && enemyOcc != e)   throw new IllegalStateException("Cell already has an Enemy.");
-            enemyOcc = e;
+            storage.setEnemy(index, e);
         } else {
             throw new IllegalArgumentException("Unsupported occupant type: " + obj.getClass());
         }
@@ -131,14 +160,14 @@ public final class Cell {
      * @param obj character to remove
      */
     public void removeOccupant(CharacterObject obj) {
-        if (obj instanceof Player p) { if (playerOcc == p) playerOcc = null; }
-        else if (obj instanceof Enemy e) { if (enemyOcc == e) enemyOcc = null; }
+        if (obj instanceof Player p) { if (player() == p) storage.setPlayer(index, null); }
+        else if (obj instanceof Enemy e) { if (enemy() == e) storage.setEnemy(index, null); }
     }
 
     /**
      * Clears both player and enemy from this cell.
      */
-    public void clearOccupants() { playerOcc = null; enemyOcc = null; }
+    public void clearOccupants() { storage.setPlayer(index, null); storage.setEnemy(index, null); }
 
     // --- ASCII symbol (GUI may ignore and draw sprites instead)
 
@@ -153,10 +182,11 @@ public final class Cell {
         if (hasCollision()) return 'C';
         if (hasPlayer())    return 'P';
         if (hasEnemy())     return 'B';
+        CollectibleObject item = item();
         if (item != null)   return item.symbol();
 
         // Terrain last (so S/E show when empty)
-        return switch (terrain) {
+        return switch (terrain()) {
             case WALL    -> 'X';
             case BARRIER -> '#';
             case START   -> 'S';
@@ -172,6 +202,6 @@ public final class Cell {
      * @return text summary of the cell
      */
     @Override public String toString() {
-        return "Cell{" + terrain + ",P=" + (playerOcc!=null) + ",E=" + (enemyOcc!=null) + ",item=" + (item!=null) + "}";
+        return "Cell{" + terrain() + ",P=" + hasPlayer() + ",E=" + hasEnemy() + ",item=" + (item()!=null) + "}";
     }
 }
@@ -0,0 +1,270 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.BitFlood;
+import com.project.team6.model.board.utilities.IntHashMap;
+import com.project.team6.model.board.utilities.IntHashSet;
+
+import java.util.Arrays;
+
+/**
+ * Reachability check over {@link ChunkedGridStorage} that never builds a
+ * whole-board plane.
+ * <p>
+ * Chunks that are walkable throughout and hold no blocked tile are entered
+ * as a whole and kept in a hash set. Every other chunk the flood touches
+ * gets one word per row and is flooded on its own; reached edge tiles are
+ * handed to the neighbor chunks until no chunk gains a tile.
+ * Memory follows the number of chunks reached, not the board size.
+ * Use one instance per check.
+ */
+final class ChunkFlood {
+
+    private static final int LOCAL_MASK = ChunkedGridStorage.CHUNK_SIZE - 1;
+
+    /** Tiles of one partly open chunk. */
+    private static final class Area {
+        private final long[] open;
+        private final long[] reached;
+        private boolean queued;
+
+        private Area(int height) {
+            this.open = new long[height];
+            this.reached = new long[height];
+        }
+    }
+
+    private final ChunkedGridStorage grid;
+    private final int cols;
+    private final int chunkCols;
+    private final int chunkCount;
+    private final int fromKey;
+
+    /** Blocked tiles per chunk, one word per local row. */
+    private final IntHashMap<long[]> blockedRows = new IntHashMap<>();
+    private final IntHashSet whole = new IntHashSet();
+    private final IntHashMap<Area> areas = new IntHashMap<>();
+    private int[] stack = new int[16];
+    private int top;
+
+    private ChunkFlood(ChunkedGridStorage grid, int fromKey) {
+        this.grid = grid;
+        this.cols = grid.cols();
+        this.chunkCols = grid.chunkColumns();
+        this.chunkCount = grid.chunkCount();
+        this.fromKey = fromKey;
+    }
+
+    /**
+     * Checks if one tile reaches every target over walkable terrain.
+     * Blocked tiles are treated as walls; the start tile is always entered.
+     *
+     * @param grid    chunked storage to search
+     * @param fromKey packed key of the start tile
+     * @param targets packed keys to reach; not modified
+     * @param count   number of targets to check
+     * @param blocked packed keys of blocked tiles, may be null
+     * @return true if every target is reachable
+     */
+    static boolean reachesAll(ChunkedGridStorage grid, int fromKey,
+                              int[] targets, int count, IntHashSet blocked) {
+        return new ChunkFlood(grid, fromKey).run(targets, count, blocked);
+    }
+
+    private boolean run(int[] targets, int count, IntHashSet blocked) {
+        int size = grid.rows() * cols;
+        for (int i = 0; i < count; i++) {
+            int key = targets[i];
+            // A closed target can never be reached.
+            if (key == fromKey) continue;
+            if (!ChunkedGridStorage.isWalkable(grid.terrain(key))) return false;
+            if (blocked != null && blocked.contains(key)) return false;
+        }
+        if (blocked != null) {
+            blocked.forEach(key -> {
+                if (key >= 0 && key < size && key != fromKey) block(key);
+            });
+        }
+
+        int[] pending = new int[count];
+        int left = 0;
+        for (int i = 0; i < count; i++) {
+            if (targets[i] != fromKey) pending[left++] = targets[i];
+        }
+
+        int start = grid.chunkIndex(fromKey);
+        if (isWhole(start)) {
+            whole.add(start);
+            push(start);
+        } else {
+            Area area = area(start);
+            area.reached[localRow(fromKey)] |= localBit(fromKey);
+            area.queued = true;
+            push(start);
+        }
+
+        while (left > 0 && top > 0) {
+            int chunk = stack[--top];
+            process(chunk);
+            left = settle(chunk, pending, left);
+        }
+        return left == 0;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    /** Floods one chunk and hands its reached edge tiles to the neighbors. */
+    private void process(int chunk) {
+        int width = grid.chunkWidth(chunk);
+        int height = grid.chunkHeight(chunk);
+        long left;
+        long right;
+        long up;
+        long down;
+        if (whole.contains(chunk)) {
+            left = right = -1L >>> (64 - height);
+            up = down = -1L >>> (64 - width);
+        } else {
+            Area area = areas.get(chunk);
+            area.queued = false;
+            long[] reached = area.reached;
+            BitFlood.floodRows(area.open, reached, height);
+            left = 0;
+            right = 0;
+            for (int r = 0; r < height; r++) {
+                left |= (reached[r] & 1L) << r;
+                right |= (reached[r] >>> (width - 1) & 1L) << r;
+            }
+            up = reached[0];
+            down = reached[height - 1];
+        }
+
+        int chunkColumn = chunk % chunkCols;
+        if (left != 0 && chunkColumn > 0) enterFromRight(chunk - 1, left);
+        if (right != 0 && chunkColumn < chunkCols - 1) enterFromLeft(chunk + 1, right);
+        if (up != 0 && chunk >= chunkCols) enterRow(chunk - chunkCols, LOCAL_MASK, up);
+        if (down != 0 && chunk + chunkCols < chunkCount) enterRow(chunk + chunkCols, 0, down);
+    }
+
+    /** Enters a chunk through its right column; bit r of rows is local row r. */
+    private void enterFromRight(int chunk, long rows) {
+        Area area = enter(chunk);
+        if (area == null) return;
+        long bit = 1L << (grid.chunkWidth(chunk) - 1);
+        boolean grew = false;
+        for (long m = rows; m != 0; m &= m - 1) {
+            grew |= seed(area, Long.numberOfTrailingZeros(m), bit);
+        }
+        if (grew) queue(chunk, area);
+    }
+
+    /** Enters a chunk through its left column; bit r of rows is local row r. */
+    private void enterFromLeft(int chunk, long rows) {
+        Area area = enter(chunk);
+        if (area == null) return;
+        boolean grew = false;
+        for (long m = rows; m != 0; m &= m - 1) {
+            grew |= seed(area, Long.numberOfTrailingZeros(m), 1L);
+        }
+        if (grew) queue(chunk, area);
+    }
+
+    /** Enters a chunk through one of its rows; bit c of columns is local column c. */
+    private void enterRow(int chunk, int row, long columns) {
+        Area area = enter(chunk);
+        if (area == null) return;
+        if (seed(area, row, columns)) queue(chunk, area);
+    }
+
+    /**
+     * Marks a neighbor as entered.
+     *
+     * @return its area, or null if it is handled as a whole chunk
+     */
+    private Area enter(int chunk) {
+        if (whole.contains(chunk)) return null;
+        Area area = areas.get(chunk);
+        if (area != null) return area;
+        if (isWhole(chunk)) {
+            // Edges of a whole chunk are open, so any incoming tile fills it.
+            whole.add(chunk);
+            push(chunk);
+            return null;
+        }
+        return area(chunk);
+    }
+
+    /** Adds seed tiles to one row; returns true if it reached a new open tile. */
+    private static boolean seed(Area area, int row, long bits) {
+        long add = bits & area.open[row] & ~area.reached[row];
+        if (add == 0) return false;
+        area.reached[row] |= add;
+        return true;
+    }
+
+    private void queue(int chunk, Area area) {
+        if (area.queued) return;
+        area.queued = true;
+        push(chunk);
+    }
+
+    private boolean isWhole(int chunk) {
+        return grid.isWalkableChunk(chunk) && !blockedRows.containsKey(chunk);
+    }
+
+    private Area area(int chunk) {
+        int height = grid.chunkHeight(chunk);
+        Area area = new Area(height);
+        grid.copyWalkableRows(chunk, area.open);
+        long[] blocked = blockedRows.get(chunk);
+        if (blocked != null) {
+            for (int r = 0; r < height; r++) area.open[r] &= ~blocked[r];
+        }
+        if (grid.chunkIndex(fromKey) == chunk) area.open[localRow(fromKey)] |= localBit(fromKey);
+        areas.put(chunk, area);
+        return area;
+    }
+
+    private void block(int key) {
+        int chunk = grid.chunkIndex(key);
+        long[] rows = blockedRows.get(chunk);
+        if (rows == null) {
+            rows = new long[grid.chunkHeight(chunk)];
+            blockedRows.put(chunk, rows);
+        }
+        rows[localRow(key)] |= localBit(key);
+    }
+
+    /** Drops pending targets inside a processed chunk; returns how many remain. */
+    private int settle(int chunk, int[] pending, int left) {
+        boolean all = whole.contains(chunk);
+        Area area = all ? null : areas.get(chunk);
+        for (int i = 0; i < left; ) {
+            int key = pending[i];
+            if (grid.chunkIndex(key) == chunk && (all || isReached(area, key))) {
+                pending[i] = pending[--left];
+            } else {
+                i++;
+            }
+        }
+        return left;
+    }
+
+    private boolean isReached(Area area, int key) {
+        return (area.reached[localRow(key)] & localBit(key)) != 0;
+    }
+
+    private int localRow(int key) {
+        return (key / cols) & LOCAL_MASK;
+    }
+
+    private long localBit(int key) {
+        return 1L << ((key % cols) & LOCAL_MASK);
+    }
+
+    private void push(int chunk) {
+        if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+        stack[top++] = chunk;
+    }
+}
@@ -0,0 +1,338 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.BitPlane;
+import com.project.team6.model.characters.Player;
+import com.project.team6.model.characters.enemies.Enemy;
+import com.project.team6.model.collectibles.CollectibleObject;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Tile storage split into 64 x 64 chunks for large, mostly empty worlds.
+ * Chunks of a single terrain share one flyweight and mixed chunks keep only
+ * their terrain bytes. A chunk gets full {@link PackedGridStorage} only when
+ * an item, player, or enemy is first written into it.
+ */
+final class ChunkedGridStorage implements GridStorage {
+
+    static final int CHUNK_BITS = 6;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final Cell.Terrain[] TERRAINS = Cell.Terrain.values();
+
+    /** Shared full-size chunks of one terrain, by terrain ordinal. */
+    private static final Chunk[] FLYWEIGHTS = new Chunk[TERRAINS.length];
+    static {
+        for (Cell.Terrain t : TERRAINS) {
+            FLYWEIGHTS[t.ordinal()] = new Chunk(CHUNK_SIZE, CHUNK_SIZE, t, null, null);
+        }
+    }
+
+    /**
+     * One chunk. Exactly one of uniform, terrain, or contents is set.
+     * Chunks are immutable; materializing replaces the chunk in the table.
+     */
+    private static final class Chunk {
+        private final int width;
+        private final int height;
+        private final Cell.Terrain uniform;
+        private final byte[] terrain;
+        private final PackedGridStorage contents;
+
+        private Chunk(int width, int height, Cell.Terrain uniform,
+                      byte[] terrain, PackedGridStorage contents) {
+            this.width = width;
+            this.height = height;
+            this.uniform = uniform;
+            this.terrain = terrain;
+            this.contents = contents;
+        }
+
+        private Cell.Terrain terrain(int local) {
+            if (contents != null) return contents.terrain(local);
+            if (uniform != null) return uniform;
+            return TERRAINS[terrain[local]];
+        }
+
+        private Chunk materialize() {
+            TerrainSource source = new TerrainSource() {
+                @Override public int rows() { return height; }
+
+                @Override public int cols() { return width; }
+
+                @Override
+                public Cell.Terrain terrainAt(int column, int row) {
+                    return Chunk.this.terrain(row * width + column);
+                }
+            };
+            return new Chunk(width, height, null, null, new PackedGridStorage(height, width, source));
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final int chunkCols;
+    private final Chunk[] chunks;
+    /** Walkable tiles per row of mixed chunks, built on demand. */
+    private final long[][] walkableRows;
+    private int materialized;
+
+    /**
+     * Creates storage from a terrain source.
+     * Asks the source for uniform chunks first and scans only mixed ones.
+     *
+     * @param source terrain of the world
+     * @throws ArithmeticException if rows * cols does not fit in an int
+     */
+    ChunkedGridStorage(TerrainSource source) {
+        Objects.requireNonNull(source);
+        this.rows = source.rows();
+        this.cols = source.cols();
+        this.size = Math.multiplyExact(rows, cols);
+        this.chunkCols = (cols + CHUNK_MASK) >>> CHUNK_BITS;
+        int chunkRows = (rows + CHUNK_MASK) >>> CHUNK_BITS;
+        this.chunks = new Chunk[chunkRows * chunkCols];
+        this.walkableRows = new long[chunks.length][];
+
+        for (int chunkRow = 0; chunkRow < chunkRows; chunkRow++) {
+            for (int chunkColumn = 0; chunkColumn < chunkCols; chunkColumn++) {
+                chunks[chunkRow * chunkCols + chunkColumn] =
+                        loadChunk(source, chunkColumn << CHUNK_BITS, chunkRow << CHUNK_BITS);
+            }
+        }
+    }
+
+    /** @return number of chunks */
+    int chunkCount() { return chunks.length; }
+
+    /** @return number of chunks that hold full storage */
+    int materializedChunkCount() { return materialized; }
+
+    /** @return number of chunks per chunk row */
+    int chunkColumns() { return chunkCols; }
+
+    /** @return width of a chunk in tiles */
+    int chunkWidth(int chunk) { return chunks[chunk].width; }
+
+    /** @return height of a chunk in tiles */
+    int chunkHeight(int chunk) { return chunks[chunk].height; }
+
+    /** @return true if every tile of the chunk is walkable */
+    boolean isWalkableChunk(int chunk) {
+        Cell.Terrain uniform = chunks[chunk].uniform;
+        return uniform != null && isWalkable(uniform);
+    }
+
+    /**
+     * Copies the walkable tiles of a chunk into one word per row,
+     * bit c standing for local column c.
+     *
+     * @param chunk chunk index
+     * @param out   receives {@link #chunkHeight} words
+     */
+    void copyWalkableRows(int chunk, long[] out) {
+        Chunk ch = chunks[chunk];
+        int height = ch.height;
+        if (ch.uniform != null) {
+            long row = isWalkable(ch.uniform) ? -1L >>> (64 - ch.width) : 0L;
+            Arrays.fill(out, 0, height, row);
+            return;
+        }
+        long[] rows = walkableRows[chunk];
+        if (rows == null) {
+            rows = new long[height];
+            for (int r = 0; r < height; r++) {
+                for (int c = 0; c < ch.width; c++) {
+                    if (isWalkable(ch.terrain(r * ch.width + c))) rows[r] |= 1L << c;
+                }
+            }
+            walkableRows[chunk] = rows;
+        }
+        System.arraycopy(rows, 0, out, 0, height);
+    }
+
+    @Override public int rows() { return rows; }
+
+    @Override public int cols() { return cols; }
+
+    @Override
+    public Cell.Terrain terrain(int index) {
+        Chunk chunk = chunkOf(index);
+        return chunk.terrain(local(chunk, index));
+    }
+
+    @Override
+    public void setTerrain(int index, Cell.Terrain terrain) {
+        Objects.requireNonNull(terrain);
+        if (terrain(index) == terrain) return;
+        Chunk chunk = writableChunkOf(index);
+        chunk.contents.setTerrain(local(chunk, index), terrain);
+        walkableRows[chunkIndex(index)] = null;
+    }
+
+    @Override
+    public CollectibleObject item(int index) {
+        Chunk chunk = chunkOf(index);
+        return chunk.contents == null ? null : chunk.contents.item(local(chunk, index));
+    }
+
+    @Override
+    public void setItem(int index, CollectibleObject item) {
+        Chunk chunk = item == null ? chunkOf(index) : writableChunkOf(index);
+        if (chunk.contents != null) chunk.contents.setItem(local(chunk, index), item);
+    }
+
+    @Override
+    public Player player(int index) {
+        Chunk chunk = chunkOf(index);
+        return chunk.contents == null ? null : chunk.contents.player(local(chunk, index));
+    }
+
+    @Override
+    public void setPlayer(int index, Player player) {
+        Chunk chunk = player == null ? chunkOf(index) : writableChunkOf(index);
+        if (chunk.contents != null) chunk.contents.setPlayer(local(chunk, index), player);
+    }
+
+    @Override
+    public Enemy enemy(int index) {
+        Chunk chunk = chunkOf(index);
+        return chunk.contents == null ? null : chunk.contents.enemy(local(chunk, index));
+    }
+
+    @Override
+    public void setEnemy(int index, Enemy enemy) {
+        Chunk chunk = enemy == null ? chunkOf(index) : writableChunkOf(index);
+        if (chunk.contents != null) chunk.contents.setEnemy(local(chunk, index), enemy);
+    }
+
+    @Override
+    public boolean hasPlayer(int index) {
+        Chunk chunk = chunkOf(index);
+        return chunk.contents != null && chunk.contents.hasPlayer(local(chunk, index));
+    }
+
+    @Override
+    public boolean hasEnemy(int index) {
+        Chunk chunk = chunkOf(index);
+        return chunk.contents != null && chunk.contents.hasEnemy(local(chunk, index));
+    }
+
+    @Override
+    public int countTerrain(Cell.Terrain terrain) {
+        int count = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.uniform != null) {
+                if (chunk.uniform == terrain) count += chunk.width * chunk.height;
+                continue;
+            }
+            int tiles = chunk.width * chunk.height;
+            for (int local = 0; local < tiles; local++) {
+                if (chunk.terrain(local) == terrain) count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void markWalkable(BitPlane plane) {
+        for (int i = 0; i < chunks.length; i++) {
+            Chunk chunk = chunks[i];
+            int column0 = (i % chunkCols) << CHUNK_BITS;
+            int row0 = (i / chunkCols) << CHUNK_BITS;
+            for (int r = 0; r < chunk.height; r++) {
+                if (chunk.uniform != null) {
+                    if (isWalkable(chunk.uniform)) {
+                        plane.setRange(row0 + r, column0, column0 + chunk.width);
+                    }
+                    continue;
+                }
+                for (int c = 0; c < chunk.width; c++) {
+                    if (isWalkable(chunk.terrain(r * chunk.width + c))) plane.set(column0 + c, row0 + r);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void forEachContentTile(IntConsumer action) {
+        for (int i = 0; i < chunks.length; i++) {
+            Chunk chunk = chunks[i];
+            if (chunk.contents == null) continue;
+            int column0 = (i % chunkCols) << CHUNK_BITS;
+            int row0 = (i / chunkCols) << CHUNK_BITS;
+            for (int r = 0; r < chunk.height; r++) {
+                for (int c = 0; c < chunk.width; c++) {
+                    action.accept((row0 + r) * cols + column0 + c);
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    private static Chunk loadChunk(TerrainSource source, int column0, int row0) {
+        int width = Math.min(CHUNK_SIZE, source.cols() - column0);
+        int height = Math.min(CHUNK_SIZE, source.rows() - row0);
+
+        Cell.Terrain uniform = source.uniformTerrain(column0, row0, width, height);
+        if (uniform != null) return uniformChunk(width, height, uniform);
+
+        byte[] terrain = new byte[width * height];
+        boolean mixed = false;
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                Cell.Terrain t = Objects.requireNonNull(source.terrainAt(column0 + c, row0 + r));
+                terrain[r * width + c] = (byte) t.ordinal();
+                mixed |= terrain[r * width + c] != terrain[0];
+            }
+        }
+        return mixed
+                ? new Chunk(width, height, null, terrain, null)
+                : uniformChunk(width, height, TERRAINS[terrain[0]]);
+    }
+
+    private static Chunk uniformChunk(int width, int height, Cell.Terrain terrain) {
+        if (width == CHUNK_SIZE && height == CHUNK_SIZE) return FLYWEIGHTS[terrain.ordinal()];
+        return new Chunk(width, height, terrain, null, null);
+    }
+
+    static boolean isWalkable(Cell.Terrain t) {
+        return t != Cell.Terrain.WALL && t != Cell.Terrain.BARRIER;
+    }
+
+    /** @return index of the chunk holding a tile */
+    int chunkIndex(int index) {
+        Objects.checkIndex(index, size);
+        int row = index / cols;
+        int column = index - row * cols;
+        return (row >>> CHUNK_BITS) * chunkCols + (column >>> CHUNK_BITS);
+    }
+
+    private Chunk chunkOf(int index) {
+        return chunks[chunkIndex(index)];
+    }
+
+    private Chunk writableChunkOf(int index) {
+        int i = chunkIndex(index);
+        Chunk chunk = chunks[i];
+        if (chunk.contents == null) {
+            chunk = chunk.materialize();
+            chunks[i] = chunk;
+            materialized++;
+        }
+        return chunk;
+    }
+
+    private int local(Chunk chunk, int index) {
+        int row = index / cols;
+        int column = index - row * cols;
+        return (row & CHUNK_MASK) * chunk.width + (column & CHUNK_MASK);
+    }
+}
@@ -0,0 +1,184 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.IntHashMap;
+import com.project.team6.model.collectibles.CollectibleObject;
+import com.project.team6.model.collectibles.Punishment;
+import com.project.team6.model.collectibles.rewards.BonusReward;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Collectibles on a board, keyed by packed cell key.
+ * Each kind keeps a dense array with swap-remove, so add, remove,
+ * lookup, and per-kind counts are all O(1).
+ * Only the board changes it; other packages get read access.
+ */
+public final class CollectibleRegistry {
+
+    /**
+     * Kinds of collectibles tracked separately.
+     */
+    public enum Kind {
+        REGULAR_REWARD, BONUS_REWARD, PUNISHMENT;
+
+        /**
+         * Classifies an item.
+         *
+         * @param item collectible
+         * @return its kind
+         * @throws IllegalArgumentException if the type is not supported
+         */
+        public static Kind of(CollectibleObject item) {
+            if (item instanceof RegularReward) return REGULAR_REWARD;
+            if (item instanceof BonusReward) return BONUS_REWARD;
+            if (item instanceof Punishment) return PUNISHMENT;
+            throw new IllegalArgumentException("Unsupported collectible type: " + item.getClass());
+        }
+    }
+
+    /** One registered item and where it sits in its dense array. */
+    private static final class Entry {
+        private final Kind kind;
+        private final int key;
+        private final CollectibleObject item;
+        private int slot;
+
+        private Entry(Kind kind, int key, CollectibleObject item) {
+            this.kind = kind;
+            this.key = key;
+            this.item = item;
+        }
+    }
+
+    private final IntHashMap<Entry> byKey = new IntHashMap<>();
+    private final Entry[][] dense = new Entry[Kind.values().length][];
+    private final int[] sizes = new int[Kind.values().length];
+
+    /** Creates an empty registry. */
+    CollectibleRegistry() {
+        for (Kind kind : Kind.values()) {
+            dense[kind.ordinal()] = new Entry[16];
+        }
+    }
+
+    /**
+     * Registers an item on a cell.
+     * An item already on that cell is replaced.
+     *
+     * @param key  packed cell key
+     * @param item collectible to add
+     * @throws NullPointerException if item is null
+     */
+    void add(int key, CollectibleObject item) {
+        Objects.requireNonNull(item);
+        remove(key);
+
+        Entry e = new Entry(Kind.of(item), key, item);
+        int k = e.kind.ordinal();
+        if (sizes[k] == dense[k].length) {
+            dense[k] = Arrays.copyOf(dense[k], sizes[k] * 2);
+        }
+        e.slot = sizes[k]++;
+        dense[k][e.slot] = e;
+        byKey.put(key, e);
+    }
+
+    /**
+     * Removes the item on a cell.
+     *
+     * @param key packed cell key
+     * @return removed item or null if the cell had none
+     */
+    CollectibleObject remove(int key) {
+        Entry e = byKey.remove(key);
+        if (e == null) return null;
+
+        int k = e.kind.ordinal();
+        Entry last = dense[k][--sizes[k]];
+        dense[k][e.slot] = last;
+        last.slot = e.slot;
+        dense[k][sizes[k]] = null;
+        return e.item;
+    }
+
+    /**
+     * Gets the item on a cell.
+     *
+     * @param key packed cell key
+     * @return item or null
+     */
+    public CollectibleObject get(int key) {
+        Entry e = byKey.get(key);
+        return e == null ? null : e.item;
+    }
+
+    /**
+     * Counts live items of one kind.
+     *
+     * @param kind kind to count
+     * @return number of items
+     */
+    public int count(Kind kind) {
+        return sizes[kind.ordinal()];
+    }
+
+    /**
+     * Gets the cell key of the i-th item of a kind.
+     * Order is unspecified and changes on removal.
+     *
+     * @param kind kind to read
+     * @param i    index in [0, count(kind))
+     * @return packed cell key
+     */
+    public int keyAt(Kind kind, int i) {
+        Objects.checkIndex(i, sizes[kind.ordinal()]);
+        return dense[kind.ordinal()][i].key;
+    }
+
+    /**
+     * Gets the i-th item of a kind.
+     *
+     * @param kind kind to read
+     * @param i    index in [0, count(kind))
+     * @return item
+     */
+    public CollectibleObject itemAt(Kind kind, int i) {
+        Objects.checkIndex(i, sizes[kind.ordinal()]);
+        return dense[kind.ordinal()][i].item;
+    }
+
+    /**
+     * Streams the cell keys of one kind.
+     * The stream reads the live registry; do not modify it while streaming.
+     *
+     * @param kind kind to stream
+     * @return packed cell keys
+     */
+    public IntStream keys(Kind kind) {
+        Entry[] entries = dense[kind.ordinal()];
+        return IntStream.range(0, sizes[kind.ordinal()]).map(i -> entries[i].key);
+    }
+
+    /**
+     * Returns a live, unmodifiable list view of one kind.
+     *
+     * @param kind kind to view
+     * @return list of items
+     */
+    public List<CollectibleObject> items(Kind kind) {
+        int k = kind.ordinal();
+        return new AbstractList<>() {
+            @Override public CollectibleObject get(int index) {
+                Objects.checkIndex(index, sizes[k]);
+                return dense[k][index].item;
+            }
+
+            @Override public int size() { return sizes[k]; }
+        };
+    }
+}
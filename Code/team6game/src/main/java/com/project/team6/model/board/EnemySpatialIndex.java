@@ -0,0 +1,205 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.IntHashMap;
+import com.project.team6.model.characters.enemies.MovingEnemy;
+
+import java.util.function.Consumer;
+
+/**
+ * Spatial hash of enemies in square buckets of 8 x 8 tiles.
+ * Moves, collision checks, and small radius queries touch a bounded
+ * number of buckets, so their cost does not grow with the enemy count.
+ * Buckets are kept once created, so a steady-state move allocates nothing.
+ */
+final class EnemySpatialIndex {
+
+    static final int BUCKET_BITS = 3;
+    private static final int BUCKET_SIZE = 1 << BUCKET_BITS;
+
+    /**
+     * Enemies of one bucket with their packed keys.
+     * Sized for one enemy per tile up front, so it never grows.
+     */
+    private static final class Bucket {
+        private final MovingEnemy[] enemies = new MovingEnemy[BUCKET_SIZE * BUCKET_SIZE];
+        private final int[] keys = new int[BUCKET_SIZE * BUCKET_SIZE];
+        private int size;
+
+        private void add(MovingEnemy enemy, int key) {
+            enemies[size] = enemy;
+            keys[size++] = key;
+        }
+
+        private void remove(MovingEnemy enemy) {
+            for (int i = 0; i < size; i++) {
+                if (enemies[i] == enemy) {
+                    enemies[i] = enemies[--size];
+                    keys[i] = keys[size];
+                    enemies[size] = null;
+                    return;
+                }
+            }
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int bucketCols;
+    private final int bucketRows;
+    private final IntHashMap<Bucket> buckets = new IntHashMap<>();
+    private int size;
+
+    /**
+     * Creates an empty index for a board size.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    EnemySpatialIndex(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.bucketCols = (cols + BUCKET_SIZE - 1) >>> BUCKET_BITS;
+        this.bucketRows = (rows + BUCKET_SIZE - 1) >>> BUCKET_BITS;
+    }
+
+    /** @return number of indexed enemies */
+    int size() { return size; }
+
+    /**
+     * Adds an enemy at a tile.
+     *
+     * @param enemy enemy to add
+     * @param key   packed key of its tile
+     */
+    void add(MovingEnemy enemy, int key) {
+        bucketFor(key).add(enemy, key);
+        size++;
+    }
+
+    /**
+     * Moves an enemy between tiles.
+     *
+     * @param enemy   enemy that moved
+     * @param fromKey packed key it left
+     * @param toKey   packed key it entered
+     */
+    void move(MovingEnemy enemy, int fromKey, int toKey) {
+        int fromBucket = bucketId(fromKey % cols, fromKey / cols);
+        int toBucket = bucketId(toKey % cols, toKey / cols);
+        Bucket from = buckets.get(fromBucket);
+        if (fromBucket == toBucket) {
+            for (int i = 0; i < from.size; i++) {
+                if (from.enemies[i] == enemy) from.keys[i] = toKey;
+            }
+            return;
+        }
+        from.remove(enemy);
+        bucketFor(toKey).add(enemy, toKey);
+    }
+
+    /**
+     * Finds the enemy on a tile.
+     *
+     * @param key packed key
+     * @return enemy or null
+     */
+    MovingEnemy enemyAt(int key) {
+        Bucket b = buckets.get(bucketId(key % cols, key / cols));
+        if (b == null) return null;
+        for (int i = 0; i < b.size; i++) {
+            if (b.keys[i] == key) return b.enemies[i];
+        }
+        return null;
+    }
+
+    /**
+     * Visits enemies within a Chebyshev radius of a tile.
+     *
+     * @param column center column
+     * @param row    center row
+     * @param radius maximum distance in tiles, at least 0
+     * @param action receives each enemy in range
+     */
+    void forEachWithin(int column, int row, int radius, Consumer<? super MovingEnemy> action) {
+        if (size == 0) return;
+        int minBucketColumn = Math.max(0, column - radius) >> BUCKET_BITS;
+        int maxBucketColumn = Math.min(cols - 1, column + radius) >> BUCKET_BITS;
+        int minBucketRow = Math.max(0, row - radius) >> BUCKET_BITS;
+        int maxBucketRow = Math.min(rows - 1, row + radius) >> BUCKET_BITS;
+
+        for (int br = minBucketRow; br <= maxBucketRow; br++) {
+            for (int bc = minBucketColumn; bc <= maxBucketColumn; bc++) {
+                Bucket b = buckets.get(br * bucketCols + bc);
+                if (b == null) continue;
+                for (int i = 0; i < b.size; i++) {
+                    int key = b.keys[i];
+                    if (Math.abs(key % cols - column) <= radius
+                            && Math.abs(key / cols - row) <= radius) {
+                        action.accept(b.enemies[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the enemy with the smallest Chebyshev distance to a tile.
+     * Searches rings of buckets outward and stops once no closer ring can win.
+     * Ties go to the first enemy found.
+     *
+     * @param column center column
+     * @param row    center row
+     * @return nearest enemy or null if there are none
+     */
+    MovingEnemy nearest(int column, int row) {
+        if (size == 0) return null;
+        int centerColumn = column >> BUCKET_BITS;
+        int centerRow = row >> BUCKET_BITS;
+        int maxRing = Math.max(Math.max(centerColumn, bucketCols - 1 - centerColumn),
+                Math.max(centerRow, bucketRows - 1 - centerRow));
+
+        MovingEnemy best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int br = centerRow - ring; br <= centerRow + ring; br++) {
+                if (br < 0 || br >= bucketRows) continue;
+                boolean edgeRow = br == centerRow - ring || br == centerRow + ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int bc = centerColumn - ring; bc <= centerColumn + ring; bc += step) {
+                    if (bc < 0 || bc >= bucketCols) continue;
+                    Bucket b = buckets.get(br * bucketCols + bc);
+                    if (b == null) continue;
+                    for (int i = 0; i < b.size; i++) {
+                        int key = b.keys[i];
+                        int d = Math.max(Math.abs(key % cols - column), Math.abs(key / cols - row));
+                        if (d < bestDistance) {
+                            bestDistance = d;
+                            best = b.enemies[i];
+                        }
+                    }
+                }
+            }
+            // Tiles in the next ring are at least ring * BUCKET_SIZE + 1 away.
+            if (best != null && bestDistance <= ring * BUCKET_SIZE) break;
+        }
+        return best;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    private int bucketId(int column, int row) {
+        return (row >> BUCKET_BITS) * bucketCols + (column >> BUCKET_BITS);
+    }
+
+    private Bucket bucketFor(int key) {
+        int id = bucketId(key % cols, key / cols);
+        Bucket b = buckets.get(id);
+        if (b == null) {
+            b = new Bucket();
+            buckets.put(id, b);
+        }
+        return b;
+    }
+}
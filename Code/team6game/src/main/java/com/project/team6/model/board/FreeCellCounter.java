@@ -0,0 +1,92 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.IntHashSet;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Free cell tracking for sparse storage: a count instead of a dense index.
+ * Membership is read from the storage and sampling uses rejection over the
+ * whole key range, so memory stays O(1) however large the board is.
+ */
+final class FreeCellCounter implements FreeCells {
+
+    /** Rejection sampling is used while free cells are at least 1/8 of the board. */
+    private static final int MAX_REJECTION_RATIO = 8;
+
+    private final GridStorage storage;
+    private final int capacity;
+    private int size;
+
+    /**
+     * Creates a counter over a storage.
+     *
+     * @param storage storage to read
+     * @param size    number of free cells right now
+     */
+    FreeCellCounter(GridStorage storage, int size) {
+        this.storage = storage;
+        this.capacity = storage.rows() * storage.cols();
+        this.size = size;
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean contains(int key) {
+        return storage.terrain(key) == Cell.Terrain.FLOOR
+                && storage.item(key) == null
+                && !storage.hasPlayer(key)
+                && !storage.hasEnemy(key);
+    }
+
+    @Override
+    public void set(int key, boolean free) {
+        size += free ? 1 : -1;
+    }
+
+    /** Scans the board in row-major order; O(rows * cols). */
+    @Override
+    public int[] toArray() {
+        int[] out = new int[size];
+        int n = 0;
+        for (int key = 0; key < capacity && n < size; key++) {
+            if (contains(key)) out[n++] = key;
+        }
+        return out;
+    }
+
+    /**
+     * Draws keys by rejection while free cells are common.
+     * Falls back to a full scan when they are rare or most of them are wanted.
+     */
+    @Override
+    public int[] sample(int count, Random random) {
+        int k = Math.min(count, size);
+        if ((long) size * MAX_REJECTION_RATIO < capacity || k > size / 2) {
+            return sampleFromScan(k, random);
+        }
+
+        int[] out = new int[k];
+        IntHashSet chosen = new IntHashSet(k);
+        int n = 0;
+        while (n < k) {
+            int key = random.nextInt(capacity);
+            if (contains(key) && chosen.add(key)) out[n++] = key;
+        }
+        return out;
+    }
+
+    private int[] sampleFromScan(int k, Random random) {
+        int[] all = toArray();
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(all.length - i);
+            int tmp = all[i];
+            all[i] = all[j];
+            all[j] = tmp;
+        }
+        return Arrays.copyOf(all, k);
+    }
+}
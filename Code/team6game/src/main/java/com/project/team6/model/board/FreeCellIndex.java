@@ -0,0 +1,80 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.IntHashSet;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Set of free floor keys with O(1) add, remove, and uniform sampling.
+ * Keys live in a dense array; a reverse array maps each key to its slot.
+ */
+final class FreeCellIndex implements FreeCells {
+
+    private final int[] dense;
+    private final int[] slotOf;
+    private int size;
+
+    /**
+     * Creates an empty index for a key range.
+     *
+     * @param capacity number of tiles on the board
+     */
+    FreeCellIndex(int capacity) {
+        this.dense = new int[capacity];
+        this.slotOf = new int[capacity];
+        Arrays.fill(slotOf, -1);
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean contains(int key) {
+        return slotOf[key] >= 0;
+    }
+
+    @Override
+    public void set(int key, boolean free) {
+        if (free) add(key); else remove(key);
+    }
+
+    private void add(int key) {
+        if (slotOf[key] >= 0) return;
+        dense[size] = key;
+        slotOf[key] = size++;
+    }
+
+    private void remove(int key) {
+        int slot = slotOf[key];
+        if (slot < 0) return;
+        int last = dense[--size];
+        dense[slot] = last;
+        slotOf[last] = slot;
+        slotOf[key] = -1;
+    }
+
+    /** Order follows the index, not the board. */
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(dense, size);
+    }
+
+    /** Uses Floyd's algorithm, so the cost is O(count) whatever the board size. */
+    @Override
+    public int[] sample(int count, Random random) {
+        int k = Math.min(count, size);
+        int[] out = new int[k];
+        IntHashSet chosen = new IntHashSet(k);
+        int n = 0;
+        for (int j = size - k; j < size; j++) {
+            int slot = random.nextInt(j + 1);
+            if (!chosen.add(slot)) {
+                slot = j;
+                chosen.add(slot);
+            }
+            out[n++] = dense[slot];
+        }
+        return out;
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.team6.model.board;
+
+import java.util.Random;
+
+/**
+ * Free floor cells of a board: FLOOR tiles with no item, player, or enemy.
+ * Kept up to date by {@link IndexedGridStorage}.
+ */
+interface FreeCells {
+
+    /** @return number of free cells */
+    int size();
+
+    /**
+     * Checks if a key is free.
+     *
+     * @param key packed key
+     * @return true if free
+     */
+    boolean contains(int key);
+
+    /**
+     * Records that a key became free or stopped being free.
+     * Only called when the state actually changes.
+     *
+     * @param key  packed key
+     * @param free new state
+     */
+    void set(int key, boolean free);
+
+    /**
+     * Copies all free keys.
+     *
+     * @return new array of keys
+     */
+    int[] toArray();
+
+    /**
+     * Draws distinct free keys uniformly at random.
+     *
+     * @param count  how many keys to draw, capped at size()
+     * @param random random source
+     * @return drawn keys
+     */
+    int[] sample(int count, Random random);
+}
@@ -0,0 +1,145 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.BitPlane;
+import com.project.team6.model.characters.Player;
+import com.project.team6.model.characters.enemies.Enemy;
+import com.project.team6.model.collectibles.CollectibleObject;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Backing store for the tiles of a board.
+ * Tiles are addressed by a flat index of {@code row * cols + column}.
+ * {@link Cell} is only a view over one index of a storage.
+ */
+interface GridStorage {
+
+    /** @return number of rows */
+    int rows();
+
+    /** @return number of columns */
+    int cols();
+
+    /**
+     * Gets the terrain of a tile.
+     *
+     * @param index flat tile index
+     * @return terrain enum
+     */
+    Cell.Terrain terrain(int index);
+
+    /**
+     * Replaces the terrain of a tile.
+     *
+     * @param index   flat tile index
+     * @param terrain new terrain
+     */
+    void setTerrain(int index, Cell.Terrain terrain);
+
+    /**
+     * Gets the item on a tile.
+     *
+     * @param index flat tile index
+     * @return item or null
+     */
+    CollectibleObject item(int index);
+
+    /**
+     * Sets or clears the item on a tile.
+     *
+     * @param index flat tile index
+     * @param item  item to place, or null to clear
+     */
+    void setItem(int index, CollectibleObject item);
+
+    /**
+     * Gets the player on a tile.
+     *
+     * @param index flat tile index
+     * @return player or null
+     */
+    Player player(int index);
+
+    /**
+     * Sets or clears the player on a tile.
+     *
+     * @param index  flat tile index
+     * @param player player, or null to clear
+     */
+    void setPlayer(int index, Player player);
+
+    /**
+     * Gets the enemy on a tile.
+     *
+     * @param index flat tile index
+     * @return enemy or null
+     */
+    Enemy enemy(int index);
+
+    /**
+     * Sets or clears the enemy on a tile.
+     *
+     * @param index flat tile index
+     * @param enemy enemy, or null to clear
+     */
+    void setEnemy(int index, Enemy enemy);
+
+    /**
+     * Checks if a player stands on a tile.
+     *
+     * @param index flat tile index
+     * @return true if a player is here
+     */
+    boolean hasPlayer(int index);
+
+    /**
+     * Checks if an enemy stands on a tile.
+     *
+     * @param index flat tile index
+     * @return true if an enemy is here
+     */
+    boolean hasEnemy(int index);
+
+    /**
+     * Counts tiles with a given terrain.
+     * The default scans every tile.
+     *
+     * @param terrain terrain to count
+     * @return number of tiles
+     */
+    default int countTerrain(Cell.Terrain terrain) {
+        int size = rows() * cols();
+        int count = 0;
+        for (int index = 0; index < size; index++) {
+            if (terrain(index) == terrain) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Sets the bits of walkable tiles (floor, start, exit) in a plane.
+     * The default scans every tile.
+     *
+     * @param plane plane of the same size; bits are only set, never cleared
+     */
+    default void markWalkable(BitPlane plane) {
+        int size = rows() * cols();
+        for (int index = 0; index < size; index++) {
+            Cell.Terrain t = terrain(index);
+            if (t != Cell.Terrain.WALL && t != Cell.Terrain.BARRIER) plane.set(index);
+        }
+    }
+
+    /**
+     * Visits every tile that may hold an item, player, or enemy.
+     * The default visits all tiles; sparse storages skip areas never written.
+     *
+     * @param action receives flat tile indexes
+     */
+    default void forEachContentTile(IntConsumer action) {
+        int size = rows() * cols();
+        for (int index = 0; index < size; index++) {
+            action.accept(index);
+        }
+    }
+}
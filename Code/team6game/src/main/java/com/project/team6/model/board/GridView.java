@@ -0,0 +1,98 @@
+package com.project.team6.model.board;
+
+/**
+ * Read-only, zero-copy view of a board grid.
+ * Tiles are addressed by the packed key {@code row * cols + column}
+ * used by {@link PositionTable}. Every accessor is bounds checked.
+ */
+public interface GridView {
+
+    /**
+     * Receives one tile during {@link #forEachCell}.
+     */
+    @FunctionalInterface
+    interface CellVisitor {
+        /**
+         * Visits one tile.
+         *
+         * @param index    packed key of the tile
+         * @param terrain  terrain of the tile
+         * @param hasItem  true if an item lies here
+         * @param occupied true if a player or enemy stands here
+         */
+        void visit(int index, Cell.Terrain terrain, boolean hasItem, boolean occupied);
+    }
+
+    /** @return number of rows */
+    int rows();
+
+    /** @return number of columns */
+    int cols();
+
+    /** @return number of tiles */
+    default int size() { return rows() * cols(); }
+
+    /**
+     * Gets the terrain of a tile.
+     *
+     * @param index packed key
+     * @return terrain enum
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    Cell.Terrain terrainAt(int index);
+
+    /**
+     * Checks if the terrain of a tile can be walked on.
+     *
+     * @param index packed key
+     * @return true for floor, start, or exit
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    boolean isWalkable(int index);
+
+    /**
+     * Checks if an item lies on a tile.
+     *
+     * @param index packed key
+     * @return true if an item is present
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    boolean hasItem(int index);
+
+    /**
+     * Checks if a player stands on a tile.
+     *
+     * @param index packed key
+     * @return true if a player is present
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    boolean hasPlayer(int index);
+
+    /**
+     * Checks if an enemy stands on a tile.
+     *
+     * @param index packed key
+     * @return true if an enemy is present
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    boolean hasEnemy(int index);
+
+    /**
+     * Checks if a tile is free floor: FLOOR terrain with no item, player, or enemy.
+     *
+     * @param index packed key
+     * @return true if free
+     * @throws IndexOutOfBoundsException if index is outside the grid
+     */
+    default boolean isFreeFloor(int index) {
+        return terrainAt(index) == Cell.Terrain.FLOOR
+                && !hasItem(index) && !hasPlayer(index) && !hasEnemy(index);
+    }
+
+    /**
+     * Visits every tile in row-major order.
+     *
+     * @param visitor callback for each tile
+     */
+    void forEachCell(CellVisitor visitor);
+}
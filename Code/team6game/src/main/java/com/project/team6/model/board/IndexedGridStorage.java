@@ -0,0 +1,227 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.BitPlane;
+import com.project.team6.model.characters.Player;
+import com.project.team6.model.characters.enemies.Enemy;
+import com.project.team6.model.collectibles.CollectibleObject;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Storage decorator that keeps derived indexes in step with every write:
+ * the free cells, bit planes for walkable terrain, items, and enemies,
+ * per-region item counts, the set of snapshot chunks changed since the
+ * last snapshot, and a count of terrain changes.
+ * Writes through board methods and through cell views are both covered.
+ * <p>
+ * In dense mode everything is built up front. In sparse mode free cells are
+ * only counted and each plane is built on first use, so a huge board costs
+ * nothing until someone asks for a whole-board view.
+ */
+final class IndexedGridStorage implements GridStorage {
+
+    private final GridStorage delegate;
+    private final FreeCells freeCells;
+    private BitPlane walkable;
+    private BitPlane items;
+    private BitPlane enemies;
+
+    /** Item counts per region; built on first request. */
+    private RegionCounts regions;
+
+    /** Snapshot chunks written since the last {@link #clearSnapshotDirty()}, one bit each. */
+    private final long[] snapshotDirty;
+
+    /** Number of terrain writes that changed a tile. */
+    private long terrainChanges;
+
+    /**
+     * Wraps a storage and fills the indexes from its current content.
+     *
+     * @param delegate storage to wrap
+     * @param sparse   true to count free cells and build planes lazily
+     */
+    IndexedGridStorage(GridStorage delegate, boolean sparse) {
+        this.delegate = delegate;
+        int rows = delegate.rows();
+        int cols = delegate.cols();
+        this.snapshotDirty = new long[(BoardSnapshot.chunkCount(rows, cols) + 63) >>> 6];
+
+        if (sparse) {
+            int[] free = { delegate.countTerrain(Cell.Terrain.FLOOR) };
+            delegate.forEachContentTile(index -> {
+                if (delegate.terrain(index) == Cell.Terrain.FLOOR && !isFree(index)) free[0]--;
+            });
+            this.freeCells = new FreeCellCounter(delegate, free[0]);
+            return;
+        }
+
+        this.freeCells = new FreeCellIndex(rows * cols);
+        this.walkable = new BitPlane(rows, cols);
+        this.items = new BitPlane(rows, cols);
+        this.enemies = new BitPlane(rows, cols);
+        delegate.markWalkable(walkable);
+
+        int size = rows * cols;
+        for (int index = 0; index < size; index++) {
+            if (delegate.item(index) != null) items.set(index);
+            if (delegate.hasEnemy(index)) enemies.set(index);
+            if (isFree(index)) freeCells.set(index, true);
+        }
+    }
+
+    /** @return the maintained free cells */
+    FreeCells freeCells() { return freeCells; }
+
+    /** @return wrapped storage */
+    GridStorage delegate() { return delegate; }
+
+    /** @return true once the walkable plane exists */
+    boolean hasWalkablePlane() { return walkable != null; }
+
+    /** @return plane of walkable terrain */
+    BitPlane walkablePlane() {
+        if (walkable == null) {
+            walkable = new BitPlane(rows(), cols());
+            delegate.markWalkable(walkable);
+        }
+        return walkable;
+    }
+
+    /** @return plane of tiles holding an item */
+    BitPlane itemPlane() {
+        if (items == null) {
+            BitPlane plane = new BitPlane(rows(), cols());
+            delegate.forEachContentTile(index -> {
+                if (delegate.item(index) != null) plane.set(index);
+            });
+            items = plane;
+        }
+        return items;
+    }
+
+    /** @return plane of tiles holding an enemy */
+    BitPlane enemyPlane() {
+        if (enemies == null) {
+            BitPlane plane = new BitPlane(rows(), cols());
+            delegate.forEachContentTile(index -> {
+                if (delegate.hasEnemy(index)) plane.set(index);
+            });
+            enemies = plane;
+        }
+        return enemies;
+    }
+
+    /**
+     * Returns item counts per region, rebuilding them if the size changed.
+     *
+     * @param regionSize side of one region in tiles
+     * @return live region counts
+     */
+    RegionCounts regionCounts(int regionSize) {
+        if (regions == null || regions.regionSize() != regionSize) {
+            RegionCounts counts = new RegionCounts(rows(), cols(), regionSize);
+            delegate.forEachContentTile(index -> {
+                if (delegate.item(index) != null) counts.adjust(index, 1);
+            });
+            regions = counts;
+        }
+        return regions;
+    }
+
+    /**
+     * Checks if a snapshot chunk was written since the last clear.
+     *
+     * @param chunk snapshot chunk number
+     * @return true if it changed
+     */
+    boolean isSnapshotDirty(int chunk) {
+        return (snapshotDirty[chunk >>> 6] & (1L << chunk)) != 0;
+    }
+
+    /** @return number of terrain writes that changed a tile */
+    long terrainChanges() { return terrainChanges; }
+
+    /** Marks every snapshot chunk as clean. */
+    void clearSnapshotDirty() {
+        Arrays.fill(snapshotDirty, 0L);
+    }
+
+    @Override public int rows() { return delegate.rows(); }
+
+    @Override public int cols() { return delegate.cols(); }
+
+    @Override public Cell.Terrain terrain(int index) { return delegate.terrain(index); }
+
+    @Override
+    public void setTerrain(int index, Cell.Terrain terrain) {
+        if (delegate.terrain(index) == terrain) return;
+        boolean wasFree = isFree(index);
+        delegate.setTerrain(index, terrain);
+        if (walkable != null) {
+            walkable.set(index, terrain != Cell.Terrain.WALL && terrain != Cell.Terrain.BARRIER);
+        }
+        terrainChanges++;
+        refresh(index, wasFree);
+    }
+
+    @Override public CollectibleObject item(int index) { return delegate.item(index); }
+
+    @Override
+    public void setItem(int index, CollectibleObject item) {
+        boolean wasFree = isFree(index);
+        boolean had = delegate.item(index) != null;
+        delegate.setItem(index, item);
+        if (items != null) items.set(index, item != null);
+        if (regions != null && had != (item != null)) regions.adjust(index, had ? -1 : 1);
+        refresh(index, wasFree);
+    }
+
+    @Override public Player player(int index) { return delegate.player(index); }
+
+    @Override
+    public void setPlayer(int index, Player player) {
+        boolean wasFree = isFree(index);
+        delegate.setPlayer(index, player);
+        refresh(index, wasFree);
+    }
+
+    @Override public Enemy enemy(int index) { return delegate.enemy(index); }
+
+    @Override
+    public void setEnemy(int index, Enemy enemy) {
+        boolean wasFree = isFree(index);
+        delegate.setEnemy(index, enemy);
+        if (enemies != null) enemies.set(index, enemy != null);
+        refresh(index, wasFree);
+    }
+
+    @Override public boolean hasPlayer(int index) { return delegate.hasPlayer(index); }
+
+    @Override public boolean hasEnemy(int index) { return delegate.hasEnemy(index); }
+
+    @Override public int countTerrain(Cell.Terrain terrain) { return delegate.countTerrain(terrain); }
+
+    @Override public void markWalkable(BitPlane plane) { delegate.markWalkable(plane); }
+
+    @Override
+    public void forEachContentTile(IntConsumer action) {
+        delegate.forEachContentTile(action);
+    }
+
+    private boolean isFree(int index) {
+        return delegate.terrain(index) == Cell.Terrain.FLOOR
+                && delegate.item(index) == null
+                && !delegate.hasPlayer(index)
+                && !delegate.hasEnemy(index);
+    }
+
+    private void refresh(int index, boolean wasFree) {
+        int chunk = BoardSnapshot.chunkOf(index, delegate.cols());
+        snapshotDirty[chunk >>> 6] |= 1L << chunk;
+
+        boolean free = isFree(index);
+        if (free != wasFree) freeCells.set(index, free);
+    }
+}
@@ -0,0 +1,208 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.IntHashMap;
+import com.project.team6.model.characters.Player;
+import com.project.team6.model.characters.enemies.Enemy;
+import com.project.team6.model.collectibles.CollectibleObject;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Struct-of-arrays tile storage.
+ * Terrain is one byte per tile, items are int handles into a slot table,
+ * and occupancy is kept in bitsets. Occupant objects are only stored for
+ * tiles that actually hold one, so an empty tile costs about five bytes.
+ */
+final class PackedGridStorage implements GridStorage {
+
+    private static final Cell.Terrain[] TERRAINS = Cell.Terrain.values();
+
+    private final int rows;
+    private final int cols;
+
+    /** Terrain ordinal per tile. */
+    private final byte[] terrain;
+
+    /** Item handle per tile. 0 means no item, otherwise slot + 1. */
+    private final int[] itemHandles;
+
+    /** Item objects by slot. Slots are reused through the free stack. */
+    private CollectibleObject[] items = new CollectibleObject[16];
+    private int itemSlotsUsed = 0;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount = 0;
+
+    /** Occupancy bits, one per tile. */
+    private final long[] playerBits;
+    private final long[] enemyBits;
+
+    /** Occupant objects for the set bits. */
+    private final IntHashMap<Player> players = new IntHashMap<>();
+    private final IntHashMap<Enemy> enemies = new IntHashMap<>();
+
+    /**
+     * Creates storage from a terrain grid.
+     *
+     * @param rows    number of rows
+     * @param cols    number of columns
+     * @param terrain terrain grid, indexed [row][column]
+     * @throws NullPointerException if terrain or one of its tiles is null
+     */
+    PackedGridStorage(int rows, int cols, Cell.Terrain[][] terrain) {
+        this(rows, cols, TerrainSource.of(terrain));
+    }
+
+    /**
+     * Creates storage from a terrain source.
+     *
+     * @param rows    number of rows
+     * @param cols    number of columns
+     * @param terrain terrain source covering at least rows x cols
+     * @throws NullPointerException if terrain or one of its tiles is null
+     */
+    PackedGridStorage(int rows, int cols, TerrainSource terrain) {
+        Objects.requireNonNull(terrain);
+        this.rows = rows;
+        this.cols = cols;
+
+        int size = Math.multiplyExact(rows, cols);
+        this.terrain = new byte[size];
+        this.itemHandles = new int[size];
+        this.playerBits = new long[(size + 63) >>> 6];
+        this.enemyBits = new long[(size + 63) >>> 6];
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < cols; column++) {
+                this.terrain[row * cols + column] =
+                        (byte) Objects.requireNonNull(terrain.terrainAt(column, row)).ordinal();
+            }
+        }
+    }
+
+    /**
+     * Creates storage for a single tile.
+     * Used by standalone cells.
+     *
+     * @param terrain terrain of the tile
+     */
+    PackedGridStorage(Cell.Terrain terrain) {
+        this(1, 1, new Cell.Terrain[][] { { terrain } });
+    }
+
+    @Override public int rows() { return rows; }
+
+    @Override public int cols() { return cols; }
+
+    @Override
+    public Cell.Terrain terrain(int index) {
+        return TERRAINS[terrain[index]];
+    }
+
+    @Override
+    public void setTerrain(int index, Cell.Terrain terrain) {
+        this.terrain[index] = (byte) terrain.ordinal();
+    }
+
+    @Override
+    public CollectibleObject item(int index) {
+        int handle = itemHandles[index];
+        return handle == 0 ? null : items[handle - 1];
+    }
+
+    @Override
+    public void setItem(int index, CollectibleObject item) {
+        int handle = itemHandles[index];
+        if (handle != 0) {
+            releaseSlot(handle - 1);
+            itemHandles[index] = 0;
+        }
+        if (item != null) {
+            itemHandles[index] = acquireSlot(item) + 1;
+        }
+    }
+
+    @Override
+    public Player player(int index) {
+        return hasPlayer(index) ? players.get(index) : null;
+    }
+
+    @Override
+    public void setPlayer(int index, Player player) {
+        if (player == null) {
+            clearBit(playerBits, index);
+            players.remove(index);
+        } else {
+            setBit(playerBits, index);
+            players.put(index, player);
+        }
+    }
+
+    @Override
+    public Enemy enemy(int index) {
+        return hasEnemy(index) ? enemies.get(index) : null;
+    }
+
+    @Override
+    public void setEnemy(int index, Enemy enemy) {
+        if (enemy == null) {
+            clearBit(enemyBits, index);
+            enemies.remove(index);
+        } else {
+            setBit(enemyBits, index);
+            enemies.put(index, enemy);
+        }
+    }
+
+    @Override
+    public boolean hasPlayer(int index) {
+        checkIndex(index);
+        return (playerBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean hasEnemy(int index) {
+        checkIndex(index);
+        return (enemyBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    private int acquireSlot(CollectibleObject item) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (itemSlotsUsed == items.length) {
+                items = Arrays.copyOf(items, items.length * 2);
+            }
+            slot = itemSlotsUsed++;
+        }
+        items[slot] = item;
+        return slot;
+    }
+
+    private void releaseSlot(int slot) {
+        items[slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private void checkIndex(int index) {
+        Objects.checkIndex(index, terrain.length);
+    }
+
+    private void setBit(long[] bits, int index) {
+        checkIndex(index);
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private void clearBit(long[] bits, int index) {
+        checkIndex(index);
+        bits[index >>> 6] &= ~(1L << index);
+    }
+}
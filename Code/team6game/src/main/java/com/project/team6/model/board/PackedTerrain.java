@@ -0,0 +1,109 @@
+package com.project.team6.model.board;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Terrain stored as 2-bit codes, four tiles per byte, low bits first.
+ * Codes are floor, wall, and barrier; start and exit are kept as positions
+ * and read as floor in the codes. Either position may be null, in which
+ * case that tile reads as its code. The bytes may live in a memory-mapped
+ * file, so a map can be read without copying it onto the heap.
+ */
+public final class PackedTerrain implements TerrainSource {
+
+    /** Code of each terrain in the packed bytes; start and exit pack as floor. */
+    public static final int FLOOR = 0;
+    public static final int WALL = 1;
+    public static final int BARRIER = 2;
+
+    private final int rows;
+    private final int cols;
+    private final Position start;
+    private final Position exit;
+    private final ByteBuffer cells;
+    private final int offset;
+
+    /**
+     * Wraps packed codes. The buffer is not copied and must not change.
+     *
+     * @param rows   number of rows
+     * @param cols   number of columns
+     * @param start  start position, may be null
+     * @param exit   exit position, may be null
+     * @param cells  buffer holding the codes
+     * @param offset index of the first code byte in the buffer
+     * @throws IllegalArgumentException if the buffer is too short
+     */
+    public PackedTerrain(int rows, int cols, Position start, Position exit, ByteBuffer cells, int offset) {
+        this.rows = rows;
+        this.cols = cols;
+        this.start = start;
+        this.exit = exit;
+        this.cells = Objects.requireNonNull(cells);
+        this.offset = offset;
+        if ((long) offset + packedLength(rows, cols) > cells.limit()) {
+            throw new IllegalArgumentException("Terrain data is truncated");
+        }
+    }
+
+    /**
+     * Returns how many bytes the codes of a grid take.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return packed length in bytes
+     */
+    public static int packedLength(int rows, int cols) {
+        return (int) (((long) rows * cols + 3) >>> 2);
+    }
+
+    /**
+     * Maps a terrain to its code.
+     *
+     * @param terrain terrain
+     * @return code; START and EXIT map to FLOOR
+     */
+    public static int code(Cell.Terrain terrain) {
+        return switch (terrain) {
+            case WALL -> WALL;
+            case BARRIER -> BARRIER;
+            default -> FLOOR;
+        };
+    }
+
+    /** @return start position, or null */
+    public Position start() { return start; }
+
+    /** @return exit position, or null */
+    public Position exit() { return exit; }
+
+    /**
+     * Returns a view of the same codes with other start and exit positions.
+     *
+     * @param newStart start position, may be null
+     * @param newExit  exit position, may be null
+     * @return new terrain sharing this buffer
+     */
+    public PackedTerrain withStartExit(Position newStart, Position newExit) {
+        return new PackedTerrain(rows, cols, newStart, newExit, cells, offset);
+    }
+
+    @Override public int rows() { return rows; }
+
+    @Override public int cols() { return cols; }
+
+    @Override
+    public Cell.Terrain terrainAt(int column, int row) {
+        if (start != null && column == start.column() && row == start.row()) return Cell.Terrain.START;
+        if (exit != null && column == exit.column() && row == exit.row()) return Cell.Terrain.EXIT;
+
+        int index = row * cols + column;
+        int code = (cells.get(offset + (index >>> 2)) >>> ((index & 3) << 1)) & 3;
+        return switch (code) {
+            case WALL -> Cell.Terrain.WALL;
+            case BARRIER -> Cell.Terrain.BARRIER;
+            default -> Cell.Terrain.FLOOR;
+        };
+    }
+}
@@ -5,6 +5,7 @@ import java.util.*;
 /**
  * Immutable integer grid coordinate.
  * Safe to use as a key in maps and sets.
+ * Boards hand out one shared instance per tile through {@link PositionTable}.
  */
 public final class Position {
     private final int column;
@@ -44,6 +45,13 @@ public final class Position {
         return column == p.column && row == p.row;
     }
 
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return hash of column and row
+     */
+    @Override public int hashCode() { return 31 * column + row; }
+
     /**
      * Returns a short string form.
      *
@@ -0,0 +1,140 @@
+package com.project.team6.model.board;
+
+import java.util.Objects;
+
+/**
+ * Interned positions for one board size.
+ * Every tile maps to a packed int key of {@code row * cols + column}
+ * and to a single shared {@link Position} instance.
+ * Instances are created lazily in pages, so unused areas cost nothing.
+ */
+public final class PositionTable {
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+    private final int rows;
+    private final int cols;
+    private final Position[][] pages;
+
+    /**
+     * Creates a table for a board size.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @throws ArithmeticException if rows * cols does not fit in an int
+     */
+    public PositionTable(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        int size = Math.multiplyExact(rows, cols);
+        this.pages = new Position[(size + PAGE_SIZE - 1) >>> PAGE_BITS][];
+    }
+
+    /** @return number of rows */
+    public int rows() { return rows; }
+
+    /** @return number of columns */
+    public int cols() { return cols; }
+
+    /** @return number of tiles, which is also the key range */
+    public int size() { return rows * cols; }
+
+    /**
+     * Packs a coordinate into a key.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return {@code row * cols + column}
+     */
+    public int key(int column, int row) {
+        return row * cols + column;
+    }
+
+    /**
+     * Packs a position into a key.
+     *
+     * @param p position inside the board
+     * @return packed key
+     * @throws IndexOutOfBoundsException if p is outside the board
+     */
+    public int key(Position p) {
+        Objects.checkIndex(p.column(), cols);
+        Objects.checkIndex(p.row(), rows);
+        return key(p.column(), p.row());
+    }
+
+    /**
+     * Unpacks the column of a key.
+     *
+     * @param key packed key
+     * @return column index
+     */
+    public int column(int key) { return key % cols; }
+
+    /**
+     * Unpacks the row of a key.
+     *
+     * @param key packed key
+     * @return row index
+     */
+    public int row(int key) { return key / cols; }
+
+    /**
+     * Checks if a coordinate is inside the board.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return true if inside
+     */
+    public boolean contains(int column, int row) {
+        return column >= 0 && column < cols && row >= 0 && row < rows;
+    }
+
+    /**
+     * Returns the shared position for a key.
+     *
+     * @param key packed key
+     * @return interned position
+     * @throws IndexOutOfBoundsException if the key is outside the board
+     */
+    public Position at(int key) {
+        Objects.checkIndex(key, size());
+        Position[] page = pages[key >>> PAGE_BITS];
+        if (page == null) {
+            page = new Position[PAGE_SIZE];
+            pages[key >>> PAGE_BITS] = page;
+        }
+        int slot = key & (PAGE_SIZE - 1);
+        Position p = page[slot];
+        if (p == null) {
+            p = new Position(column(key), row(key));
+            page[slot] = p;
+        }
+        return p;
+    }
+
+    /**
+     * Returns the shared position for a coordinate.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return interned position
+     * @throws IndexOutOfBoundsException if the coordinate is outside the board
+     */
+    public Position at(int column, int row) {
+        Objects.checkIndex(column, cols);
+        Objects.checkIndex(row, rows);
+        return at(key(column, row));
+    }
+
+    /**
+     * Returns the shared instance equal to a position.
+     *
+     * @param p any position inside the board
+     * @return interned position
+     */
+    public Position intern(Position p) {
+        return at(key(p));
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.BfsWorkspace;
+import com.project.team6.model.board.utilities.BitPlane;
+
+import java.util.Arrays;
+
+/**
+ * Connected-component labels of a board's walkable terrain.
+ * Labels are rebuilt in O(cells) only when {@link Board#modificationCount()}
+ * has moved since the last query; every other query is O(1).
+ * Each board owns one, so the labels go away with the board.
+ * Not thread-safe.
+ */
+public final class ReachabilityCache {
+    private final Board board;
+    private final int cols;
+    private int[] labels;
+    private long version = -1;
+    private int rebuilds;
+
+    /**
+     * Creates an empty cache; labels are built on the first query.
+     *
+     * @param board board to label
+     */
+    ReachabilityCache(Board board) {
+        this.board = board;
+        this.cols = board.cols();
+    }
+
+    /**
+     * Checks if one cell can reach another over walkable terrain.
+     * The start cell is always entered, even if it is not walkable.
+     *
+     * @param fromKey packed key of the start cell
+     * @param toKey   packed key of the target cell
+     * @return true if a 4-connected path exists
+     */
+    public boolean canReach(int fromKey, int toKey) {
+        if (fromKey == toKey) return true;
+        refresh();
+
+        int target = labels[toKey];
+        if (target == 0) return false;
+        if (labels[fromKey] != 0) return labels[fromKey] == target;
+
+        // The start is not walkable but is entered anyway: try its neighbors.
+        int column = fromKey % cols;
+        return (column + 1 < cols && labels[fromKey + 1] == target)
+                || (column > 0 && labels[fromKey - 1] == target)
+                || (fromKey + cols < labels.length && labels[fromKey + cols] == target)
+                || (fromKey - cols >= 0 && labels[fromKey - cols] == target);
+    }
+
+    /** @return number of times the labels were rebuilt */
+    public int rebuildCount() {
+        return rebuilds;
+    }
+
+    private void refresh() {
+        long current = board.modificationCount();
+        if (current == version) return;
+
+        int rows = board.rows();
+        if (labels == null) labels = new int[Math.multiplyExact(rows, cols)];
+        BitPlane walkable = board.walkablePlane();
+        BfsWorkspace ws = BfsWorkspace.forThread(rows, cols);
+        Arrays.fill(labels, 0);
+        int next = 0;
+
+        for (int seed = 0; seed < labels.length; seed++) {
+            if (labels[seed] != 0 || !walkable.get(seed)) continue;
+
+            int label = ++next;
+            ws.beginSearch();
+            labels[seed] = label;
+            ws.enqueue(seed);
+            while (!ws.queueIsEmpty()) {
+                int key = ws.dequeue();
+                int column = key % cols;
+                if (column + 1 < cols) label(walkable, ws, key + 1, label);
+                if (column > 0) label(walkable, ws, key - 1, label);
+                if (key + cols < labels.length) label(walkable, ws, key + cols, label);
+                if (key - cols >= 0) label(walkable, ws, key - cols, label);
+            }
+        }
+        version = current;
+        rebuilds++;
+    }
+
+    private void label(BitPlane walkable, BfsWorkspace ws, int key, int label) {
+        if (labels[key] != 0 || !walkable.get(key)) return;
+        labels[key] = label;
+        ws.enqueue(key);
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.team6.model.board;
+
+/**
+ * Item counts per square region of the board, kept in step with every
+ * item write by {@link IndexedGridStorage}.
+ * Regions tile the board from the top-left corner; the last row and column
+ * of regions may be cut short by the board edge.
+ * Lookups and updates are O(1).
+ */
+public final class RegionCounts {
+
+    private final int regionSize;
+    private final int cols;
+    private final int regionCols;
+    private final int[] counts;
+
+    /**
+     * Creates empty counts.
+     *
+     * @param rows       board rows
+     * @param cols       board columns
+     * @param regionSize side of one region in tiles
+     */
+    RegionCounts(int rows, int cols, int regionSize) {
+        if (regionSize < 1) throw new IllegalArgumentException("regionSize must be >= 1");
+        this.regionSize = regionSize;
+        this.cols = cols;
+        this.regionCols = (cols + regionSize - 1) / regionSize;
+        int regionRows = (rows + regionSize - 1) / regionSize;
+        this.counts = new int[regionCols * regionRows];
+    }
+
+    /** @return side of one region in tiles */
+    public int regionSize() { return regionSize; }
+
+    /**
+     * Returns the region that holds a tile.
+     *
+     * @param key packed tile key
+     * @return region number
+     */
+    public int regionOf(int key) {
+        return (key / cols / regionSize) * regionCols + (key % cols) / regionSize;
+    }
+
+    /**
+     * Counts the items in the region that holds a tile.
+     *
+     * @param key packed tile key
+     * @return items in that region
+     */
+    public int count(int key) {
+        return counts[regionOf(key)];
+    }
+
+    /**
+     * Counts the items in a region.
+     *
+     * @param region region number from {@link #regionOf(int)}
+     * @return items in that region
+     */
+    public int countInRegion(int region) {
+        return counts[region];
+    }
+
+    /** Adds delta to the region that holds a tile. */
+    void adjust(int key, int delta) {
+        counts[regionOf(key)] += delta;
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.IntHashSet;
+
+import java.util.Objects;
+
+/**
+ * Terrain made of perimeter walls, a start, an exit, and a sparse set of barriers.
+ * Costs memory only for the barriers, so it can describe very large worlds.
+ */
+public final class SparseTerrain implements TerrainSource {
+
+    /** Side of the blocks used to answer {@link #uniformTerrain} quickly. */
+    private static final int BLOCK_BITS = 6;
+
+    private final int rows;
+    private final int cols;
+    private final Position start;
+    private final Position exit;
+
+    /** Barrier tiles by packed key. */
+    private final IntHashSet barriers = new IntHashSet();
+
+    /** Aligned blocks that hold at least one barrier. */
+    private final IntHashSet barrierBlocks = new IntHashSet();
+    private final int blockCols;
+
+    /**
+     * Creates terrain with walls on the border and floor inside.
+     *
+     * @param rows  number of rows
+     * @param cols  number of columns
+     * @param start start position, may be null
+     * @param exit  exit position, may be null
+     * @throws ArithmeticException if rows * cols does not fit in an int
+     */
+    public SparseTerrain(int rows, int cols, Position start, Position exit) {
+        Math.multiplyExact(rows, cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.start = start;
+        this.exit = exit;
+        this.blockCols = (cols + (1 << BLOCK_BITS) - 1) >>> BLOCK_BITS;
+    }
+
+    /**
+     * Marks a tile as barrier.
+     *
+     * @param column column index
+     * @param row    row index
+     * @throws IndexOutOfBoundsException if the tile is outside the grid
+     */
+    public void addBarrier(int column, int row) {
+        Objects.checkIndex(column, cols);
+        Objects.checkIndex(row, rows);
+        barriers.add(row * cols + column);
+        barrierBlocks.add((row >>> BLOCK_BITS) * blockCols + (column >>> BLOCK_BITS));
+    }
+
+    /** @return number of barrier tiles */
+    public int barrierCount() { return barriers.size(); }
+
+    @Override public int rows() { return rows; }
+
+    @Override public int cols() { return cols; }
+
+    @Override
+    public Cell.Terrain terrainAt(int column, int row) {
+        if (is(start, column, row)) return Cell.Terrain.START;
+        if (is(exit, column, row)) return Cell.Terrain.EXIT;
+        if (column == 0 || row == 0 || column == cols - 1 || row == rows - 1) return Cell.Terrain.WALL;
+        if (barriers.contains(row * cols + column)) return Cell.Terrain.BARRIER;
+        return Cell.Terrain.FLOOR;
+    }
+
+    @Override
+    public Cell.Terrain uniformTerrain(int column, int row, int width, int height) {
+        if (column == 0 || row == 0 || column + width >= cols || row + height >= rows) return null;
+        if (inside(start, column, row, width, height) || inside(exit, column, row, width, height)) return null;
+
+        int blockColumn = column >>> BLOCK_BITS;
+        int blockRow = row >>> BLOCK_BITS;
+        if (blockColumn != (column + width - 1) >>> BLOCK_BITS
+                || blockRow != (row + height - 1) >>> BLOCK_BITS) {
+            return TerrainSource.super.uniformTerrain(column, row, width, height);
+        }
+        return barrierBlocks.contains(blockRow * blockCols + blockColumn) ? null : Cell.Terrain.FLOOR;
+    }
+
+    private static boolean is(Position p, int column, int row) {
+        return p != null && p.column() == column && p.row() == row;
+    }
+
+    private static boolean inside(Position p, int column, int row, int width, int height) {
+        return p != null
+                && p.column() >= column && p.column() < column + width
+                && p.row() >= row && p.row() < row + height;
+    }
+}
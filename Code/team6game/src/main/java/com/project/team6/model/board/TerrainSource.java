@@ -0,0 +1,85 @@
+package com.project.team6.model.board;
+
+import java.util.Objects;
+
+/**
+ * Read-only terrain of a board that is not necessarily stored as an array.
+ * Lets generators describe large sparse worlds without allocating every tile.
+ */
+public interface TerrainSource {
+
+    /** @return number of rows */
+    int rows();
+
+    /** @return number of columns */
+    int cols();
+
+    /**
+     * Gets the terrain of one tile.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return terrain enum, never null
+     */
+    Cell.Terrain terrainAt(int column, int row);
+
+    /**
+     * Checks if a rectangle has a single terrain.
+     * The default scans every tile. Sources that know their layout should
+     * override it and may return null whenever an answer is not cheap.
+     *
+     * @param column left column
+     * @param row    top row
+     * @param width  number of columns
+     * @param height number of rows
+     * @return the shared terrain, or null if the rectangle is mixed or unknown
+     */
+    default Cell.Terrain uniformTerrain(int column, int row, int width, int height) {
+        Cell.Terrain first = terrainAt(column, row);
+        for (int r = row; r < row + height; r++) {
+            for (int c = column; c < column + width; c++) {
+                if (terrainAt(c, r) != first) return null;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Wraps a terrain grid. The grid is not copied.
+     *
+     * @param terrain terrain grid, indexed [row][column]
+     * @return source reading the grid
+     * @throws NullPointerException if terrain is null
+     */
+    static TerrainSource of(Cell.Terrain[][] terrain) {
+        Objects.requireNonNull(terrain);
+        int rows = terrain.length;
+        int cols = rows == 0 ? 0 : terrain[0].length;
+        return new TerrainSource() {
+            @Override public int rows() { return rows; }
+
+            @Override public int cols() { return cols; }
+
+            @Override
+            public Cell.Terrain terrainAt(int column, int row) {
+                return terrain[row][column];
+            }
+        };
+    }
+
+    /**
+     * Copies a source into a terrain grid.
+     *
+     * @param source terrain to copy
+     * @return new grid indexed [row][column]
+     */
+    static Cell.Terrain[][] toGrid(TerrainSource source) {
+        Cell.Terrain[][] grid = new Cell.Terrain[source.rows()][source.cols()];
+        for (int row = 0; row < grid.length; row++) {
+            for (int column = 0; column < grid[row].length; column++) {
+                grid[row][column] = source.terrainAt(column, row);
+            }
+        }
+        return grid;
+    }
+}
@@ -3,9 +3,19 @@ package com.project.team6.model.board.generators;
 import com.project.team6.controller.GameConfig;
 import com.project.team6.model.board.*;
 import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
+import com.project.team6.model.board.generators.helpers.BarrierValidator;
+import com.project.team6.model.board.generators.helpers.BinaryMap;
 import com.project.team6.model.board.generators.helpers.GeneratorHelper;
-
+import com.project.team6.model.board.generators.helpers.TextMapParser;
+import com.project.team6.model.board.utilities.BfsWorkspace;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * Builds the first terrain for a board.
@@ -82,6 +92,16 @@ public final class BoardGenerator {
         this.startExitSelector = Objects.requireNonNull(startExitSelector);
     }
 
+    /**
+     * Rates a generated layout for {@link #generateBest}. Higher is better.
+     * Called from pool threads, so it must not share mutable state.
+     * See {@link MapQuality} for ready-made scorers.
+     */
+    @FunctionalInterface
+    public interface LayoutScorer {
+        double score(Output layout);
+    }
+
     // --------------------------------------------------------------------
     // Output type
     // --------------------------------------------------------------------
@@ -91,7 +111,8 @@ public final class BoardGenerator {
         private final int cols;
         private final Position start;
         private final Position exit;
-        private final Cell.Terrain[][] terrain;
+        private final TerrainSource source;
+        private Cell.Terrain[][] terrain;
 
         public Output(int rows, int cols,
                       Position start, Position exit,
@@ -101,13 +122,43 @@ public final class BoardGenerator {
             this.start = start;
             this.exit = exit;
             this.terrain = terrain;
+            this.source = TerrainSource.of(terrain);
+        }
+
+        /**
+         * Creates an output backed by a terrain source.
+         * No grid is allocated unless {@link #terrain()} is called.
+         *
+         * @param start  start position
+         * @param exit   exit position
+         * @param source terrain of the board
+         */
+        public Output(Position start, Position exit, TerrainSource source) {
+            this.source = Objects.requireNonNull(source);
+            this.rows = source.rows();
+            this.cols = source.cols();
+            this.start = start;
+            this.exit = exit;
         }
 
         public int rows() {return rows;}
         public int cols() {return cols;}
         public Position start() {return start;}
         public Position exit() {return exit;}
-        public Cell.Terrain[][] terrain() {return terrain;}
+
+        /** @return terrain of the board without copying it */
+        public TerrainSource source() {return source;}
+
+        /**
+         * Returns the terrain grid.
+         * Outputs built from a source copy it into a grid on first call.
+         *
+         * @return terrain grid indexed [row][column]
+         */
+        public Cell.Terrain[][] terrain() {
+            if (terrain == null) terrain = TerrainSource.toGrid(source);
+            return terrain;
+        }
     }
 
     // --------------------------------------------------------------------
@@ -129,10 +180,56 @@ public final class BoardGenerator {
             case NONE      -> generateNone(opts);
             case PROVIDED  -> generateProvided(opts);
             case TEXT      -> generateFromText(opts);
+            case BINARY    -> generateFromBinary(opts);
             case RANDOM    -> generateRandomWithConstraints(opts);
         };
     }
 
+    /**
+     * Generates K layouts in parallel and returns the best one.
+     * One master seed is drawn from this generator's Random and split into
+     * an independent {@link SplittableRandom} stream per candidate, so the
+     * same Random state always picks the same winner regardless of thread
+     * timing. Candidates use the default random edge start/exit policy.
+     * Ties go to the earlier candidate.
+     *
+     * @param opts   options for barriers and size
+     * @param k      number of candidates
+     * @param scorer rates each candidate
+     * @return highest scoring layout
+     * @throws IllegalArgumentException if k is below 1
+     * @throws NullPointerException if opts or scorer is null
+     */
+    public Output generateBest(BarrierOptions opts, int k, LayoutScorer scorer) {
+        Objects.requireNonNull(opts);
+        Objects.requireNonNull(scorer);
+        if (k < 1) throw new IllegalArgumentException("k must be >= 1");
+
+        SplittableRandom master = new SplittableRandom(rng.nextLong());
+        long[] seeds = new long[k];
+        for (int i = 0; i < k; i++) {
+            seeds[i] = master.split().nextLong();
+        }
+
+        Output[] layouts = new Output[k];
+        double[] scores = new double[k];
+        IntStream.range(0, k).parallel().forEach(i -> {
+            try {
+                layouts[i] = new BoardGenerator(new Random(seeds[i])).generate(opts);
+                scores[i] = scorer.score(layouts[i]);
+            } finally {
+                // Pool threads outlive the call; do not leave board-sized buffers on them.
+                BfsWorkspace.releaseThread();
+            }
+        });
+
+        int best = 0;
+        for (int i = 1; i < k; i++) {
+            if (scores[i] > scores[best]) best = i;
+        }
+        return layouts[best];
+    }
+
     private StartExit chooseStartExit(int rows, int cols) {
         return startExitSelector.select(rows, cols);
     }
@@ -143,16 +240,12 @@ public final class BoardGenerator {
 
     private Output generateNone(BarrierOptions opts) {
         GeneratorHelper.validateSize(opts.rows, opts.cols);
-        boolean[][] walls = GeneratorHelper.perimeterWalls(opts.rows, opts.cols);
-        boolean[][] barriers = new boolean[opts.rows][opts.cols];
 
         StartExit startExit = chooseStartExit(opts.rows, opts.cols);
 
-        Cell.Terrain[][] terrain =
-                GeneratorHelper.toTerrainGrid(
-                        opts.rows, opts.cols, walls, barriers, startExit.start, startExit.exit
-                );
-        return new Output(opts.rows, opts.cols, startExit.start, startExit.exit, terrain);
+        SparseTerrain terrain =
+                new SparseTerrain(opts.rows, opts.cols, startExit.start, startExit.exit);
+        return new Output(startExit.start, startExit.exit, terrain);
     }
 
     // --------------------------------------------------------------------
@@ -161,26 +254,22 @@ public final class BoardGenerator {
 
     private Output generateProvided(BarrierOptions opts) {
         GeneratorHelper.validateSize(opts.rows, opts.cols);
-        boolean[][] walls    = GeneratorHelper.perimeterWalls(opts.rows, opts.cols);
-        boolean[][] barriers = new boolean[opts.rows][opts.cols];
 
+        StartExit startExit = chooseStartExit(opts.rows, opts.cols);
+
+        SparseTerrain terrain =
+                new SparseTerrain(opts.rows, opts.cols, startExit.start, startExit.exit);
         if (opts.barrierPositions != null) {
             for (Position p : opts.barrierPositions) {
                 if (p.column() <= 0 || p.column() >= opts.cols - 1 ||
                         p.row() <= 0 || p.row() >= opts.rows - 1) {
                     continue;
                 }
-                barriers[p.row()][p.column()] = true;
+                terrain.addBarrier(p.column(), p.row());
             }
         }
 
-        StartExit startExit = chooseStartExit(opts.rows, opts.cols);
-
-        Cell.Terrain[][] terrain =
-                GeneratorHelper.toTerrainGrid(
-                        opts.rows, opts.cols, walls, barriers, startExit.start, startExit.exit
-                );
-        return new Output(opts.rows, opts.cols, startExit.start, startExit.exit, terrain);
+        return new Output(startExit.start, startExit.exit, terrain);
     }
 
     // --------------------------------------------------------------------
@@ -191,49 +280,58 @@ public final class BoardGenerator {
         Objects.requireNonNull(opts.mapResource,
                 "TEXT mode requires a mapResource (e.g., \"maps/level1.txt\")");
 
-        List<String> lines = GeneratorHelper.readLinesFromResource(opts.mapResource);
-        if (lines.isEmpty()) {
-            throw new IllegalArgumentException("Empty map resource: " + opts.mapResource);
-        }
-
-        int rows = lines.size();
-        int cols = lines.get(0).length();
-        for (String line : lines) {
-            if (line.length() != cols) {
-                throw new IllegalArgumentException("Inconsistent line length in map file.");
-            }
-        }
-
-        boolean[][] walls    = new boolean[rows][cols];
-        boolean[][] barriers = new boolean[rows][cols];
-        Position start = null;
-        Position exit  = null;
-
-        for (int row = 0; row < rows; row++) {
-            String line = lines.get(row);
-            for (int column = 0; column < cols; column++) {
-                char ch = line.charAt(column);
-                switch (ch) {
-                    case 'X' -> walls[row][column] = true;
-                    case '#' -> barriers[row][column] = true;
-                    case 'S' -> start = new Position(column, row);
-                    case 'E' -> exit  = new Position(column, row);
-                    default  -> { /* floor */ }
-                }
-            }
-        }
+        TextMapParser.Result map = parseTextMap(opts.mapResource);
+        Cell.Terrain[][] terrain = map.terrain();
+        int rows = terrain.length;
+        int cols = terrain[0].length;
+        Position start = map.start();
+        Position exit  = map.exit();
 
         if (start == null || exit == null) {
             StartExit startExit = chooseStartExit(rows, cols);
             start = startExit.start;
             exit  = startExit.exit;
+            terrain[start.row()][start.column()] = Cell.Terrain.START;
+            terrain[exit.row()][exit.column()]   = Cell.Terrain.EXIT;
         }
 
-        Cell.Terrain[][] terrain =
-                GeneratorHelper.toTerrainGrid(rows, cols, walls, barriers, start, exit);
         return new Output(rows, cols, start, exit, terrain);
     }
 
+    /** Reads a text map from a file path, or from the classpath if no such file exists. */
+    private static TextMapParser.Result parseTextMap(String resource) {
+        Path path = Path.of(resource);
+        if (Files.isRegularFile(path)) return TextMapParser.parse(path);
+
+        try (InputStream in = BoardGenerator.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Resource not found: " + resource);
+            }
+            return TextMapParser.parse(in, resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading resource " + resource, e);
+        }
+    }
+
+    // --------------------------------------------------------------------
+    // BINARY
+    // --------------------------------------------------------------------
+
+    private Output generateFromBinary(BarrierOptions opts) {
+        Objects.requireNonNull(opts.mapResource,
+                "BINARY mode requires a mapResource (a file path or classpath resource)");
+
+        Path path = Path.of(opts.mapResource);
+        Output out = Files.isRegularFile(path)
+                ? BinaryMap.read(path)
+                : BinaryMap.readResource(opts.mapResource);
+        if (out.start() != null && out.exit() != null) return out;
+
+        StartExit startExit = chooseStartExit(out.rows(), out.cols());
+        PackedTerrain terrain = ((PackedTerrain) out.source()).withStartExit(startExit.start, startExit.exit);
+        return new Output(startExit.start, startExit.exit, terrain);
+    }
+
     // --------------------------------------------------------------------
     // RANDOM
     // --------------------------------------------------------------------
@@ -254,6 +352,7 @@ public final class BoardGenerator {
         int targetBarriers = Math.max(0,
                 (int) Math.round(interior * GameConfig.boardBarrierPercentage));
 
+        BarrierValidator validator = new BarrierValidator(walls, barriers, start, exit);
         int placed = 0;
         int attempts = 0;
         int maxAttempts = targetBarriers * 20 + 100;
@@ -272,11 +371,8 @@ public final class BoardGenerator {
                 continue;
             }
 
-            barriers[row][column] = true;
-
-            if (!GeneratorHelper.isBarrierConfigurationValid(walls, barriers, start, exit)) {
-                barriers[row][column] = false;
-            } else {
+            if (validator.tryPlace(column, row)) {
+                barriers[row][column] = true;
                 placed++;
             }
         }
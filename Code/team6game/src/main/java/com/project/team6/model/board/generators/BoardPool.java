@@ -0,0 +1,273 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
+import com.project.team6.model.board.utilities.BfsWorkspace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a bounded queue of boards that are generated and spawned ahead of time.
+ * Worker threads build boards until the queue is full and build again as
+ * boards are taken, so starting a game only has to take one.
+ * <p>
+ * Workers read {@link com.project.team6.controller.GameConfig} when they
+ * build a board. After changing it, {@link #clear()} the pool so stale
+ * boards are dropped; boards still being built are tagged with the old
+ * generation and dropped too. A worker whose build throws retries with
+ * growing delays and keeps the error for {@link Stats#lastFailure()}.
+ */
+public final class BoardPool implements AutoCloseable {
+
+    /**
+     * A board with its spawner, ready to play.
+     * Regular rewards, punishments, and enemies are placed and bonus waves
+     * are configured. Only the thread that takes it may use it.
+     */
+    public static final class Ready {
+        private final Board board;
+        private final Spawner spawner;
+
+        /**
+         * Pairs a board with the spawner that filled it.
+         *
+         * @param board   spawned board
+         * @param spawner spawner for the board
+         */
+        public Ready(Board board, Spawner spawner) {
+            this.board = Objects.requireNonNull(board);
+            this.spawner = Objects.requireNonNull(spawner);
+        }
+
+        /** @return the board */
+        public Board board() { return board; }
+
+        /** @return the spawner for the board */
+        public Spawner spawner() { return spawner; }
+    }
+
+    /**
+     * Counters at one point in time.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long refills;
+        private final long failures;
+        private final long totalRefillNanos;
+        private final long maxRefillNanos;
+        private final int ready;
+        private final RuntimeException lastFailure;
+
+        private Stats(long hits, long misses, long refills, long failures,
+                      long totalRefillNanos, long maxRefillNanos, int ready,
+                      RuntimeException lastFailure) {
+            this.hits = hits;
+            this.misses = misses;
+            this.refills = refills;
+            this.failures = failures;
+            this.totalRefillNanos = totalRefillNanos;
+            this.maxRefillNanos = maxRefillNanos;
+            this.ready = ready;
+            this.lastFailure = lastFailure;
+        }
+
+        /** @return takes served from the queue */
+        public long hits() { return hits; }
+
+        /** @return takes that had to build a board on the calling thread */
+        public long misses() { return misses; }
+
+        /** @return boards built by workers */
+        public long refills() { return refills; }
+
+        /** @return builds that threw */
+        public long failures() { return failures; }
+
+        /** @return error of the latest failed build, or null */
+        public RuntimeException lastFailure() { return lastFailure; }
+
+        /** @return mean time a worker spent building one board, in milliseconds */
+        public double averageRefillMillis() {
+            return refills == 0 ? 0 : totalRefillNanos / 1e6 / refills;
+        }
+
+        /** @return longest time a worker spent building one board, in milliseconds */
+        public double maxRefillMillis() { return maxRefillNanos / 1e6; }
+
+        /** @return boards waiting in the queue */
+        public int ready() { return ready; }
+    }
+
+    /** A queued board with the generation it was built for. */
+    private static final class Tagged {
+        private final Ready ready;
+        private final long generation;
+
+        private Tagged(Ready ready, long generation) {
+            this.ready = ready;
+            this.generation = generation;
+        }
+    }
+
+    /** First delay after a failed build, in milliseconds. */
+    private static final long MIN_BACKOFF_MILLIS = 10;
+    /** Longest delay between failed builds, in milliseconds. */
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final Supplier<Ready> producer;
+    private final BlockingQueue<Tagged> queue;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refills = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalRefillNanos = new AtomicLong();
+    private final AtomicLong maxRefillNanos = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile RuntimeException lastFailure;
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool of boards built from barrier options and the current config.
+     * Each worker has its own generator and a new Random per board.
+     *
+     * @param opts     barrier options for every board
+     * @param capacity boards kept ready
+     * @param workers  worker threads
+     * @throws IllegalArgumentException if capacity or workers is below 1
+     */
+    public BoardPool(BarrierOptions opts, int capacity, int workers) {
+        this(build(Objects.requireNonNull(opts)), capacity, workers);
+    }
+
+    /**
+     * Creates a pool around a custom producer. Helps tests.
+     *
+     * @param producer builds one ready board; called from worker threads
+     * @param capacity boards kept ready
+     * @param workers  worker threads
+     * @throws IllegalArgumentException if capacity or workers is below 1
+     */
+    BoardPool(Supplier<Ready> producer, int capacity, int workers) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1");
+        if (workers < 1) throw new IllegalArgumentException("workers must be >= 1");
+        this.producer = Objects.requireNonNull(producer);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(this::refillLoop, "board-pool-" + i);
+            worker.setDaemon(true);
+            this.workers.add(worker);
+            worker.start();
+        }
+    }
+
+    private static Supplier<Ready> build(BarrierOptions opts) {
+        return () -> {
+            Board board = new Board(new BoardGenerator().generate(opts));
+            Spawner spawner = new Spawner(board);
+            spawner.spawnRegularRewards();
+            spawner.spawnPunishments();
+            spawner.spawnEnemies();
+            spawner.spawnBonusRewards();
+            return new Ready(board, spawner);
+        };
+    }
+
+    // -----------------------------------------------------------------
+    // Consumer side
+    // -----------------------------------------------------------------
+
+    /**
+     * Takes a ready board. Returns at once when one is queued; otherwise
+     * builds one on the calling thread.
+     *
+     * @return a ready board that nobody else holds
+     * @throws IllegalStateException if the pool is closed
+     */
+    public Ready take() {
+        if (closed) throw new IllegalStateException("Pool is closed");
+        for (Tagged tagged = queue.poll(); tagged != null; tagged = queue.poll()) {
+            // Boards from before the last clear() were built with old settings.
+            if (tagged.generation != generation.get()) continue;
+            hits.incrementAndGet();
+            return tagged.ready;
+        }
+        misses.incrementAndGet();
+        return producer.get();
+    }
+
+    /** Drops every queued board and every board still being built; workers build fresh ones. */
+    public void clear() {
+        generation.incrementAndGet();
+        queue.clear();
+    }
+
+    /** @return current counters */
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), refills.get(), failures.get(),
+                totalRefillNanos.get(), maxRefillNanos.get(), queue.size(), lastFailure);
+    }
+
+    /** Stops the workers and drops queued boards. */
+    @Override
+    public void close() {
+        closed = true;
+        generation.incrementAndGet();
+        for (Thread worker : workers) worker.interrupt();
+        queue.clear();
+    }
+
+    // -----------------------------------------------------------------
+    // Workers
+    // -----------------------------------------------------------------
+
+    private void refillLoop() {
+        long backoff = MIN_BACKOFF_MILLIS;
+        while (!closed) {
+            long built = generation.get();
+            long begin = System.nanoTime();
+            Ready ready;
+            try {
+                ready = producer.get();
+            } catch (RuntimeException e) {
+                // The config may be fixed later; keep the error and retry, slower each time.
+                failures.incrementAndGet();
+                lastFailure = e;
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+                continue;
+            } finally {
+                // The worker then waits in put(); it should not hold search buffers meanwhile.
+                BfsWorkspace.releaseThread();
+            }
+            backoff = MIN_BACKOFF_MILLIS;
+            long nanos = System.nanoTime() - begin;
+            refills.incrementAndGet();
+            totalRefillNanos.addAndGet(nanos);
+            maxRefillNanos.accumulateAndGet(nanos, Math::max);
+
+            if (built != generation.get()) continue;
+            try {
+                queue.put(new Tagged(ready, built));
+            } catch (InterruptedException e) {
+                return;
+            }
+            // close() may have cleared the queue just before this put.
+            if (closed) queue.clear();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.generators.helpers.PlacementEngine;
+import com.project.team6.model.board.utilities.BfsWorkspace;
+import com.project.team6.model.board.utilities.BitPlane;
+
+/**
+ * Layout measures used to rank generated maps:
+ * the shortest start-to-exit path, the number of dead ends, and the number
+ * of choke points (cells every start-to-exit path must cross).
+ */
+public final class MapQuality {
+
+    private final int pathLength;
+    private final int deadEnds;
+    private final int chokePoints;
+
+    private MapQuality(int pathLength, int deadEnds, int chokePoints) {
+        this.pathLength = pathLength;
+        this.deadEnds = deadEnds;
+        this.chokePoints = chokePoints;
+    }
+
+    /** @return steps on the shortest start-to-exit path, or -1 if the exit is cut off */
+    public int pathLength() { return pathLength; }
+
+    /** @return walkable cells other than start and exit with exactly one walkable neighbor */
+    public int deadEnds() { return deadEnds; }
+
+    /** @return cells other than start and exit that every start-to-exit path crosses */
+    public int chokePoints() { return chokePoints; }
+
+    /**
+     * Measures a generated layout. Costs O(rows * cols).
+     *
+     * @param layout generator output
+     * @return its measures
+     */
+    public static MapQuality measure(BoardGenerator.Output layout) {
+        Board board = new Board(layout);
+        BitPlane walkable = board.walkablePlane();
+        int rows = board.rows();
+        int cols = board.cols();
+        int start = board.positions().key(board.start());
+        int exit = board.positions().key(board.exit());
+
+        int deadEnds = 0;
+        for (int key = 0; key < rows * cols; key++) {
+            if (key == start || key == exit || !walkable.get(key)) continue;
+            if (openNeighbors(walkable, key, rows, cols) == 1) deadEnds++;
+        }
+
+        int path = shortestPath(walkable, start, exit, rows, cols);
+        int chokes = 0;
+        if (path >= 0) {
+            PlacementEngine engine = new PlacementEngine(board, start, new int[] { exit });
+            for (int key = 0; key < rows * cols; key++) {
+                if (key != start && key != exit && walkable.get(key) && !engine.canBlock(key)) chokes++;
+            }
+        }
+        return new MapQuality(path, deadEnds, chokes);
+    }
+
+    /**
+     * Builds a scorer that weighs the three measures.
+     * Layouts whose exit is cut off score negative infinity.
+     *
+     * @param pathWeight    points per path step
+     * @param deadEndWeight points per dead end
+     * @param chokeWeight   points per choke point
+     * @return scorer for {@link BoardGenerator#generateBest}
+     */
+    public static BoardGenerator.LayoutScorer weighted(double pathWeight, double deadEndWeight, double chokeWeight) {
+        return layout -> {
+            MapQuality q = measure(layout);
+            if (q.pathLength < 0) return Double.NEGATIVE_INFINITY;
+            return pathWeight * q.pathLength + deadEndWeight * q.deadEnds + chokeWeight * q.chokePoints;
+        };
+    }
+
+    /**
+     * Favors long routes with few dead ends and few choke points.
+     *
+     * @return default scorer
+     */
+    public static BoardGenerator.LayoutScorer defaultScorer() {
+        return weighted(1.0, -0.5, -2.0);
+    }
+
+    // -----------------------------------------------------------------
+    // Internals
+    // -----------------------------------------------------------------
+
+    private static int openNeighbors(BitPlane open, int key, int rows, int cols) {
+        int column = key % cols;
+        int row = key / cols;
+        int count = 0;
+        if (row > 0 && open.get(key - cols)) count++;
+        if (row < rows - 1 && open.get(key + cols)) count++;
+        if (column > 0 && open.get(key - 1)) count++;
+        if (column < cols - 1 && open.get(key + 1)) count++;
+        return count;
+    }
+
+    /** Level-by-level breadth-first search; returns steps or -1. */
+    private static int shortestPath(BitPlane open, int start, int exit, int rows, int cols) {
+        BfsWorkspace ws = BfsWorkspace.forThread(rows, cols);
+        ws.beginSearch();
+        ws.visit(start);
+        ws.enqueue(start);
+        int levelLeft = 1;
+        int nextLevel = 0;
+        int depth = 0;
+
+        while (!ws.queueIsEmpty()) {
+            int key = ws.dequeue();
+            if (key == exit) return depth;
+            int column = key % cols;
+            int row = key / cols;
+            if (row > 0) nextLevel += push(ws, open, key - cols);
+            if (row < rows - 1) nextLevel += push(ws, open, key + cols);
+            if (column > 0) nextLevel += push(ws, open, key - 1);
+            if (column < cols - 1) nextLevel += push(ws, open, key + 1);
+
+            if (--levelLeft == 0) {
+                levelLeft = nextLevel;
+                nextLevel = 0;
+                depth++;
+            }
+        }
+        return -1;
+    }
+
+    private static int push(BfsWorkspace ws, BitPlane open, int key) {
+        if (!open.get(key) || !ws.visit(key)) return 0;
+        ws.enqueue(key);
+        return 1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.GridView;
+import com.project.team6.model.board.PositionTable;
+import com.project.team6.model.characters.enemies.MovingEnemy;
+import com.project.team6.model.collectibles.Punishment;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+
+/**
+ * Placements computed by {@link Spawner#plan()} or {@link Spawner#planAsync()}.
+ * Holds only packed keys, so it can be built on any thread and handed to
+ * the thread that owns the board, which applies it in one batch.
+ */
+public final class SpawnPlan {
+
+    private final int rows;
+    private final int cols;
+    private final long modificationCount;
+
+    private final int[] regularRewards;
+    private final int[] punishments;
+    private final int[] enemies;
+
+    SpawnPlan(int rows, int cols, long modificationCount,
+              int[] regularRewards, int[] punishments, int[] enemies) {
+        this.rows = rows;
+        this.cols = cols;
+        this.modificationCount = modificationCount;
+        this.regularRewards = regularRewards;
+        this.punishments = punishments;
+        this.enemies = enemies;
+    }
+
+    /** @return packed keys of planned regular rewards, in placement order */
+    public int[] regularRewards() { return regularRewards.clone(); }
+
+    /** @return packed keys of planned punishments, in placement order */
+    public int[] punishments() { return punishments.clone(); }
+
+    /** @return packed keys of planned enemies, in placement order */
+    public int[] enemies() { return enemies.clone(); }
+
+    /**
+     * Registers every planned item and enemy on a board.
+     * Checks all targets first, so a stale plan changes nothing.
+     * Call this from the thread that owns the board.
+     *
+     * @param board board the plan was made for
+     * @throws IllegalStateException if the board's size or terrain changed,
+     *         or a planned tile is no longer free
+     */
+    public void applyTo(Board board) {
+        if (board.rows() != rows || board.cols() != cols
+                || board.modificationCount() != modificationCount) {
+            throw new IllegalStateException("Board changed since the plan was made");
+        }
+        GridView view = board.view();
+        for (int[] keys : new int[][] { regularRewards, punishments, enemies }) {
+            for (int key : keys) {
+                if (!view.isFreeFloor(key)) {
+                    throw new IllegalStateException("Planned tile " + key + " is no longer free");
+                }
+            }
+        }
+
+        PositionTable positions = board.positions();
+        for (int key : regularRewards) {
+            board.registerCollectible(new RegularReward(positions.at(key)));
+        }
+        for (int key : punishments) {
+            board.registerCollectible(new Punishment(positions.at(key)));
+        }
+        for (int key : enemies) {
+            board.registerEnemy(new MovingEnemy(positions.at(key), GameConfig.enemyMovePeriod));
+        }
+    }
+}
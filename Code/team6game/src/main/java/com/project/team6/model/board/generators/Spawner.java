@@ -2,14 +2,32 @@ package com.project.team6.model.board.generators;
 
 import com.project.team6.controller.GameConfig;
 import com.project.team6.model.board.Board;
+import com.project.team6.model.board.BoardSnapshot;
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.CollectibleRegistry;
 import com.project.team6.model.board.Position;
+import com.project.team6.model.board.PositionTable;
+import com.project.team6.model.board.RegionCounts;
+import com.project.team6.model.board.TerrainSource;
+import com.project.team6.model.board.generators.helpers.PlacementEngine;
+import com.project.team6.model.board.generators.helpers.PoissonDiscSampler;
 import com.project.team6.model.board.generators.helpers.SpawnerHelper;
+import com.project.team6.model.board.generators.helpers.SpeculativeValidator;
+import com.project.team6.model.board.utilities.BfsWorkspace;
+import com.project.team6.model.board.utilities.IntHashMap;
+import com.project.team6.model.board.utilities.IntHashSet;
+import com.project.team6.model.board.utilities.TimingWheel;
 import com.project.team6.model.characters.enemies.MovingEnemy;
 import com.project.team6.model.collectibles.Punishment;
 import com.project.team6.model.collectibles.rewards.BonusReward;
 import com.project.team6.model.collectibles.rewards.RegularReward;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Spawns collectibles and enemies onto a board.
@@ -17,6 +35,30 @@ import java.util.*;
  */
 public final class Spawner {
 
+    /**
+     * How punishment and enemy placements are checked for safety.
+     */
+    public enum PlacementMode {
+        /** Flood from start for every candidate and target. */
+        FLOOD,
+        /** Look candidates up in a {@link PlacementEngine}; rebuild it once per placement. */
+        BLOCK_CUT_TREE,
+        /** Flood batches of candidates on the common pool; see {@link SpeculativeValidator}. */
+        PARALLEL_FLOOD;
+
+        /**
+         * Picks the default mode for a board.
+         * Chunked boards use FLOOD because the engine keeps O(cells) arrays;
+         * there it floods chunk by chunk, see {@link Board#reachesAllByChunks}.
+         *
+         * @param board target board
+         * @return default mode
+         */
+        public static PlacementMode forBoard(Board board) {
+            return board.storageMode() == Board.StorageMode.CHUNKED ? FLOOD : BLOCK_CUT_TREE;
+        }
+    }
+
     /** The board that receives spawns. */
     private final Board board;
 
@@ -24,6 +66,9 @@ public final class Spawner {
     /** Random source for placement and timing. */
     private final Random random;
 
+    /** How punishment and enemy placements are checked. */
+    private final PlacementMode placementMode;
+
     /** Shared reachability logic. */
     private final Reachability reachability;
 
@@ -32,6 +77,7 @@ public final class Spawner {
     private final RegularRewardSpawner regularRewardSpawner;
     private final PunishmentSpawner punishmentSpawner;
     private final EnemySpawner enemySpawner;
+    private final RespawnScheduler respawnScheduler;
 
 
 
@@ -58,15 +104,30 @@ public final class Spawner {
      * @throws NullPointerException if board or random is null
      */
     public Spawner(Board board, Random random) {
+        this(board, random, PlacementMode.forBoard(Objects.requireNonNull(board)));
+    }
+
+    /**
+     * Creates a spawner with an injected Random and placement mode.
+     * All modes accept exactly the same placements.
+     *
+     * @param board the target board
+     * @param random random source
+     * @param placementMode how placements are checked
+     * @throws NullPointerException if any argument is null
+     */
+    public Spawner(Board board, Random random, PlacementMode placementMode) {
 
         this.board = Objects.requireNonNull(board);
         this.random = Objects.requireNonNull(random);
 
-        this.reachability = new Reachability(this.board);
+        this.placementMode = Objects.requireNonNull(placementMode);
+        this.reachability = new Reachability(this.board, placementMode);
         this.bonusWaveSpawner = new BonusWaveSpawner(this.board, this.random);
         this.regularRewardSpawner = new RegularRewardSpawner(this.board, this.random);
         this.punishmentSpawner = new PunishmentSpawner(this.board, this.random, this.reachability);
         this.enemySpawner = new EnemySpawner(this.board, this.random, this.reachability);
+        this.respawnScheduler = new RespawnScheduler(this.board, this.random);
     }
 
     /**
@@ -98,6 +159,7 @@ public final class Spawner {
      */
     public void onTick() {
         bonusWaveSpawner.onTick();
+        respawnScheduler.onTick();
     }
 
     /**
@@ -131,48 +193,451 @@ public final class Spawner {
         enemySpawner.spawnEnemies();
     }
 
+    // ================================================================
+    // Timed respawns
+    // ================================================================
+
+    /**
+     * Sets how long a collected item of a kind waits before a new one spawns.
+     * Regular rewards and punishments only; bonuses have their own waves.
+     * Respawned regular rewards score but do not add to the required count.
+     *
+     * @param kind  REGULAR_REWARD or PUNISHMENT
+     * @param ticks delay in ticks; 0 or less turns respawning off
+     * @throws IllegalArgumentException if kind is BONUS_REWARD
+     */
+    public void setRespawnDelay(CollectibleRegistry.Kind kind, int ticks) {
+        respawnScheduler.setDelay(kind, ticks);
+    }
+
+    /**
+     * Notifies the spawner that an item was collected.
+     * Schedules a respawn if the item's kind has a respawn delay.
+     *
+     * @param kind kind of the collected item
+     */
+    public void notifyCollected(CollectibleRegistry.Kind kind) {
+        respawnScheduler.onCollected(kind);
+    }
+
+    /**
+     * Schedules a staggered wave: one item every staggerTicks, starting after firstDelayTicks.
+     *
+     * @param kind            REGULAR_REWARD or PUNISHMENT
+     * @param count           number of items
+     * @param firstDelayTicks ticks until the first item
+     * @param staggerTicks    ticks between items
+     * @throws IllegalArgumentException if kind is BONUS_REWARD or count is negative
+     */
+    public void scheduleWave(CollectibleRegistry.Kind kind, int count, int firstDelayTicks, int staggerTicks) {
+        respawnScheduler.scheduleWave(kind, count, firstDelayTicks, staggerTicks);
+    }
+
+    /** @return number of respawns still waiting */
+    public int pendingRespawns() {
+        return respawnScheduler.pending();
+    }
+
+    /**
+     * Returns the validator of the latest PARALLEL_FLOOD placement pass.
+     * Tests use its counters to see how candidates were checked.
+     *
+     * @return validator, or null if no such pass ran
+     */
+    SpeculativeValidator lastSpeculativeValidator() {
+        return reachability.lastValidator;
+    }
+
+    // ================================================================
+    // Planning off the board thread
+    // ================================================================
+
+    /**
+     * Computes regular rewards, punishments, and enemies without touching the board.
+     * Runs the same three phases as the spawn methods on a private copy of
+     * the board, so applying the plan to a fresh board gives the same layout
+     * as calling them directly with the same seed.
+     *
+     * @return plan to apply with {@link SpawnPlan#applyTo(Board)}
+     * @throws IllegalStateException if the player is not on the start tile
+     */
+    public SpawnPlan plan() {
+        return planOn(capture());
+    }
+
+    /**
+     * Like {@link #plan()}, but computes the plan on the common pool.
+     *
+     * @return future plan
+     */
+    public CompletableFuture<SpawnPlan> planAsync() {
+        return planAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Like {@link #plan()}, but computes the plan on an executor.
+     * The board is captured as an immutable snapshot on the calling thread;
+     * the worker only reads that snapshot. The worker uses this spawner's
+     * Random, so do not use the spawner until the future completes.
+     *
+     * @param executor runs the planning
+     * @return future plan
+     * @throws IllegalStateException if the player is not on the start tile
+     */
+    public CompletableFuture<SpawnPlan> planAsync(Executor executor) {
+        Objects.requireNonNull(executor);
+        Capture capture = capture();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return planOn(capture);
+            } finally {
+                BfsWorkspace.releaseThread();
+            }
+        }, executor);
+    }
+
+    /** Board state captured on the board thread. */
+    private static final class Capture {
+        private final BoardSnapshot frame;
+        private final long modificationCount;
+        private final Board.StorageMode storageMode;
+
+        private Capture(BoardSnapshot frame, long modificationCount, Board.StorageMode storageMode) {
+            this.frame = frame;
+            this.modificationCount = modificationCount;
+            this.storageMode = storageMode;
+        }
+    }
+
+    private Capture capture() {
+        if (!board.player().position().equals(board.start())) {
+            throw new IllegalStateException("Plan spawns before the player moves");
+        }
+        return new Capture(board.snapshot(), board.modificationCount(), board.storageMode());
+    }
+
+    private SpawnPlan planOn(Capture capture) {
+        BoardSnapshot frame = capture.frame;
+        Board copy = copyOf(frame, capture.storageMode);
+        int rewardsBefore = copy.collectibles().count(CollectibleRegistry.Kind.REGULAR_REWARD);
+        int punishmentsBefore = copy.collectibles().count(CollectibleRegistry.Kind.PUNISHMENT);
+        int enemiesBefore = copy.enemies().size();
+
+        Spawner planner = new Spawner(copy, random, placementMode);
+        planner.spawnRegularRewards();
+        planner.spawnPunishments();
+        planner.spawnEnemies();
+
+        List<MovingEnemy> enemies = copy.enemies();
+        int[] enemyKeys = new int[enemies.size() - enemiesBefore];
+        for (int i = 0; i < enemyKeys.length; i++) {
+            enemyKeys[i] = copy.positions().key(enemies.get(enemiesBefore + i).position());
+        }
+        return new SpawnPlan(frame.rows(), frame.cols(), capture.modificationCount,
+                copy.collectibles().keys(CollectibleRegistry.Kind.REGULAR_REWARD).skip(rewardsBefore).toArray(),
+                copy.collectibles().keys(CollectibleRegistry.Kind.PUNISHMENT).skip(punishmentsBefore).toArray(),
+                enemyKeys);
+    }
+
+    /** Rebuilds a board with the terrain, items, and enemies of a snapshot. */
+    private static Board copyOf(BoardSnapshot frame, Board.StorageMode storageMode) {
+        TerrainSource terrain = new TerrainSource() {
+            @Override public int rows() { return frame.rows(); }
+
+            @Override public int cols() { return frame.cols(); }
+
+            @Override
+            public Cell.Terrain terrainAt(int column, int row) {
+                return frame.terrainAt(row * frame.cols() + column);
+            }
+        };
+        Board copy = new Board(new BoardGenerator.Output(frame.start(), frame.exit(), terrain), storageMode);
+
+        PositionTable positions = copy.positions();
+        for (int key = 0; key < frame.size(); key++) {
+            CollectibleRegistry.Kind kind = frame.itemKind(key);
+            if (kind != null) {
+                Position p = positions.at(key);
+                copy.registerCollectible(switch (kind) {
+                    case REGULAR_REWARD -> new RegularReward(p);
+                    case BONUS_REWARD -> new BonusReward(p, 1);
+                    case PUNISHMENT -> new Punishment(p);
+                });
+            }
+            if (frame.hasEnemy(key)) {
+                copy.registerEnemy(new MovingEnemy(positions.at(key), GameConfig.enemyMovePeriod));
+            }
+        }
+        return copy;
+    }
+
+    /** Candidates drawn per wanted placement on chunked boards. */
+    private static final int CANDIDATES_PER_PLACEMENT = 8;
+
+    /**
+     * Lists free cells in random order as placement candidates.
+     * Packed boards filter and shuffle every free cell. Chunked boards draw a
+     * bounded random sample instead, so they never list the whole world.
+     *
+     * @param board  board to read
+     * @param random random source
+     * @param wanted number of placements the caller needs
+     * @param filter drops keys that must not be used
+     * @return candidate keys in random order
+     */
+    private static int[] candidates(Board board, Random random, int wanted, UnaryOperator<int[]> filter) {
+        if (board.storageMode() == Board.StorageMode.CHUNKED) {
+            long budget = (long) wanted * CANDIDATES_PER_PLACEMENT + 64;
+            return filter.apply(board.sampleFreeCells((int) Math.min(board.freeCellCount(), budget), random));
+        }
+        int[] keys = filter.apply(board.freeCellKeys());
+        shuffle(keys, random);
+        return keys;
+    }
+
+    /** Uniform draws tried against the region caps before they are ignored. */
+    private static final int CAPPED_ROUNDS = 8;
+
+    /**
+     * Draws free cells for items.
+     * With {@link GameConfig#spawnMinDistance} above 1 the cells come from a
+     * {@link PoissonDiscSampler} first. With region caps set, cells in full
+     * regions are passed over. When spacing or caps cannot fit the whole
+     * count, the rest is topped up with plain uniform draws.
+     *
+     * @param board  board to read
+     * @param random random source
+     * @param count  how many cells to draw, capped at the free count
+     * @return packed keys of the drawn cells
+     */
+    private static int[] spreadFreeCells(Board board, Random random, int count) {
+        RegionCounts regions = regionCaps(board);
+        if (GameConfig.spawnMinDistance <= 1 && regions == null) return board.sampleFreeCells(count, random);
+
+        Picks picks = new Picks(Math.min(count, board.freeCellCount()), regions);
+        if (GameConfig.spawnMinDistance > 1) {
+            picks.offer(PoissonDiscSampler.sample(board, random, count, GameConfig.spawnMinDistance,
+                    regions == null ? null : picks::hasRoom));
+        }
+        for (int round = 0; regions != null && round < CAPPED_ROUNDS && !picks.full(); round++) {
+            picks.offer(board.sampleFreeCells(picks.missing() * 2 + 16, random));
+        }
+        if (!picks.full()) {
+            picks.ignoreCaps();
+            picks.offer(board.sampleFreeCells(count, random));
+        }
+        return picks.toArray();
+    }
+
+    /**
+     * Returns the board's region counts when region caps are configured.
+     *
+     * @param board board to read
+     * @return live region counts, or null when caps are off
+     */
+    private static RegionCounts regionCaps(Board board) {
+        if (GameConfig.spawnRegionSize <= 0 || GameConfig.spawnRegionCap <= 0) return null;
+        return board.regionCounts(GameConfig.spawnRegionSize);
+    }
+
     /**
-     * Partially shuffles a list so the first K elements are random.
+     * Distinct keys collected for one draw, counted against the region caps
+     * together with the items already on the board.
+     */
+    private static final class Picks {
+        private final int[] keys;
+        private int size;
+        private final IntHashSet taken = new IntHashSet();
+        private RegionCounts regions;
+
+        /** Keys picked in this draw per region. */
+        private final IntHashMap<int[]> pending = new IntHashMap<>();
+
+        private Picks(int wanted, RegionCounts regions) {
+            this.keys = new int[wanted];
+            this.regions = regions;
+        }
+
+        private boolean full() { return size == keys.length; }
+
+        private int missing() { return keys.length - size; }
+
+        private boolean hasRoom(int key) {
+            if (regions == null) return true;
+            int region = regions.regionOf(key);
+            int[] extra = pending.get(region);
+            return regions.countInRegion(region) + (extra == null ? 0 : extra[0]) < GameConfig.spawnRegionCap;
+        }
+
+        private void ignoreCaps() { regions = null; }
+
+        private void offer(int[] candidates) {
+            for (int key : candidates) {
+                if (full()) return;
+                if (taken.contains(key) || !hasRoom(key)) continue;
+                taken.add(key);
+                keys[size++] = key;
+                if (regions != null) {
+                    int region = regions.regionOf(key);
+                    int[] extra = pending.get(region);
+                    if (extra == null) pending.put(region, extra = new int[1]);
+                    extra[0]++;
+                }
+            }
+        }
+
+        private int[] toArray() {
+            return size == keys.length ? keys : Arrays.copyOf(keys, size);
+        }
+    }
+
+    /**
+     * Moves well-spaced candidates to the front when spawnMinDistance is set.
+     * The rest follow in their original order, so safety checks still see
+     * every candidate.
+     *
+     * @param board      board to read
+     * @param random     random source
+     * @param wanted     number of placements the caller needs
+     * @param candidates candidate keys in random order
+     * @param accept     keys the spaced picks may use
+     * @return candidates, spaced ones first
+     */
+    private static int[] spacedFirst(Board board, Random random, int wanted, int[] candidates, IntPredicate accept) {
+        if (GameConfig.spawnMinDistance <= 1 || candidates.length == 0) return candidates;
+
+        int[] spaced = PoissonDiscSampler.sample(board, random, wanted, GameConfig.spawnMinDistance, accept);
+        IntHashSet taken = new IntHashSet();
+        for (int key : spaced) taken.add(key);
+        int[] out = Arrays.copyOf(spaced, spaced.length + candidates.length);
+        int n = spaced.length;
+        for (int key : candidates) {
+            if (!taken.contains(key)) out[n++] = key;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Shuffles keys in place.
+     * Draws from the random source in the same order as Collections.shuffle.
      *
-     * @param list list to shuffle in place
-     * @param count how many random elements are needed
+     * @param keys packed cell keys to shuffle
      * @param random random source
      */
-    private static void chooseFirstKRandomInPlace(List<Position> list, int count, Random random) {
-        int n = list.size();
-        int k = Math.min(count, n);
-        for (int i = 0; i < k; i++) {
-            int j = i + random.nextInt(n - i);
-            if (i != j) Collections.swap(list, i, j);
+    private static void shuffle(int[] keys, Random random) {
+        for (int i = keys.length; i > 1; i--) {
+            swap(keys, i - 1, random.nextInt(i));
         }
     }
 
+    private static void swap(int[] keys, int i, int j) {
+        int tmp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tmp;
+    }
+
+    /**
+     * Returns a copy of keys without the given excluded keys.
+     *
+     * @param keys packed cell keys
+     * @param excluded keys to drop
+     * @return filtered keys
+     */
+    private static int[] without(int[] keys, int... excluded) {
+        int[] out = new int[keys.length];
+        int count = 0;
+        outer:
+        for (int key : keys) {
+            for (int ex : excluded) {
+                if (key == ex) continue outer;
+            }
+            out[count++] = key;
+        }
+        return count == keys.length ? keys : Arrays.copyOf(out, count);
+    }
+
+    /**
+     * Blocks cells one at a time while keeping required cells reachable.
+     */
+    private interface BlockingCheck {
+        /**
+         * Blocks a cell if every required cell stays reachable from start.
+         *
+         * @param key packed key of the candidate
+         * @return true if the cell was blocked, false if it was left open
+         */
+        boolean tryBlock(int key);
+
+        /**
+         * Records that a candidate was passed over without a check.
+         *
+         * @param key packed key of the candidate
+         */
+        default void skip(int key) { }
+    }
+
     /**
      * Centralizes reachability checks.
      * This removes duplicated validation logic.
      */
     private static final class Reachability {
         private final Board board;
+        private final PlacementMode mode;
 
-        private Reachability(Board board) {
+        /** Validator of the latest PARALLEL_FLOOD pass, or null. */
+        private SpeculativeValidator lastValidator;
+
+        private Reachability(Board board, PlacementMode mode) {
             this.board = board;
+            this.mode = mode;
         }
 
-        private boolean canReach(Position from, Position to, Set<Position> blocked) {
-            return SpawnerHelper.canReach(board, from, to, blocked);
-        }
+        /**
+         * Creates a check for one spawning pass.
+         *
+         * @param start      packed key of the start cell
+         * @param required   packed keys that must stay reachable from start
+         * @param candidates packed keys in the order they will be tried
+         * @return check that remembers every accepted block
+         */
+        private BlockingCheck blockingCheck(int start, int[] required, int[] candidates) {
+            if (mode == PlacementMode.PARALLEL_FLOOD) {
+                SpeculativeValidator validator = new SpeculativeValidator(board, start, required, candidates,
+                        ForkJoinPool.commonPool());
+                lastValidator = validator;
+                return new BlockingCheck() {
+                    @Override public boolean tryBlock(int key) { return validator.tryBlock(key); }
+
+                    // Keeps the validator's cursor in step, so later candidates still use batches.
+                    @Override public void skip(int key) { validator.skip(key); }
+                };
+            }
+            if (mode == PlacementMode.BLOCK_CUT_TREE) {
+                PlacementEngine engine = new PlacementEngine(board, start, required);
+                return key -> {
+                    if (!engine.canBlock(key)) return false;
+                    engine.block(key);
+                    return true;
+                };
+            }
 
-        private boolean canReachStartToExit(Position start, Position exit, Set<Position> blocked) {
-            return canReach(start, exit, blocked);
+            // Holds every accepted block plus the candidate under test.
+            IntHashSet blocked = new IntHashSet();
+            return key -> {
+                blocked.add(key);
+                if (SpawnerHelper.canReachAll(board, start, required, blocked)) return true;
+                blocked.remove(key);
+                return false;
+            };
         }
 
-        private boolean canReachAllRegularRewards(Position start, Set<Position> blocked) {
-            for (RegularReward rr : board.regularRewards()) {
-                if (!canReach(start, rr.position(), blocked)) {
-                    return false;
-                }
-            }
-            return true;
+        /** @return exit followed by every regular reward */
+        private int[] exitAndRegularRewards(int exit) {
+            int[] rewards = board.collectibles().keys(CollectibleRegistry.Kind.REGULAR_REWARD).toArray();
+            int[] required = new int[rewards.length + 1];
+            required[0] = exit;
+            System.arraycopy(rewards, 0, required, 1, rewards.length);
+            return required;
         }
     }
 
@@ -206,10 +671,6 @@ public final class Spawner {
             return Math.max(1, (int) Math.round(ticks));
         }
 
-        private List<Position> freeFloorCells() {
-            return SpawnerHelper.freeFloorCells(board);
-        }
-
         private void scheduleNextBonusSpawn() {
             if (!bonusEnabled || bonusRemaining <= 0) {
                 ticksUntilNextSpawn = -1;
@@ -232,7 +693,7 @@ public final class Spawner {
                 return;
             }
 
-            int freeCells = freeFloorCells().size();
+            int freeCells = board.freeCellCount();
             if (GameConfig.bonusRewardCount > freeCells) {
                 throw new IllegalArgumentException(
                         "GameConfig.bonusRewardCount (" + GameConfig.bonusRewardCount +
@@ -257,17 +718,16 @@ public final class Spawner {
                 return;
             }
 
-            List<Position> free = freeFloorCells();
-            if (free.isEmpty()) {
+            if (board.freeCellCount() == 0) {
                 scheduleNextBonusSpawn();
                 return;
             }
 
-            int toSpawn = Math.min(bonusRemaining, free.size());
-            chooseFirstKRandomInPlace(free, toSpawn, random);
+            int[] free = spreadFreeCells(board, random, bonusRemaining);
+            int toSpawn = free.length;
 
             for (int i = 0; i < toSpawn; i++) {
-                Position pos = free.get(i);
+                Position pos = board.positions().at(free[i]);
                 int lifeTicks = GameConfig.lifeMinTicks + random.nextInt(GameConfig.lifeRange);
                 BonusReward bonus = new BonusReward(pos, lifeTicks);
                 board.registerCollectible(bonus);
@@ -302,22 +762,17 @@ public final class Spawner {
             this.random = random;
         }
 
-        private List<Position> freeFloorCells() {
-            return SpawnerHelper.freeFloorCells(board);
-        }
-
         public void spawnRegularRewards() {
             if (GameConfig.regularRewardCount <= 0) return;
 
-            List<Position> free = freeFloorCells();
-            if (free.size() < GameConfig.regularRewardCount) {
+            if (board.freeCellCount() < GameConfig.regularRewardCount) {
                 throw new IllegalStateException(
                         "Not enough free cells to place " + GameConfig.regularRewardCount + " regular rewards.");
             }
 
-            chooseFirstKRandomInPlace(free, GameConfig.regularRewardCount ,random);
+            int[] free = spreadFreeCells(board, random, GameConfig.regularRewardCount);
             for (int i = 0; i < GameConfig.regularRewardCount; i++) {
-                Position p = free.get(i);
+                Position p = board.positions().at(free[i]);
                 RegularReward r = new RegularReward(p);
                 board.registerCollectible(r);
             }
@@ -342,42 +797,135 @@ public final class Spawner {
             this.reachability = reachability;
         }
 
-        private List<Position> freeFloorCells() {
-            return SpawnerHelper.freeFloorCells(board);
-        }
-
         public void spawnPunishments() {
             if (GameConfig.numPunishments <= 0) return;
 
-            List<Position> free = freeFloorCells();
-            Position start = board.start();
-            Position exit = board.exit();
+            PositionTable positions = board.positions();
+            int start = positions.key(board.start());
+            int exit = positions.key(board.exit());
 
-            free.remove(start);
-            free.remove(exit);
+            RegionCounts regions = regionCaps(board);
+            IntPredicate hasRoom = key -> regions == null || regions.count(key) < GameConfig.spawnRegionCap;
 
-            if (free.isEmpty()) return;
+            int[] free = candidates(board, random, GameConfig.numPunishments,
+                    keys -> without(keys, start, exit));
+            if (regions != null) free = Arrays.stream(free).filter(hasRoom).toArray();
+            if (free.length == 0) return;
+            free = spacedFirst(board, random, GameConfig.numPunishments, free,
+                    key -> key != start && key != exit && hasRoom.test(key));
 
-            Collections.shuffle(free, random);
+            BlockingCheck check = reachability.blockingCheck(start,
+                    reachability.exitAndRegularRewards(exit), free);
+            int placed = 0;
 
-            List<Position> placed = new ArrayList<>();
-            Set<Position> blocked = new HashSet<>();
+            for (int candidate : free) {
+                // Counts are live, so regions filled during this pass are skipped.
+                if (!hasRoom.test(candidate)) {
+                    check.skip(candidate);
+                    continue;
+                }
+                if (!check.tryBlock(candidate)) continue;
 
-            for (Position candidate : free) {
-                blocked.clear();
-                blocked.addAll(placed);
-                blocked.add(candidate);
+                Punishment p = new Punishment(positions.at(candidate));
+                board.registerCollectible(p);
+                placed++;
 
-                if (!reachability.canReachStartToExit(start, exit, blocked)) continue;
-                if (!reachability.canReachAllRegularRewards(start, blocked)) continue;
+                if (placed >= GameConfig.numPunishments) break;
+            }
+        }
+    }
 
-                Punishment p = new Punishment(candidate);
-                board.registerCollectible(p);
-                placed.add(candidate);
+    // ================================================================
+    // Component: Timed respawns
+    // ================================================================
+
+    /**
+     * Respawns regular rewards and punishments on timers.
+     * Timers sit in a {@link TimingWheel}, so a tick costs the respawns that
+     * are due, not the number pending. A respawned punishment must keep the
+     * exit and every regular reward reachable from the player; if no sampled
+     * cell does, that respawn is dropped.
+     */
+    private static final class RespawnScheduler {
+        /** Free cells tried per respawned punishment. */
+        private static final int PUNISHMENT_TRIES = 8;
 
-                if (placed.size() >= GameConfig.numPunishments) break;
+        private final Board board;
+        private final Random random;
+        private final TimingWheel wheel = new TimingWheel();
+
+        /** Respawn delay per kind ordinal; 0 means off. */
+        private final int[] delays = new int[CollectibleRegistry.Kind.values().length];
+
+        private RespawnScheduler(Board board, Random random) {
+            this.board = board;
+            this.random = random;
+        }
+
+        private void setDelay(CollectibleRegistry.Kind kind, int ticks) {
+            delays[checkKind(kind).ordinal()] = Math.max(0, ticks);
+        }
+
+        private void onCollected(CollectibleRegistry.Kind kind) {
+            int delay = delays[kind.ordinal()];
+            if (delay > 0) wheel.schedule(delay, kind.ordinal());
+        }
+
+        private void scheduleWave(CollectibleRegistry.Kind kind, int count, int firstDelayTicks, int staggerTicks) {
+            checkKind(kind);
+            if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+            long stagger = Math.max(0, staggerTicks);
+            for (int i = 0; i < count; i++) {
+                wheel.schedule(firstDelayTicks + i * stagger, kind.ordinal());
             }
         }
+
+        private int pending() {
+            return wheel.size();
+        }
+
+        private void onTick() {
+            wheel.advance(this::spawn);
+        }
+
+        private void spawn(int kindOrdinal) {
+            if (board.freeCellCount() == 0) return;
+
+            if (kindOrdinal == CollectibleRegistry.Kind.REGULAR_REWARD.ordinal()) {
+                int[] free = spreadFreeCells(board, random, 1);
+                if (free.length > 0) {
+                    // Respawns are optional: the required count was fixed when the board was filled.
+                    board.registerCollectible(new RegularReward(board.positions().at(free[0]), false));
+                }
+                return;
+            }
+
+            PositionTable positions = board.positions();
+            int from = positions.key(board.player().position());
+            int exit = positions.key(board.exit());
+            int[] rewards = board.collectibles().keys(CollectibleRegistry.Kind.REGULAR_REWARD).toArray();
+            int[] required = new int[rewards.length + 1];
+            required[0] = exit;
+            System.arraycopy(rewards, 0, required, 1, rewards.length);
+
+            IntHashSet blocked = new IntHashSet();
+            board.collectibles().keys(CollectibleRegistry.Kind.PUNISHMENT).forEach(blocked::add);
+            for (int candidate : board.sampleFreeCells(PUNISHMENT_TRIES, random)) {
+                blocked.add(candidate);
+                if (SpawnerHelper.canReachAll(board, from, required, blocked)) {
+                    board.registerCollectible(new Punishment(positions.at(candidate)));
+                    return;
+                }
+                blocked.remove(candidate);
+            }
+        }
+
+        private static CollectibleRegistry.Kind checkKind(CollectibleRegistry.Kind kind) {
+            if (Objects.requireNonNull(kind) == CollectibleRegistry.Kind.BONUS_REWARD) {
+                throw new IllegalArgumentException("Bonus rewards use bonus waves, not respawns");
+            }
+            return kind;
+        }
     }
 
     // ================================================================
@@ -388,6 +936,9 @@ public final class Spawner {
      * Handles spawning enemies while preserving the start-to-exit path.
      */
     private static final class EnemySpawner {
+        /** Minimum Chebyshev distance between an enemy and the start or exit. */
+        private static final int GATE_CLEARANCE = 3;
+
         private final Board board;
         private final Random random;
         private final Reachability reachability;
@@ -398,44 +949,46 @@ public final class Spawner {
             this.reachability = reachability;
         }
 
-        private List<Position> freeFloorCells() {
-            return SpawnerHelper.freeFloorCells(board);
-        }
-
         public void spawnEnemies() {
             if (GameConfig.numEnemies <= 0) return;
 
-            List<Position> free = freeFloorCells();
-            Position start = board.start();
-            Position exit = board.exit();
+            PositionTable positions = board.positions();
+            Position startPos = board.start();
+            Position exitPos = board.exit();
+            int start = positions.key(startPos);
+            int exit = positions.key(exitPos);
 
-            Position blockStartFront = new Position(start.column() + 1, start.row());
-            Position blockExitFront = new Position(exit.column() - 1, exit.row());
-            free.remove(blockStartFront);
-            free.remove(blockExitFront);
+            // Keep a clear zone around the gates. This also covers the gate front tiles.
+            int[] free = candidates(board, random, GameConfig.numEnemies,
+                    keys -> outsideGateZone(keys, startPos, exitPos));
+            if (free.length == 0) return;
 
-            if (free.isEmpty()) return;
-
-            Collections.shuffle(free, random);
-
-            Set<Position> placedEnemies = new HashSet<>();
-            Set<Position> blocked = new HashSet<>();
+            // Punishments do not block enemies' reachability check, as before.
+            BlockingCheck check = reachability.blockingCheck(start, new int[] { exit }, free);
 
             int placed = 0;
-            for (Position pos : free) {
+            for (int key : free) {
                 if (placed >= GameConfig.numEnemies) break;
 
-                blocked.clear();
-                blocked.addAll(placedEnemies);
-                blocked.add(pos);
-
-                if (!reachability.canReachStartToExit(start, exit, blocked)) continue;
+                if (!check.tryBlock(key)) continue;
 
-                MovingEnemy e = new MovingEnemy(pos, GameConfig.enemyMovePeriod);
+                MovingEnemy e = new MovingEnemy(positions.at(key), GameConfig.enemyMovePeriod);
                 board.registerEnemy(e);
-                placedEnemies.add(pos);
                 placed++;
             }
         }
+
+        private int[] outsideGateZone(int[] keys, Position startPos, Position exitPos) {
+            PositionTable positions = board.positions();
+            int[] out = new int[keys.length];
+            int count = 0;
+            for (int key : keys) {
+                Position p = positions.at(key);
+                if (Board.chebyshev(p, startPos) < GATE_CLEARANCE) continue;
+                if (Board.chebyshev(p, exitPos) < GATE_CLEARANCE) continue;
+                out[count++] = key;
+            }
+            return Arrays.copyOf(out, count);
+        }
     }
 }
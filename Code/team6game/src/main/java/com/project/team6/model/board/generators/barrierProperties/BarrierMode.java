@@ -24,6 +24,12 @@ public enum BarrierMode {
      */
     TEXT,
 
+    /**
+     * Read the terrain from a binary map file.
+     * The resource is a filesystem path or, failing that, a classpath resource.
+     */
+    BINARY,
+
     /**
      * Create internal barriers randomly.
      * The layout changes each run.
@@ -8,7 +8,7 @@ import java.util.Objects;
 
 /**
  * Options for barrier generation.
- * For TEXT mode, rows and cols are ignored because the file defines size.
+ * For TEXT and BINARY modes, rows and cols are ignored because the file defines size.
  * This object is immutable.
  */
 public final class BarrierOptions {
@@ -25,7 +25,7 @@ public final class BarrierOptions {
     /** Positions of internal barriers. Used only in PROVIDED mode. */
     public final List<Position> barrierPositions = GameConfig.barrierList;
 
-    /** Classpath resource for the map. Used only in TEXT mode. */
+    /** Map file path or classpath resource. Used only in TEXT and BINARY modes. */
     public final String mapResource = GameConfig.mapResource;
 
     /**
@@ -0,0 +1,224 @@
+package com.project.team6.model.board.generators.helpers;
+
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.utilities.BitFlood;
+import com.project.team6.model.board.utilities.BitPlane;
+
+import java.util.Arrays;
+
+/**
+ * Incremental version of {@link GeneratorHelper#isBarrierConfigurationValid}
+ * for placing barriers one at a time.
+ * <p>
+ * The layout stays valid after every accepted barrier: passable cells form
+ * one 4-connected region that holds start and exit, and no passable cell is
+ * isolated. A new barrier can only break that by splitting its passable
+ * 4-neighbors apart. The 8-neighborhood settles most cases: neighbors
+ * joined through an open diagonal corner stay joined. Only when the ring
+ * shows two or more separate groups does a search run, growing one
+ * breadth-first front per group in turns until the fronts meet or one runs
+ * dry. That costs about the size of the smaller side, not the whole board.
+ * <p>
+ * Passable and isolated counts are kept up to date on every placement.
+ */
+public final class BarrierValidator {
+
+    private final int rows;
+    private final int cols;
+    private final BitPlane open;
+
+    /** Open 4-neighbor count per cell. */
+    private final byte[] degree;
+
+    private int passable;
+    private int isolated;
+    private int searches;
+
+    /** Search state: label per cell, valid when its stamp matches the epoch. */
+    private final int[] stamp;
+    private final byte[] label;
+    private int epoch;
+
+    /** One FIFO per group around the candidate. */
+    private final int[][] queues = new int[4][16];
+    private final int[] heads = new int[4];
+    private final int[] tails = new int[4];
+    private final int[] parent = new int[4];
+
+    /**
+     * Builds the validator from a valid layout.
+     *
+     * @param walls    wall mask
+     * @param barriers barrier mask
+     * @param start    start position
+     * @param exit     exit position
+     * @throws IllegalArgumentException if the layout is not valid
+     */
+    public BarrierValidator(boolean[][] walls, boolean[][] barriers, Position start, Position exit) {
+        if (!GeneratorHelper.isBarrierConfigurationValid(walls, barriers, start, exit)) {
+            throw new IllegalArgumentException("Initial barrier layout is not valid");
+        }
+        this.rows = walls.length;
+        this.cols = walls[0].length;
+        this.open = new BitPlane(rows, cols);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < cols; column++) {
+                if (!walls[row][column] && !barriers[row][column]) open.set(column, row);
+            }
+        }
+        open.set(start.column(), start.row());
+        open.set(exit.column(), exit.row());
+
+        int size = rows * cols;
+        this.degree = new byte[size];
+        this.stamp = new int[size];
+        this.label = new byte[size];
+        for (int key = 0; key < size; key++) {
+            if (!open.get(key)) continue;
+            passable++;
+            int column = key % cols;
+            int row = key / cols;
+            int count = 0;
+            if (row > 0 && open.get(key - cols)) count++;
+            if (row < rows - 1 && open.get(key + cols)) count++;
+            if (column > 0 && open.get(key - 1)) count++;
+            if (column < cols - 1 && open.get(key + 1)) count++;
+            degree[key] = (byte) count;
+        }
+        this.isolated = BitFlood.isolated(open, new BitPlane(rows, cols));
+    }
+
+    /** @return number of passable cells */
+    public int passableCount() { return passable; }
+
+    /** @return number of passable cells with no passable 4-neighbor */
+    public int isolatedCount() { return isolated; }
+
+    /** @return number of placements that needed a search */
+    public int searchCount() { return searches; }
+
+    /**
+     * Places a barrier if the layout stays valid.
+     *
+     * @param column interior column
+     * @param row    interior row
+     * @return true if the barrier was placed, false if it was rejected
+     * @throws IllegalArgumentException if the cell is on the border
+     */
+    public boolean tryPlace(int column, int row) {
+        if (column <= 0 || row <= 0 || column >= cols - 1 || row >= rows - 1) {
+            throw new IllegalArgumentException("Barrier must be inside the border");
+        }
+        int key = row * cols + column;
+        if (!open.get(key)) return false;
+
+        int[] orthogonal = { key - cols, key + 1, key + cols, key - 1 };
+        int[] corners = { key - cols + 1, key + cols + 1, key + cols - 1, key - cols - 1 };
+
+        // Group open neighbors that touch through an open corner.
+        for (int i = 0; i < 4; i++) parent[i] = i;
+        for (int i = 0; i < 4; i++) {
+            int j = (i + 1) & 3;
+            if (open.get(orthogonal[i]) && open.get(orthogonal[j]) && open.get(corners[i])) {
+                union(i, j);
+            }
+        }
+        int[] reps = new int[4];
+        int groups = 0;
+        int lonely = 0;
+        for (int i = 0; i < 4; i++) {
+            int n = orthogonal[i];
+            if (!open.get(n)) continue;
+            if (degree[n] == 1) lonely++;
+            if (find(i) == i) reps[groups++] = n;
+        }
+
+        // A neighbor whose only open neighbor is this cell would be isolated.
+        if (isolated + lonely > 0) return false;
+        if (groups >= 2 && !staysConnected(key, reps, groups)) return false;
+
+        open.clear(key);
+        passable--;
+        for (int n : orthogonal) {
+            if (open.get(n) && --degree[n] == 0) isolated++;
+        }
+        return true;
+    }
+
+    // -----------------------------------------------------------------
+    // Search
+    // -----------------------------------------------------------------
+
+    /** Grows one front per group, avoiding the blocked key, until all meet or one runs dry. */
+    private boolean staysConnected(int blocked, int[] reps, int groups) {
+        searches++;
+        if (++epoch == 0) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        stamp[blocked] = epoch;
+        label[blocked] = -1;
+
+        for (int g = 0; g < groups; g++) {
+            parent[g] = g;
+            heads[g] = 0;
+            tails[g] = 0;
+            stamp[reps[g]] = epoch;
+            label[reps[g]] = (byte) g;
+            push(g, reps[g]);
+        }
+        int roots = groups;
+
+        while (true) {
+            for (int g = 0; g < groups; g++) {
+                if (heads[g] == tails[g]) continue;
+                int key = queues[g][heads[g]++];
+                int column = key % cols;
+                int row = key / cols;
+                for (int d = 0; d < 4; d++) {
+                    int n;
+                    if (d == 0) { if (row == 0) continue; n = key - cols; }
+                    else if (d == 1) { if (column == cols - 1) continue; n = key + 1; }
+                    else if (d == 2) { if (row == rows - 1) continue; n = key + cols; }
+                    else { if (column == 0) continue; n = key - 1; }
+                    if (!open.get(n)) continue;
+
+                    if (stamp[n] != epoch) {
+                        stamp[n] = epoch;
+                        label[n] = (byte) g;
+                        push(g, n);
+                    } else if (label[n] >= 0 && find(label[n]) != find(g)) {
+                        union(label[n], g);
+                        if (--roots == 1) return true;
+                    }
+                }
+            }
+
+            // A merged group whose fronts are all empty is cut off.
+            for (int g = 0; g < groups; g++) {
+                if (find(g) != g) continue;
+                boolean dry = true;
+                for (int h = 0; h < groups && dry; h++) {
+                    if (find(h) == g && heads[h] != tails[h]) dry = false;
+                }
+                if (dry) return false;
+            }
+        }
+    }
+
+    private void push(int g, int key) {
+        if (tails[g] == queues[g].length) queues[g] = Arrays.copyOf(queues[g], tails[g] * 2);
+        queues[g][tails[g]++] = key;
+    }
+
+    private int find(int i) {
+        while (parent[i] != i) i = parent[i];
+        return i;
+    }
+
+    private void union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra != rb) parent[Math.max(ra, rb)] = Math.min(ra, rb);
+    }
+}
@@ -0,0 +1,338 @@
+package com.project.team6.model.board.generators.helpers;
+
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.PackedTerrain;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.TerrainSource;
+import com.project.team6.model.board.generators.BoardGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes the binary map format.
+ * <p>
+ * Layout, big-endian: magic "T6MP", version (short), flags (short, bit 0 =
+ * run-length encoded), rows, cols, start column, start row, exit column,
+ * exit row, payload length (ints), then the payload. Start and exit
+ * coordinates of -1 mean the map leaves them to the loader, as text maps
+ * without 'S' and 'E' do; the output then has null start and exit.
+ * A raw payload holds the {@link PackedTerrain} codes, four tiles per byte.
+ * An encoded payload holds runs, each one unsigned LEB128 varint of
+ * {@code (length << 2) | code}. Code 3 is reserved.
+ * <p>
+ * Raw files from the filesystem are read in place through a memory map;
+ * encoded files are unpacked into one byte array of the raw size.
+ */
+public final class BinaryMap {
+
+    /** "T6MP" in ASCII. */
+    public static final int MAGIC = 0x54364D50;
+    public static final short VERSION = 1;
+    public static final short FLAG_RLE = 1;
+
+    private static final int HEADER_BYTES = 36;
+
+    private BinaryMap() { }
+
+    // --------------------------------------------------------------------
+    // Reading
+    // --------------------------------------------------------------------
+
+    /**
+     * Reads a map file through a memory map.
+     *
+     * @param path map file
+     * @return generator output backed by the file
+     * @throws IllegalArgumentException if the file is not a valid map
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public static BoardGenerator.Output read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading map " + path, e);
+        }
+    }
+
+    /**
+     * Reads a map from the classpath.
+     * Resources on the filesystem are memory-mapped; resources inside a jar
+     * are read into a heap buffer.
+     *
+     * @param resourcePath path relative to the classpath root
+     * @return generator output
+     * @throws IllegalArgumentException if the resource is missing or not a valid map
+     * @throws UncheckedIOException if the resource cannot be read
+     */
+    public static BoardGenerator.Output readResource(String resourcePath) {
+        URL url = BoardGenerator.class.getClassLoader().getResource(resourcePath);
+        if (url == null) throw new IllegalArgumentException("Resource not found: " + resourcePath);
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return read(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("Bad resource URL: " + url, e);
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            return read(ByteBuffer.wrap(in.readAllBytes()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading resource " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Reads a map from a buffer. A raw payload is not copied.
+     *
+     * @param buffer map bytes from position 0
+     * @return generator output
+     * @throws IllegalArgumentException if the bytes are not a valid map
+     */
+    public static BoardGenerator.Output read(ByteBuffer buffer) {
+        if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary map");
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported map version " + version);
+        short flags = buffer.getShort(6);
+        int rows = buffer.getInt(8);
+        int cols = buffer.getInt(12);
+        int payload = buffer.getInt(32);
+
+        if (rows < 3 || cols < 3) throw new IllegalArgumentException("rows/cols must be >= 3");
+        try {
+            Math.multiplyExact(rows, cols);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Map is too large", e);
+        }
+        Position start = null;
+        Position exit = null;
+        boolean noStart = isUnset(buffer, 16);
+        boolean noExit = isUnset(buffer, 24);
+        if (noStart != noExit) {
+            throw new IllegalArgumentException("Map start and exit must both be set or both be -1");
+        }
+        if (!noStart) {
+            start = position(buffer, 16, rows, cols, "start");
+            exit = position(buffer, 24, rows, cols, "exit");
+        }
+        if (payload < 0 || (long) HEADER_BYTES + payload > buffer.limit()) {
+            throw new IllegalArgumentException("Map payload is truncated");
+        }
+
+        PackedTerrain terrain;
+        if ((flags & FLAG_RLE) == 0) {
+            if (payload != PackedTerrain.packedLength(rows, cols)) {
+                throw new IllegalArgumentException("Raw payload is " + payload + " bytes, expected "
+                        + PackedTerrain.packedLength(rows, cols));
+            }
+            checkCodes(buffer, HEADER_BYTES, rows * cols);
+            terrain = new PackedTerrain(rows, cols, start, exit, buffer, HEADER_BYTES);
+        } else {
+            byte[] packed = decodeRuns(buffer, HEADER_BYTES, HEADER_BYTES + payload, rows * cols);
+            terrain = new PackedTerrain(rows, cols, start, exit, ByteBuffer.wrap(packed), 0);
+        }
+        return new BoardGenerator.Output(start, exit, terrain);
+    }
+
+    // --------------------------------------------------------------------
+    // Writing
+    // --------------------------------------------------------------------
+
+    /**
+     * Encodes a layout.
+     *
+     * @param terrain terrain to write
+     * @param start   start position, or null to leave it to the loader
+     * @param exit    exit position, or null to leave it to the loader
+     * @param rle     true to run-length encode the payload
+     * @return map bytes
+     */
+    public static byte[] encode(TerrainSource terrain, Position start, Position exit, boolean rle) {
+        int rows = terrain.rows();
+        int cols = terrain.cols();
+        byte[] payload = rle ? encodeRuns(terrain) : pack(terrain);
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        out.putInt(MAGIC).putShort(VERSION).putShort(rle ? FLAG_RLE : 0)
+                .putInt(rows).putInt(cols)
+                .putInt(start == null ? -1 : start.column()).putInt(start == null ? -1 : start.row())
+                .putInt(exit == null ? -1 : exit.column()).putInt(exit == null ? -1 : exit.row())
+                .putInt(payload.length)
+                .put(payload);
+        return out.array();
+    }
+
+    /**
+     * Writes a generator output to a file.
+     *
+     * @param layout layout to write
+     * @param path   target file, replaced if present
+     * @param rle    true to run-length encode the payload
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public static void write(BoardGenerator.Output layout, Path path, boolean rle) {
+        try {
+            Files.write(path, encode(layout.source(), layout.start(), layout.exit(), rle));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing map " + path, e);
+        }
+    }
+
+    // --------------------------------------------------------------------
+    // Text conversion
+    // --------------------------------------------------------------------
+
+    /**
+     * Converts a text map ('X' wall, '#' barrier, 'S' start, 'E' exit,
+     * anything else floor) into a binary map file.
+     *
+     * @param text   text map file
+     * @param binary target file, replaced if present
+     * @param rle    true to run-length encode the payload
+     * @throws IllegalArgumentException if the text map is malformed
+     * @throws UncheckedIOException if a file cannot be read or written
+     */
+    public static void convertText(Path text, Path binary, boolean rle) {
+        TextMapParser.Result map = TextMapParser.parse(text);
+        Cell.Terrain[][] terrain = map.terrain();
+        write(new BoardGenerator.Output(terrain.length, terrain[0].length, map.start(), map.exit(), terrain),
+                binary, rle);
+    }
+
+    /**
+     * Command line converter: {@code BinaryMap <in.txt> <out.t6m> [--rle]}.
+     *
+     * @param args input path, output path, optional --rle
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("usage: BinaryMap <in.txt> <out.t6m> [--rle]");
+            System.exit(2);
+        }
+        boolean rle = args.length > 2 && "--rle".equals(args[2]);
+        convertText(Path.of(args[0]), Path.of(args[1]), rle);
+    }
+
+    // --------------------------------------------------------------------
+    // Payload codecs
+    // --------------------------------------------------------------------
+
+    private static byte[] pack(TerrainSource terrain) {
+        int cols = terrain.cols();
+        byte[] packed = new byte[PackedTerrain.packedLength(terrain.rows(), cols)];
+        for (int row = 0; row < terrain.rows(); row++) {
+            for (int column = 0; column < cols; column++) {
+                int index = row * cols + column;
+                packed[index >>> 2] |= (byte) (PackedTerrain.code(terrain.terrainAt(column, row)) << ((index & 3) << 1));
+            }
+        }
+        return packed;
+    }
+
+    private static byte[] encodeRuns(TerrainSource terrain) {
+        int cols = terrain.cols();
+        int size = terrain.rows() * cols;
+        ByteBuffer out = ByteBuffer.allocate(64);
+        int index = 0;
+        while (index < size) {
+            int code = PackedTerrain.code(terrain.terrainAt(index % cols, index / cols));
+            int end = index + 1;
+            while (end < size && PackedTerrain.code(terrain.terrainAt(end % cols, end / cols)) == code) end++;
+
+            long value = ((long) (end - index) << 2) | code;
+            if (out.remaining() < 10) {
+                out = ByteBuffer.allocate(out.capacity() * 2).put(out.flip());
+            }
+            while (value >= 0x80) {
+                out.put((byte) (value | 0x80));
+                value >>>= 7;
+            }
+            out.put((byte) value);
+            index = end;
+        }
+        byte[] payload = new byte[out.position()];
+        out.flip().get(payload);
+        return payload;
+    }
+
+    private static byte[] decodeRuns(ByteBuffer in, int from, int to, int size) {
+        byte[] packed = new byte[PackedTerrain.packedLength(1, size)];
+        int index = 0;
+        int at = from;
+        while (at < to) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (at >= to || shift > 35) throw new IllegalArgumentException("Bad run at byte " + at);
+                b = in.get(at++);
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int code = (int) (value & 3);
+            long length = value >>> 2;
+            if (code == 3 || length == 0 || index + length > size) {
+                throw new IllegalArgumentException("Bad run at byte " + at);
+            }
+            if (code != PackedTerrain.FLOOR) {
+                for (int end = index + (int) length; index < end; index++) {
+                    packed[index >>> 2] |= (byte) (code << ((index & 3) << 1));
+                }
+            } else {
+                index += (int) length;
+            }
+        }
+        if (index != size) throw new IllegalArgumentException("Map payload is truncated");
+        return packed;
+    }
+
+    /**
+     * Rejects raw codes that name no terrain. Code 3 has both bits set,
+     * so one mask test covers every tile of a word.
+     */
+    private static void checkCodes(ByteBuffer in, int from, int size) {
+        final long lowBits = 0x5555_5555_5555_5555L;
+        int full = size >>> 2;
+        int at = from;
+        for (int end = from + (full & ~7); at < end; at += 8) {
+            long v = in.getLong(at);
+            if ((v & (v >>> 1) & lowBits) != 0) {
+                throw new IllegalArgumentException("Bad terrain code near byte " + at);
+            }
+        }
+        for (int end = from + full; at < end; at++) {
+            int b = in.get(at);
+            if ((b & (b >>> 1) & 0x55) != 0) throw new IllegalArgumentException("Bad terrain code at byte " + at);
+        }
+        int rest = size & 3;
+        if (rest != 0) {
+            int b = in.get(at) & ((1 << (rest << 1)) - 1);
+            if ((b & (b >>> 1) & 0x55) != 0) throw new IllegalArgumentException("Bad terrain code at byte " + at);
+        }
+    }
+
+    /** @return true if the column and row at an offset are both -1, left to the loader */
+    private static boolean isUnset(ByteBuffer buffer, int at) {
+        return buffer.getInt(at) == -1 && buffer.getInt(at + 4) == -1;
+    }
+
+    private static Position position(ByteBuffer buffer, int at, int rows, int cols, String what) {
+        int column = buffer.getInt(at);
+        int row = buffer.getInt(at + 4);
+        if (column < 0 || row < 0 || column >= cols || row >= rows) {
+            throw new IllegalArgumentException("Map " + what + " is outside the grid");
+        }
+        return new Position(column, row);
+    }
+}
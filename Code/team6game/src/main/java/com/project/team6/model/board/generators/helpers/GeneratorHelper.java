@@ -2,17 +2,15 @@ package com.project.team6.model.board.generators.helpers;
 
 import com.project.team6.model.board.Cell;
 import com.project.team6.model.board.Position;
-import com.project.team6.model.board.generators.BoardGenerator;
+import com.project.team6.model.board.utilities.BfsWorkspace;
+import com.project.team6.model.board.utilities.BitFlood;
+import com.project.team6.model.board.utilities.BitPlane;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.*;
 
 /**
  * Helper methods for generating and validating board terrain.
- * Includes BFS utilities, size checks, wall creation, and file loading.
+ * Includes BFS utilities, size checks, and wall creation.
  */
 public class GeneratorHelper {
     // --------------------------------------------------------------------
@@ -35,32 +33,38 @@ public class GeneratorHelper {
     /**
      * Runs BFS and counts how many passable cells are reachable.
      * Marks visited cells in the provided matrix.
+     * Uses the calling thread's {@link BfsWorkspace}, so it does not allocate.
      *
      * @param terrain terrain grid
      * @param start   starting position
-     * @param visited visited flags, same size as terrain
+     * @param visited visited flags, same size as terrain; may be null when only the count is needed
      * @return number of reachable cells
      */
     public static int BFSCount(Cell.Terrain[][] terrain,
                                 Position start,
                                 boolean[][] visited) {
+        int rows = terrain.length;
+        int cols = terrain[0].length;
+        BfsWorkspace ws = BfsWorkspace.forThread(rows, cols);
+        ws.beginSearch();
 
-        Deque<Position> q = new ArrayDeque<>();
-        q.addLast(start);
-        visited[start.row()][start.column()] = true;
+        int first = start.row() * cols + start.column();
+        ws.visit(first);
+        ws.enqueue(first);
+        if (visited != null) visited[start.row()][start.column()] = true;
 
         int count = 0;
-        while (!q.isEmpty()) {
-            Position p = q.removeFirst();
+        while (!ws.queueIsEmpty()) {
+            int key = ws.dequeue();
             count++;
 
-            int column = p.column();
-            int row = p.row();
+            int column = key % cols;
+            int row = key / cols;
 
-            tryVisit(terrain, visited, q, column + 1, row);
-            tryVisit(terrain, visited, q, column - 1, row);
-            tryVisit(terrain, visited, q, column, row + 1);
-            tryVisit(terrain, visited, q, column, row - 1);
+            tryVisit(terrain, visited, ws, column + 1, row);
+            tryVisit(terrain, visited, ws, column - 1, row);
+            tryVisit(terrain, visited, ws, column, row + 1);
+            tryVisit(terrain, visited, ws, column, row - 1);
         }
         return count;
     }
@@ -69,23 +73,25 @@ public class GeneratorHelper {
      * Adds a cell to the BFS queue if it is inside the grid, not visited, and passable.
      *
      * @param terrain terrain grid
-     * @param visited visited flags
-     * @param q       BFS queue
-     * @param column       column index
-     * @param row       row index
+     * @param visited visited flags, may be null
+     * @param ws      workspace holding the visit stamps and queue
+     * @param column  column index
+     * @param row     row index
      */
-    public static void tryVisit(Cell.Terrain[][] terrain,
+    private static void tryVisit(Cell.Terrain[][] terrain,
                                  boolean[][] visited,
-                                 Deque<Position> q,
+                                 BfsWorkspace ws,
                                  int column, int row) {
         int rows = terrain.length;
         int cols = terrain[0].length;
         if (column < 0 || column >= cols || row < 0 || row >= rows) return;
-        if (visited[row][column]) return;
         if (!isPassable(terrain[row][column])) return;
 
-        visited[row][column] = true;
-        q.addLast(new Position(column, row));
+        int key = row * cols + column;
+        if (!ws.visit(key)) return;
+
+        if (visited != null) visited[row][column] = true;
+        ws.enqueue(key);
     }
 
     /**
@@ -129,6 +135,86 @@ public class GeneratorHelper {
         return false;
     }
 
+    // --------------------------------------------------------------------
+    // Bit plane helpers
+    // --------------------------------------------------------------------
+
+    /**
+     * Builds a bit plane of passable cells from a terrain grid.
+     *
+     * @param terrain terrain grid
+     * @return plane with passable cells set
+     */
+    public static BitPlane passablePlane(Cell.Terrain[][] terrain) {
+        int rows = terrain.length;
+        int cols = terrain[0].length;
+        BitPlane plane = new BitPlane(rows, cols);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < cols; column++) {
+                if (isPassable(terrain[row][column])) plane.set(column, row);
+            }
+        }
+        return plane;
+    }
+
+    /**
+     * Builds a bit plane of passable cells straight from wall and barrier masks.
+     * Start and exit are passable even when they sit on a wall.
+     *
+     * @param walls    wall mask
+     * @param barriers barrier mask
+     * @param start    start position, may be null
+     * @param exit     exit position, may be null
+     * @return plane with passable cells set
+     */
+    public static BitPlane passablePlane(boolean[][] walls,
+                                         boolean[][] barriers,
+                                         Position start,
+                                         Position exit) {
+        BitPlane plane = new BitPlane(walls.length, walls[0].length);
+        fillPassable(plane, walls, barriers, start, exit);
+        return plane;
+    }
+
+    /**
+     * Writes passable cells from wall and barrier masks into an existing plane.
+     *
+     * @param plane    output plane, same size as the masks; overwritten
+     * @param walls    wall mask
+     * @param barriers barrier mask
+     * @param start    start position, may be null
+     * @param exit     exit position, may be null
+     */
+    private static void fillPassable(BitPlane plane,
+                                     boolean[][] walls,
+                                     boolean[][] barriers,
+                                     Position start,
+                                     Position exit) {
+        int rows = walls.length;
+        int cols = walls[0].length;
+        plane.clearAll();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < cols; column++) {
+                if (!walls[row][column] && !barriers[row][column]) plane.set(column, row);
+            }
+        }
+        if (start != null) plane.set(start.column(), start.row());
+        if (exit != null) plane.set(exit.column(), exit.row());
+    }
+
+    /**
+     * Word-parallel version of {@link #BFSCount(Cell.Terrain[][], Position, boolean[][])}.
+     * Marks reached cells in the provided plane.
+     *
+     * @param passable passable cells
+     * @param start    starting position
+     * @param visited  output plane, same size as passable; overwritten
+     * @return number of reachable cells
+     */
+    public static int BFSCount(BitPlane passable, Position start, BitPlane visited) {
+        return BitFlood.flood(passable, start.column(), start.row(), visited);
+    }
+
     // --------------------------------------------------------------------
     // Validation for RANDOM configuration
     // --------------------------------------------------------------------
@@ -136,6 +222,8 @@ public class GeneratorHelper {
     /**
      * Validates a barrier layout for the random mode.
      * Requires exit reachability, full connectivity of passable cells, and no isolated floor.
+     * Works on bit planes, so each check handles 64 cells per word.
+     * The planes come from the calling thread's {@link BfsWorkspace}.
      *
      * @param walls    wall mask
      * @param barriers barrier mask
@@ -147,28 +235,26 @@ public class GeneratorHelper {
                                                 boolean[][] barriers,
                                                 Position start,
                                                 Position exit) {
-        int rows = walls.length;
-        int cols = walls[0].length;
-
-        Cell.Terrain[][] terrain =
-                toTerrainGrid(rows, cols, walls, barriers, start, exit);
+        BfsWorkspace ws = BfsWorkspace.forThread(walls.length, walls[0].length);
+        BitPlane passable = ws.plane(0);
+        BitPlane scratch = ws.plane(1);
+        fillPassable(passable, walls, barriers, start, exit);
 
-        boolean[][] visited = new boolean[rows][cols];
-        int reachable = BFSCount(terrain, start, visited);
+        int reachable = BFSCount(passable, start, scratch);
 
         // Exit must be reachable
-        if (!visited[exit.row()][exit.column()]) {
+        if (!scratch.get(exit.column(), exit.row())) {
             return false;
         }
 
         // All passable cells must be connected
-        int totalPassable = countPassable(terrain);
+        int totalPassable = passable.cardinality();
         if (reachable < totalPassable) {
             return false;
         }
 
         // No isolated floor cells
-        if (hasIsolatedFloor(terrain)) {
+        if (BitFlood.isolated(passable, scratch) > 0) {
             return false;
         }
 
@@ -274,31 +360,4 @@ public class GeneratorHelper {
         }
         return t;
     }
-
-    /**
-     * Reads all lines from a classpath resource.
-     *
-     * @param resourcePath path relative to the classpath root
-     * @return list of lines in order
-     * @throws IllegalArgumentException if the resource is not found
-     * @throws RuntimeException if an IO error occurs
-     */
-    public static List<String> readLinesFromResource(String resourcePath) {
-        try (InputStream in = BoardGenerator.class.getClassLoader()
-                .getResourceAsStream(resourcePath)) {
-            if (in == null) {
-                throw new IllegalArgumentException("Resource not found: " + resourcePath);
-            }
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(in))) {
-                List<String> lines = new ArrayList<>();
-                String line;
-                while ((line = br.readLine()) != null) {
-                    lines.add(line);
-                }
-                return lines;
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading resource " + resourcePath, e);
-        }
-    }
 }
@@ -0,0 +1,178 @@
+package com.project.team6.model.board.generators.helpers;
+
+import com.project.team6.model.board.utilities.BfsWorkspace;
+import com.project.team6.model.board.utilities.BitPlane;
+
+/**
+ * Cell-by-cell searches from one cell to another over an open-cell plane.
+ * Each search counts expanded cells so strategies can be compared.
+ * All buffers come from a {@link BfsWorkspace}; slot 0 must hold the open plane.
+ */
+final class GoalSearch {
+
+    private GoalSearch() { }
+
+    /**
+     * Plain breadth-first search. Stops when the target is expanded.
+     *
+     * @return expanded count, negated minus one when the target is unreachable
+     */
+    static int bfs(BitPlane open, int from, int to, BfsWorkspace ws) {
+        int cols = open.cols();
+        int size = open.rows() * cols;
+        ws.beginSearch();
+        ws.visit(from);
+        ws.enqueue(from);
+
+        int expanded = 0;
+        while (!ws.queueIsEmpty()) {
+            int key = ws.dequeue();
+            expanded++;
+            if (key == to) return expanded;
+
+            for (int dir = 0; dir < 4; dir++) {
+                int next = neighbor(key, dir, cols, size);
+                if (next >= 0 && open.get(next) && ws.visit(next)) ws.enqueue(next);
+            }
+        }
+        return -expanded - 1;
+    }
+
+    /**
+     * Breadth-first search from both ends at once. The two frontiers share
+     * one FIFO queue, so they grow level by level in turn. Stops when they
+     * touch, or as soon as either side runs out of cells.
+     *
+     * @return expanded count, negated minus one when the target is unreachable
+     */
+    static int bidirectional(BitPlane open, int from, int to, BfsWorkspace ws) {
+        int cols = open.cols();
+        int size = open.rows() * cols;
+        BitPlane forward = ws.plane(1);
+        BitPlane backward = ws.plane(2);
+        forward.clearAll();
+        backward.clearAll();
+
+        ws.beginSearch();
+        forward.set(from);
+        backward.set(to);
+        ws.enqueue(from);
+        ws.enqueue(to);
+        int forwardQueued = 1;
+        int backwardQueued = 1;
+
+        int expanded = 0;
+        while (!ws.queueIsEmpty()) {
+            int key = ws.dequeue();
+            expanded++;
+
+            boolean isForward = forward.get(key);
+            BitPlane mine = isForward ? forward : backward;
+            BitPlane other = isForward ? backward : forward;
+            if (isForward) forwardQueued--; else backwardQueued--;
+
+            for (int dir = 0; dir < 4; dir++) {
+                int next = neighbor(key, dir, cols, size);
+                if (next < 0 || !open.get(next)) continue;
+                if (other.get(next)) return expanded;
+                if (mine.get(next)) continue;
+
+                mine.set(next);
+                ws.enqueue(next);
+                if (isForward) forwardQueued++; else backwardQueued++;
+            }
+
+            // One side explored its whole component without meeting the other.
+            if (forwardQueued == 0 || backwardQueued == 0) return -expanded - 1;
+        }
+        return -expanded - 1;
+    }
+
+    /**
+     * A* with the Manhattan distance, which is exact on an open 4-connected
+     * grid. Cells are marked when first queued, which is enough for
+     * reachability. The open list is a binary heap of {@code f << 32 | key}.
+     *
+     * @return expanded count, negated minus one when the target is unreachable
+     */
+    static int aStar(BitPlane open, int from, int to, BfsWorkspace ws) {
+        int cols = open.cols();
+        int size = open.rows() * cols;
+        int toColumn = to % cols;
+        int toRow = to / cols;
+
+        ws.beginSearch();
+        int[] cost = ws.ints(size);
+        long[] heap = ws.longs(size);
+        int count = 0;
+
+        ws.visit(from);
+        cost[from] = 0;
+        count = push(heap, count, manhattan(from, cols, toColumn, toRow), from);
+
+        int expanded = 0;
+        while (count > 0) {
+            int key = (int) heap[0];
+            count = pop(heap, count);
+            expanded++;
+            if (key == to) return expanded;
+
+            for (int dir = 0; dir < 4; dir++) {
+                int next = neighbor(key, dir, cols, size);
+                if (next < 0 || !open.get(next) || !ws.visit(next)) continue;
+                cost[next] = cost[key] + 1;
+                count = push(heap, count, cost[next] + manhattan(next, cols, toColumn, toRow), next);
+            }
+        }
+        return -expanded - 1;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    /** @return neighbor key in a direction 0..3, or -1 past the edge */
+    private static int neighbor(int key, int dir, int cols, int size) {
+        int column = key % cols;
+        return switch (dir) {
+            case 0 -> column + 1 < cols ? key + 1 : -1;
+            case 1 -> column > 0 ? key - 1 : -1;
+            case 2 -> key + cols < size ? key + cols : -1;
+            default -> key - cols >= 0 ? key - cols : -1;
+        };
+    }
+
+    private static int manhattan(int key, int cols, int toColumn, int toRow) {
+        return Math.abs(key % cols - toColumn) + Math.abs(key / cols - toRow);
+    }
+
+    /** Sifts a new entry up; returns the new heap size. */
+    private static int push(long[] heap, int count, int priority, int key) {
+        long entry = ((long) priority << 32) | (key & 0xFFFFFFFFL);
+        int i = count;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= entry) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+        return count + 1;
+    }
+
+    /** Removes the root and sifts the last entry down; returns the new heap size. */
+    private static int pop(long[] heap, int count) {
+        long last = heap[--count];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= count) break;
+            if (child + 1 < count && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= last) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (count > 0) heap[i] = last;
+        return count;
+    }
+}
@@ -0,0 +1,166 @@
+package com.project.team6.model.board.generators.helpers;
+
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.utilities.BitPlane;
+
+import java.util.Arrays;
+
+/**
+ * Answers "can this cell be blocked without cutting off a required cell"
+ * for many candidates at once.
+ * <p>
+ * One iterative Tarjan pass from the root finds the cut vertices of the
+ * open cells (the joints of the block-cut tree) and counts required cells
+ * per DFS subtree. Blocking a cell disconnects a required cell exactly when
+ * the cell is a cut vertex above a subtree that holds one, so each query is
+ * a lookup. Accepting a block reruns the pass, which costs O(cells) per
+ * placement instead of a flood per candidate and target.
+ */
+public final class PlacementEngine {
+
+    private final int rows;
+    private final int cols;
+    private final int root;
+
+    /** Open cells: walkable terrain minus blocked cells. */
+    private final BitPlane open;
+
+    /** Required cells, by packed key. */
+    private final boolean[] required;
+    private final int[] requiredKeys;
+
+    // Tarjan state, reused by every pass.
+    private final int[] disc;
+    private final int[] low;
+    private final int[] parent;
+    private final int[] requiredBelow;
+    private final byte[] nextDir;
+    private final int[] stack;
+    private final boolean[] critical;
+    private boolean allReachable;
+
+    /**
+     * Builds the engine over the walkable terrain of a board.
+     *
+     * @param board        board to read
+     * @param rootKey      packed key every required cell must stay connected to
+     * @param requiredKeys packed keys that must stay reachable from the root
+     */
+    public PlacementEngine(Board board, int rootKey, int[] requiredKeys) {
+        this.rows = board.rows();
+        this.cols = board.cols();
+        this.root = rootKey;
+        this.open = board.walkablePlane().copy();
+        this.open.set(rootKey);
+
+        int size = rows * cols;
+        this.required = new boolean[size];
+        this.requiredKeys = requiredKeys.clone();
+        for (int key : requiredKeys) required[key] = true;
+
+        this.disc = new int[size];
+        this.low = new int[size];
+        this.parent = new int[size];
+        this.requiredBelow = new int[size];
+        this.nextDir = new byte[size];
+        this.stack = new int[size];
+        this.critical = new boolean[size];
+        rebuild();
+    }
+
+    /**
+     * Checks if every required cell is reachable from the root right now.
+     *
+     * @return true if all are reachable
+     */
+    public boolean allRequiredReachable() {
+        return allReachable;
+    }
+
+    /**
+     * Checks if blocking a cell keeps every required cell reachable.
+     *
+     * @param key packed key of the candidate
+     * @return true if the cell can be blocked
+     */
+    public boolean canBlock(int key) {
+        if (!allReachable || key == root || required[key]) return false;
+        if (disc[key] == 0) return true;   // not connected to the root at all
+        return !critical[key];
+    }
+
+    /**
+     * Blocks a cell and refreshes the cut vertices.
+     *
+     * @param key packed key to block
+     */
+    public void block(int key) {
+        open.clear(key);
+        rebuild();
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    /** Iterative Tarjan lowlink pass over open cells from the root. */
+    private void rebuild() {
+        Arrays.fill(disc, 0);
+        Arrays.fill(critical, false);
+
+        int time = 0;
+        int top = 0;
+        disc[root] = low[root] = ++time;
+        parent[root] = -1;
+        nextDir[root] = 0;
+        requiredBelow[root] = required[root] ? 1 : 0;
+        stack[top++] = root;
+
+        while (top > 0) {
+            int v = stack[top - 1];
+            if (nextDir[v] < 4) {
+                int w = neighbor(v, nextDir[v]++);
+                if (w < 0 || !open.get(w)) continue;
+                if (disc[w] == 0) {
+                    parent[w] = v;
+                    disc[w] = low[w] = ++time;
+                    nextDir[w] = 0;
+                    requiredBelow[w] = required[w] ? 1 : 0;
+                    stack[top++] = w;
+                } else if (w != parent[v]) {
+                    low[v] = Math.min(low[v], disc[w]);
+                }
+                continue;
+            }
+
+            top--;
+            int p = parent[v];
+            if (p < 0) continue;
+            low[p] = Math.min(low[p], low[v]);
+            requiredBelow[p] += requiredBelow[v];
+            // Removing p cuts v's subtree off from the root.
+            if (low[v] >= disc[p] && requiredBelow[v] > 0) {
+                critical[p] = true;
+            }
+        }
+
+        allReachable = true;
+        for (int key : requiredKeys) {
+            if (disc[key] == 0) {
+                allReachable = false;
+                break;
+            }
+        }
+    }
+
+    /** @return neighbor key in a direction 0..3, or -1 past the edge */
+    private int neighbor(int key, int dir) {
+        int column = key % cols;
+        return switch (dir) {
+            case 0 -> column + 1 < cols ? key + 1 : -1;
+            case 1 -> column > 0 ? key - 1 : -1;
+            case 2 -> key + cols < rows * cols ? key + cols : -1;
+            default -> key - cols >= 0 ? key - cols : -1;
+        };
+    }
+}
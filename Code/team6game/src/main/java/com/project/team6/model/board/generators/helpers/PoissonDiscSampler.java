@@ -0,0 +1,190 @@
+package com.project.team6.model.board.generators.helpers;
+
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.GridView;
+import com.project.team6.model.board.utilities.IntHashMap;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+/**
+ * Picks free cells that keep a minimum distance from each other and from
+ * items already on the board (Bridson's Poisson-disc sampling on tiles).
+ * <p>
+ * New samples are spawned in the ring [r, 2r) around a random active
+ * sample. Accepted samples are filed in a sparse background grid with
+ * cells of side r / sqrt(2), so each cell holds at most one and a distance
+ * check looks at a fixed number of cells. Existing items are checked in
+ * the r-box around a candidate. The work is O(k) for k samples and does
+ * not depend on the board size.
+ */
+public final class PoissonDiscSampler {
+
+    /** Ring candidates tried per active sample before it is retired (Bridson's k). */
+    private static final int TRIES_PER_SAMPLE = 30;
+
+    /** Random free cells tried when the active list runs dry. */
+    private static final int SEED_TRIES = 30;
+
+    private PoissonDiscSampler() { }
+
+    /**
+     * Picks up to {@code count} free floor cells, pairwise at least
+     * {@code minDistance} apart (Euclidean, between tile centers) and at least
+     * that far from every item already on the board. Returns fewer when the
+     * free space runs out. Deterministic for a given Random state.
+     *
+     * @param board       board to read; not modified
+     * @param random      random source
+     * @param count       wanted number of cells
+     * @param minDistance minimum distance in tiles, at least 1
+     * @param accept      extra filter on packed keys, may be null
+     * @return packed keys in pick order
+     */
+    public static int[] sample(Board board, Random random, int count, int minDistance, IntPredicate accept) {
+        if (minDistance < 1) throw new IllegalArgumentException("minDistance must be >= 1");
+        if (count <= 0 || board.freeCellCount() == 0) return new int[0];
+
+        return new Run(board, random, minDistance, accept).pick(count);
+    }
+
+    /** State of one sampling run. */
+    private static final class Run {
+        private final Board board;
+        private final GridView view;
+        private final Random random;
+        private final IntPredicate accept;
+        private final int rows;
+        private final int cols;
+        private final int r;
+        private final int r2;
+
+        /** Background grid: cell side, reach in cells, and sample key per cell. */
+        private final int cellSide;
+        private final int cellReach;
+        private final int gridCols;
+        private final IntHashMap<Integer> grid = new IntHashMap<>();
+
+        /** Samples that may still spawn neighbours. */
+        private int[] active = new int[16];
+        private int activeCount;
+
+        /** Every accepted sample, in pick order. */
+        private int[] picked = new int[16];
+        private int pickedCount;
+
+        private Run(Board board, Random random, int minDistance, IntPredicate accept) {
+            this.board = board;
+            this.view = board.view();
+            this.random = random;
+            this.accept = accept;
+            this.rows = board.rows();
+            this.cols = board.cols();
+            this.r = minDistance;
+            this.r2 = minDistance * minDistance;
+            // Two tiles in one cell are at most (side - 1) * sqrt(2) < r apart.
+            this.cellSide = Math.max(1, (int) Math.ceil(minDistance / Math.sqrt(2)));
+            this.cellReach = (minDistance + cellSide - 1) / cellSide;
+            this.gridCols = (cols + cellSide - 1) / cellSide;
+        }
+
+        private int[] pick(int count) {
+            while (pickedCount < count) {
+                if (activeCount == 0 && !reseed()) break;
+
+                int slot = random.nextInt(activeCount);
+                int found = spawnAround(active[slot]);
+                if (found < 0) {
+                    active[slot] = active[--activeCount];
+                } else {
+                    add(found);
+                }
+            }
+            return Arrays.copyOf(picked, pickedCount);
+        }
+
+        /** Tries random free cells until one is far enough from everything. */
+        private boolean reseed() {
+            for (int t = 0; t < SEED_TRIES; t++) {
+                int[] one = board.sampleFreeCells(1, random);
+                if (one.length == 0) return false;
+                if (fits(one[0])) {
+                    add(one[0]);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** @return a new sample in the ring around a key, or -1 */
+        private int spawnAround(int key) {
+            int column = key % cols;
+            int row = key / cols;
+            for (int t = 0; t < TRIES_PER_SAMPLE; t++) {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                double radius = r * (1 + random.nextDouble());
+                int c = column + (int) Math.round(radius * Math.cos(angle));
+                int rr = row + (int) Math.round(radius * Math.sin(angle));
+                if (c < 0 || c >= cols || rr < 0 || rr >= rows) continue;
+
+                int candidate = rr * cols + c;
+                if (fits(candidate)) return candidate;
+            }
+            return -1;
+        }
+
+        private boolean fits(int key) {
+            if (!view.isFreeFloor(key)) return false;
+            if (accept != null && !accept.test(key)) return false;
+            return farFromSamples(key) && farFromItems(key);
+        }
+
+        private boolean farFromSamples(int key) {
+            int column = key % cols;
+            int row = key / cols;
+            int gc = column / cellSide;
+            int gr = row / cellSide;
+            for (int dr = -cellReach; dr <= cellReach; dr++) {
+                for (int dc = -cellReach; dc <= cellReach; dc++) {
+                    int nc = gc + dc;
+                    int nr = gr + dr;
+                    if (nc < 0 || nr < 0 || nc >= gridCols) continue;
+                    Integer other = grid.get(nr * gridCols + nc);
+                    if (other != null && distance2(key, other) < r2) return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean farFromItems(int key) {
+            int column = key % cols;
+            int row = key / cols;
+            int reach = r - 1;
+            for (int rr = Math.max(0, row - reach); rr <= Math.min(rows - 1, row + reach); rr++) {
+                for (int c = Math.max(0, column - reach); c <= Math.min(cols - 1, column + reach); c++) {
+                    int other = rr * cols + c;
+                    if (view.hasItem(other) && distance2(key, other) < r2) return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(int key) {
+            int column = key % cols;
+            int row = key / cols;
+            grid.put((row / cellSide) * gridCols + column / cellSide, key);
+
+            if (activeCount == active.length) active = Arrays.copyOf(active, activeCount * 2);
+            active[activeCount++] = key;
+            if (pickedCount == picked.length) picked = Arrays.copyOf(picked, pickedCount * 2);
+            picked[pickedCount++] = key;
+        }
+
+        private int distance2(int a, int b) {
+            int dc = a % cols - b % cols;
+            int dr = a / cols - b / cols;
+            return dc * dc + dr * dr;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.project.team6.model.board.generators.helpers;
 
 import com.project.team6.model.board.*;
+import com.project.team6.model.board.utilities.BfsWorkspace;
+import com.project.team6.model.board.utilities.BitFlood;
+import com.project.team6.model.board.utilities.BitPlane;
+import com.project.team6.model.board.utilities.IntHashSet;
 
 import java.util.*;
 
@@ -8,97 +12,193 @@ public final class SpawnerHelper {
 
     private SpawnerHelper() { }
 
-    public static List<Position> freeFloorCells(Board board) {
-        int rows = board.rows();
-        int cols = board.cols();
-        Cell[][] grid = board.grid();
-
-        List<Position> free = new ArrayList<>();
-        for (int row = 0; row < rows; row++) {
-            for (int column = 0; column < cols; column++) {
-                Cell c = grid[row][column];
-                if (c.terrain() == Cell.Terrain.FLOOR &&
-                        c.item() == null &&
-                        !c.hasPlayer() &&
-                        !c.hasEnemy()) {
-                    free.add(new Position(column, row));
-                }
-            }
-        }
-        return free;
+    /**
+     * Cell-by-cell search used by {@link #search}.
+     * Goal-directed strategies stop as soon as the target is found; they
+     * only explore a whole component when the target is unreachable.
+     */
+    public enum SearchStrategy {
+        /** Breadth-first search from the start. */
+        BFS,
+        /** Breadth-first search from both ends until the frontiers meet. */
+        BIDIRECTIONAL,
+        /** A* ordered by path length plus Manhattan distance to the target. */
+        A_STAR
     }
 
-    public static boolean canReach(Board board, Position from,
-                                   Position to,
-                                   Set<Position> blocked) {
-        if (from.equals(to)) return true;
+    /**
+     * Outcome of {@link #search}: reachability and the work it took.
+     */
+    public static final class SearchResult {
+        private final boolean reachable;
+        private final int expanded;
 
-        int rows = board.rows();
-        int cols = board.cols();
-        Cell[][] grid = board.grid();
+        private SearchResult(boolean reachable, int expanded) {
+            this.reachable = reachable;
+            this.expanded = expanded;
+        }
 
-        boolean[][] visited = new boolean[rows][cols];
-        boolean[][] blockedGrid = toBlockedGrid(blocked, rows, cols);
+        /** @return true if the target is reachable */
+        public boolean reachable() { return reachable; }
 
-        ArrayDeque<Integer> q = new ArrayDeque<>();
-        q.addLast(pack(from.column(), from.row(), cols));
-        visited[from.row()][from.column()] = true;
+        /** @return number of cells taken off the queue */
+        public int expanded() { return expanded; }
 
-        while (!q.isEmpty()) {
-            int packed = q.removeFirst();
-            int column = unpackColumn(packed, cols);
-            int row = unpackRow(packed, cols);
+        @Override
+        public String toString() {
+            return "SearchResult{reachable=" + reachable + ", expanded=" + expanded + "}";
+        }
+    }
 
-            if (column == to.column() && row == to.row()) return true;
+    public static List<Position> freeFloorCells(Board board) {
+        PositionTable positions = board.positions();
+        int[] keys = freeFloorKeys(board);
 
-            tryVisitPacked(grid, cols, rows, column + 1, row, blockedGrid, visited, q);
-            tryVisitPacked(grid, cols, rows, column - 1, row, blockedGrid, visited, q);
-            tryVisitPacked(grid, cols, rows, column, row + 1, blockedGrid, visited, q);
-            tryVisitPacked(grid, cols, rows, column, row - 1, blockedGrid, visited, q);
+        List<Position> free = new ArrayList<>(keys.length);
+        for (int key : keys) {
+            free.add(positions.at(key));
         }
-
-        return false;
+        return free;
     }
 
-    private static boolean[][] toBlockedGrid(Set<Position> blocked, int rows, int cols) {
-        if (blocked == null || blocked.isEmpty()) return null;
-
-        boolean[][] blockedGrid = new boolean[rows][cols];
-        for (Position p : blocked) {
-            int column = p.column();
-            int row = p.row();
-            if (column < 0 || column >= cols || row < 0 || row >= rows) continue;
-            blockedGrid[row][column] = true;
+    /**
+     * Lists free floor cells as packed keys in row-major order.
+     * A cell is free when it is FLOOR with no item, player, or enemy.
+     *
+     * @param board board to scan
+     * @return packed keys of free cells
+     */
+    public static int[] freeFloorKeys(Board board) {
+        GridView view = board.view();
+        int size = view.size();
+
+        int[] free = new int[size];
+        int count = 0;
+        for (int key = 0; key < size; key++) {
+            if (view.isFreeFloor(key)) {
+                free[count++] = key;
+            }
         }
-        return blockedGrid;
+        return Arrays.copyOf(free, count);
     }
 
-    private static void tryVisitPacked(Cell[][] grid, int cols, int rows,
-                                       int column, int row,
-                                       boolean[][] blockedGrid,
-                                       boolean[][] visited,
-                                       ArrayDeque<Integer> q) {
+    public static boolean canReach(Board board, Position from,
+                                   Position to,
+                                   Set<Position> blocked) {
+        PositionTable positions = board.positions();
 
-        if (column < 0 || column >= cols || row < 0 || row >= rows) return;
-        if (visited[row][column]) return;
-        if (blockedGrid != null && blockedGrid[row][column]) return;
+        IntHashSet blockedKeys = new IntHashSet();
+        if (blocked != null) {
+            for (Position p : blocked) {
+                if (positions.contains(p.column(), p.row())) {
+                    blockedKeys.add(positions.key(p));
+                }
+            }
+        }
+        return canReach(board, positions.key(from), positions.key(to), blockedKeys);
+    }
 
-        Cell c = grid[row][column];
-        if (!c.isWalkableTerrain()) return;
+    /**
+     * Checks if one cell can reach another over walkable terrain.
+     * Blocked cells are treated as walls. The start cell is always entered.
+     * Runs a word-parallel flood over a copy of the board's walkable plane.
+     * Without blocked cells on a packed board it answers from the board's
+     * {@link ReachabilityCache} instead, in O(1) until the terrain changes.
+     * Chunked boards flood chunk by chunk and never build a whole-board plane.
+     *
+     * @param board   board to search
+     * @param fromKey packed key of the start cell
+     * @param toKey   packed key of the target cell
+     * @param blocked packed keys of blocked cells, may be null
+     * @return true if a 4-connected path exists
+     */
+    public static boolean canReach(Board board, int fromKey, int toKey, IntHashSet blocked) {
+        if (fromKey == toKey) return true;
+        if ((blocked == null || blocked.isEmpty()) && board.storageMode() == Board.StorageMode.PACKED) {
+            return board.reachabilityCache().canReach(fromKey, toKey);
+        }
+        if (board.storageMode() == Board.StorageMode.CHUNKED) {
+            return board.reachesAllByChunks(fromKey, new int[] { toKey }, 1, blocked);
+        }
+        BfsWorkspace ws = BfsWorkspace.forThread(board.rows(), board.cols());
+        int[] target = ws.ints(1);
+        target[0] = toKey;
+        return reachesAll(board, fromKey, target, 1, blocked, ws);
+    }
 
-        visited[row][column] = true;
-        q.addLast(pack(column, row, cols));
+    /**
+     * Checks if one cell can reach every target with a single flood.
+     * Same rules as {@link #canReach(Board, int, int, IntHashSet)}.
+     * The flood stops once the last target is found or nothing is left to visit.
+     * Packed boards run on the calling thread's {@link BfsWorkspace}.
+     *
+     * @param board   board to search
+     * @param fromKey packed key of the start cell
+     * @param targets packed keys of the targets; not modified
+     * @param blocked packed keys of blocked cells, may be null
+     * @return true if every target is reachable
+     */
+    public static boolean canReachAll(Board board, int fromKey, int[] targets, IntHashSet blocked) {
+        if (board.storageMode() == Board.StorageMode.CHUNKED) {
+            return board.reachesAllByChunks(fromKey, targets, targets.length, blocked);
+        }
+        BfsWorkspace ws = BfsWorkspace.forThread(board.rows(), board.cols());
+        int[] pending = ws.ints(targets.length);
+        System.arraycopy(targets, 0, pending, 0, targets.length);
+        return reachesAll(board, fromKey, pending, targets.length, blocked, ws);
     }
 
-    private static int pack(int column, int row, int cols) {
-        return row * cols + column;
+    /** Floods from a cell; reorders the first {@code count} entries of pending. */
+    private static boolean reachesAll(Board board, int fromKey, int[] pending, int count,
+                                      IntHashSet blocked, BfsWorkspace ws) {
+        BitPlane open = openPlane(board, fromKey, blocked, ws);
+        int cols = board.cols();
+        return BitFlood.reachesAll(open, fromKey % cols, fromKey / cols,
+                pending, count, ws.plane(1));
     }
 
-    private static int unpackColumn(int packed, int cols) {
-        return packed % cols;
+    /** Fills workspace slot 0 with walkable cells minus blocked ones, plus the start. */
+    private static BitPlane openPlane(Board board, int fromKey, IntHashSet blocked, BfsWorkspace ws) {
+        BitPlane open = ws.plane(0);
+        open.copyFrom(board.walkablePlane());
+        if (blocked != null) {
+            int size = board.rows() * board.cols();
+            blocked.forEach(key -> {
+                if (key < size) open.clear(key);
+            });
+        }
+        open.set(fromKey);
+        return open;
     }
 
-    private static int unpackRow(int packed, int cols) {
-        return packed / cols;
+    /**
+     * Checks if one cell can reach another with a chosen search strategy.
+     * Same rules as {@link #canReach(Board, int, int, IntHashSet)}; a closed
+     * target is rejected without searching.
+     *
+     * @param board    board to search
+     * @param fromKey  packed key of the start cell
+     * @param toKey    packed key of the target cell
+     * @param blocked  packed keys of blocked cells, may be null
+     * @param strategy search to run
+     * @return reachability and expanded-cell count
+     */
+    public static SearchResult search(Board board, int fromKey, int toKey,
+                                      IntHashSet blocked, SearchStrategy strategy) {
+        Objects.requireNonNull(strategy);
+        if (fromKey == toKey) return new SearchResult(true, 0);
+
+        BfsWorkspace ws = BfsWorkspace.forThread(board.rows(), board.cols());
+        BitPlane open = openPlane(board, fromKey, blocked, ws);
+        if (!open.get(toKey)) return new SearchResult(false, 0);
+
+        int expanded = switch (strategy) {
+            case BFS -> GoalSearch.bfs(open, fromKey, toKey, ws);
+            case BIDIRECTIONAL -> GoalSearch.bidirectional(open, fromKey, toKey, ws);
+            case A_STAR -> GoalSearch.aStar(open, fromKey, toKey, ws);
+        };
+        return expanded >= 0
+                ? new SearchResult(true, expanded)
+                : new SearchResult(false, -expanded - 1);
     }
 }
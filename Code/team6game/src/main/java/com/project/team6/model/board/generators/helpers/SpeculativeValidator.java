@@ -0,0 +1,240 @@
+package com.project.team6.model.board.generators.helpers;
+
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.utilities.BitFlood;
+import com.project.team6.model.board.utilities.BitPlane;
+import com.project.team6.model.board.utilities.PathFlood;
+
+import java.util.Arrays;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Validates shuffled placement candidates in parallel batches and commits
+ * them in the original order.
+ * <p>
+ * A batch of upcoming candidates is checked on a {@link ForkJoinPool}
+ * against the cells blocked so far. Blocking more cells can only cut paths,
+ * so a candidate rejected by the batch stays rejected. A candidate accepted
+ * by the batch also keeps one shortest path to each required cell
+ * ({@link PathFlood}), routed around the earlier candidates of its batch
+ * where possible. Cells committed after the batch started can only break
+ * it by closing one of those paths; only then is it checked again, on the
+ * calling thread. The accepted cells are therefore exactly those of
+ * the sequential check.
+ */
+public final class SpeculativeValidator {
+
+    /** Candidates checked per worker per batch. */
+    private static final int CANDIDATES_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final int[] candidates;
+    private final int[] required;
+    private final int start;
+    private final int cols;
+
+    /** Walkable cells minus every committed block. */
+    private final BitPlane base;
+    private final Worker[] workers;
+    private final Worker local;
+
+    private final boolean[] batchOk;
+    /** Sorted path keys of each accepted batch entry. */
+    private final int[][] batchPaths;
+    private int batchStart;
+    private int batchEnd;
+
+    /** Keys committed since the current batch was checked. */
+    private int[] batchCommits = new int[16];
+    private int batchCommitCount;
+    private int cursor;
+
+    private int speculated;
+    private int revalidated;
+    private int direct;
+
+    /**
+     * Creates a validator for one spawning pass.
+     *
+     * @param board      board to read; must not change during the pass except by commits
+     * @param startKey   packed key every required cell must stay connected to
+     * @param required   packed keys that must stay reachable
+     * @param candidates packed keys in the order they will be offered
+     * @param pool       pool that runs the batches
+     */
+    public SpeculativeValidator(Board board, int startKey, int[] required,
+                                int[] candidates, ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        this.candidates = candidates.clone();
+        this.required = required.clone();
+        this.start = startKey;
+        this.cols = board.cols();
+
+        this.base = board.walkablePlane().copy();
+        this.base.set(startKey);
+
+        int parallelism = Math.max(1, pool.getParallelism());
+        this.workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) workers[i] = new Worker(board.rows(), cols, required.length, true);
+        this.local = new Worker(board.rows(), cols, required.length, false);
+        this.batchOk = new boolean[parallelism * CANDIDATES_PER_WORKER];
+        this.batchPaths = new int[batchOk.length][];
+    }
+
+    /**
+     * Blocks a cell if every required cell stays reachable.
+     * Candidates offered in construction order use the parallel batches;
+     * any other key is checked directly.
+     *
+     * @param key packed key of the candidate
+     * @return true if the cell was committed as blocked
+     */
+    public boolean tryBlock(int key) {
+        if (cursor >= candidates.length || candidates[cursor] != key) {
+            direct++;
+            return commitIf(key, local.check(key));
+        }
+
+        int index = cursor++;
+        if (index >= batchEnd) speculate(index);
+
+        boolean ok = batchOk[index - batchStart];
+        if (ok && crossesCommit(batchPaths[index - batchStart])) {
+            revalidated++;
+            ok = local.check(key);
+        }
+        return commitIf(key, ok);
+    }
+
+    /**
+     * Passes over a candidate without blocking it, so the next one in
+     * construction order still uses the batches.
+     *
+     * @param key packed key of the skipped candidate
+     */
+    public void skip(int key) {
+        if (cursor < candidates.length && candidates[cursor] == key) cursor++;
+    }
+
+    /** @return number of candidates checked in parallel batches */
+    public int speculatedCount() {
+        return speculated;
+    }
+
+    /** @return number of keys checked on the calling thread because they came out of order */
+    public int directCount() {
+        return direct;
+    }
+
+    /** @return number of batch results checked again because a commit closed one of their paths */
+    public int revalidatedCount() {
+        return revalidated;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    private boolean commitIf(int key, boolean ok) {
+        if (ok) {
+            base.clear(key);
+            base.set(start);
+            if (batchCommitCount == batchCommits.length) {
+                batchCommits = Arrays.copyOf(batchCommits, batchCommitCount * 2);
+            }
+            batchCommits[batchCommitCount++] = key;
+        }
+        return ok;
+    }
+
+    /** Checks if a cell committed since the batch lies on a path. */
+    private boolean crossesCommit(int[] path) {
+        for (int i = 0; i < batchCommitCount; i++) {
+            if (Arrays.binarySearch(path, batchCommits[i]) >= 0) return true;
+        }
+        return false;
+    }
+
+    /** Checks the next batch of candidates against the current blocks. */
+    private void speculate(int from) {
+        batchStart = from;
+        batchEnd = Math.min(candidates.length, from + batchOk.length);
+        batchCommitCount = 0;
+
+        int count = batchEnd - batchStart;
+        int slices = Math.min(workers.length, count);
+        speculated += count;
+
+        if (slices == 1) {
+            checkSlice(workers[0], 0, count, 1);
+            return;
+        }
+
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[slices];
+        for (int s = 0; s < slices; s++) {
+            Worker worker = workers[s];
+            int first = s;
+            tasks[s] = ForkJoinTask.adapt(() -> checkSlice(worker, first, count, slices));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    /** Checks every {@code stride}-th batch entry starting at {@code first}. */
+    private void checkSlice(Worker worker, int first, int count, int stride) {
+        for (int i = first; i < count; i += stride) {
+            batchOk[i] = worker.checkWithPaths(i);
+            batchPaths[i] = batchOk[i] ? worker.paths.pathKeys() : null;
+        }
+    }
+
+    /**
+     * Planes and target buffer owned by one thread at a time.
+     * Batch workers also keep paths; the local worker only answers yes or no.
+     */
+    private final class Worker {
+        private final BitPlane open;
+        private final BitPlane reached;
+        private final int[] pending;
+        private final PathFlood paths;
+
+        private Worker(int rows, int cols, int targets, boolean keepPaths) {
+            this.open = new BitPlane(rows, cols);
+            this.reached = new BitPlane(rows, cols);
+            this.pending = new int[targets];
+            this.paths = keepPaths ? new PathFlood(rows, cols) : null;
+        }
+
+        /** Same rules as {@link SpawnerHelper#canReachAll}. */
+        private boolean check(int key) {
+            block(key);
+            System.arraycopy(required, 0, pending, 0, required.length);
+            return BitFlood.reachesAll(open, start % cols, start / cols,
+                    pending, required.length, reached);
+        }
+
+        /**
+         * Like {@link #check} for one batch entry, and keeps a path to each
+         * required cell on success. Paths first try to avoid the earlier
+         * entries of the batch, which may be committed before this one.
+         */
+        private boolean checkWithPaths(int entry) {
+            int key = candidates[batchStart + entry];
+            block(key);
+            for (int i = batchStart; i < batchStart + entry; i++) open.clear(candidates[i]);
+            open.set(start);
+            if (paths.connect(open, start, required, required.length)) return true;
+
+            block(key);
+            return paths.connect(open, start, required, required.length);
+        }
+
+        private void block(int key) {
+            open.copyFrom(base);
+            open.clear(key);
+            open.set(start);
+        }
+    }
+}
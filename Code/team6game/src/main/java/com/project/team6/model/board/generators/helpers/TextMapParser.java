@@ -0,0 +1,185 @@
+package com.project.team6.model.board.generators.helpers;
+
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.Position;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Single-pass parser for text maps: 'X' wall, '#' barrier, 'S' start,
+ * 'E' exit, anything else floor.
+ * <p>
+ * Reads the input in large chunks and writes each tile straight into the
+ * final terrain grid, one row array per line, so the only full copy held is
+ * the result. Lines may end in LF, CRLF, or CR, as with
+ * {@link java.io.BufferedReader#readLine()}. Every row must be as wide as the
+ * first; errors name the source, line, and column.
+ */
+public final class TextMapParser {
+
+    /** Characters read per chunk. */
+    private static final int CHUNK = 1 << 16;
+
+    /**
+     * A parsed map. Start and exit are null unless the map had both;
+     * when one is missing, its partner's tile reads as floor.
+     */
+    public static final class Result {
+        private final Cell.Terrain[][] terrain;
+        private final Position start;
+        private final Position exit;
+
+        private Result(Cell.Terrain[][] terrain, Position start, Position exit) {
+            this.terrain = terrain;
+            this.start = start;
+            this.exit = exit;
+        }
+
+        /** @return terrain grid indexed [row][column] */
+        public Cell.Terrain[][] terrain() { return terrain; }
+
+        /** @return start from the map, or null */
+        public Position start() { return start; }
+
+        /** @return exit from the map, or null */
+        public Position exit() { return exit; }
+    }
+
+    private TextMapParser() { }
+
+    /**
+     * Parses a map file.
+     *
+     * @param path map file
+     * @return parsed map
+     * @throws IllegalArgumentException if the map is empty or malformed
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public static Result parse(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return parse(in, path.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading map " + path, e);
+        }
+    }
+
+    /**
+     * Parses a map from a UTF-8 stream. The stream is not closed.
+     *
+     * @param in   map bytes
+     * @param name source name for error messages
+     * @return parsed map
+     * @throws IllegalArgumentException if the map is empty or malformed
+     * @throws UncheckedIOException if the stream cannot be read
+     */
+    public static Result parse(InputStream in, String name) {
+        try {
+            return parse(new InputStreamReader(in, StandardCharsets.UTF_8), name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading map " + name, e);
+        }
+    }
+
+    private static Result parse(Reader reader, String name) throws IOException {
+        char[] chunk = new char[CHUNK];
+        Cell.Terrain[][] rows = new Cell.Terrain[16][];
+        int rowCount = 0;
+        int cols = -1;
+
+        // The first line grows a scratch row; later rows are allocated at full width.
+        Cell.Terrain[] row = new Cell.Terrain[64];
+        int column = 0;
+        boolean afterCr = false;
+        Position start = null;
+        Position exit = null;
+
+        int read;
+        while ((read = reader.read(chunk)) > 0) {
+            for (int i = 0; i < read; i++) {
+                char ch = chunk[i];
+                if (ch == '\n' && afterCr) {
+                    afterCr = false;
+                    continue;
+                }
+                afterCr = ch == '\r';
+                if (ch == '\n' || ch == '\r') {
+                    if (cols < 0) {
+                        if (column == 0) throw error(name, 1, 1, "first line is empty");
+                        cols = column;
+                        row = Arrays.copyOf(row, cols);
+                    } else if (column != cols) {
+                        throw error(name, rowCount + 1, column + 1,
+                                "line is " + column + " wide, expected " + cols);
+                    }
+                    if (rowCount == rows.length) rows = Arrays.copyOf(rows, rowCount * 2);
+                    rows[rowCount++] = row;
+                    row = new Cell.Terrain[cols];
+                    column = 0;
+                    continue;
+                }
+
+                if (cols >= 0 && column == cols) {
+                    throw error(name, rowCount + 1, column + 1,
+                            "line is wider than " + cols);
+                }
+                if (cols < 0 && column == row.length) row = Arrays.copyOf(row, column * 2);
+                switch (ch) {
+                    case 'X' -> row[column] = Cell.Terrain.WALL;
+                    case '#' -> row[column] = Cell.Terrain.BARRIER;
+                    // Only the last S and E count, as with the list-based parser.
+                    case 'S' -> {
+                        if (start != null) rowOf(rows, row, rowCount, start)[start.column()] = Cell.Terrain.FLOOR;
+                        row[column] = Cell.Terrain.START;
+                        start = new Position(column, rowCount);
+                    }
+                    case 'E' -> {
+                        if (exit != null) rowOf(rows, row, rowCount, exit)[exit.column()] = Cell.Terrain.FLOOR;
+                        row[column] = Cell.Terrain.EXIT;
+                        exit = new Position(column, rowCount);
+                    }
+                    default -> row[column] = Cell.Terrain.FLOOR;
+                }
+                column++;
+            }
+        }
+
+        // A last line without a line break still counts.
+        if (column > 0) {
+            if (cols < 0) {
+                cols = column;
+                row = Arrays.copyOf(row, cols);
+            } else if (column != cols) {
+                throw error(name, rowCount + 1, column + 1, "line is " + column + " wide, expected " + cols);
+            }
+            if (rowCount == rows.length) rows = Arrays.copyOf(rows, rowCount + 1);
+            rows[rowCount++] = row;
+        }
+        if (rowCount == 0) throw new IllegalArgumentException("Empty map resource: " + name);
+
+        Cell.Terrain[][] terrain = rowCount == rows.length ? rows : Arrays.copyOf(rows, rowCount);
+        if (start == null || exit == null) {
+            // The caller picks both gates, so a lone S or E becomes floor.
+            if (start != null) terrain[start.row()][start.column()] = Cell.Terrain.FLOOR;
+            if (exit != null) terrain[exit.row()][exit.column()] = Cell.Terrain.FLOOR;
+            return new Result(terrain, null, null);
+        }
+        return new Result(terrain, start, exit);
+    }
+
+    /** Returns the row array that holds a position: a finished row or the one being read. */
+    private static Cell.Terrain[] rowOf(Cell.Terrain[][] rows, Cell.Terrain[] current, int rowCount, Position p) {
+        return p.row() == rowCount ? current : rows[p.row()];
+    }
+
+    private static IllegalArgumentException error(String name, int line, int column, String message) {
+        return new IllegalArgumentException(name + ":" + line + ":" + column + ": " + message);
+    }
+}
@@ -0,0 +1,213 @@
+package com.project.team6.model.board.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Reusable search buffers for one board size.
+ * <p>
+ * Visit marks are epoch stamps: a cell is visited when its stamp equals the
+ * current epoch, so starting a new search is O(1) instead of clearing an
+ * array. The queue is a primitive ring buffer of packed keys. Bit planes
+ * are handed out by slot for the word-parallel floods.
+ * <p>
+ * A workspace is not thread-safe. Use {@link #forThread(int, int)} to get
+ * the calling thread's own instance; the generator and the spawners share it.
+ * A caller must finish with a slot or the queue before calling another
+ * helper that uses the same workspace.
+ * <p>
+ * Buffers are kept for the current board size only. Threads borrowed from a
+ * pool should call {@link #releaseThread()} when their task ends, so a large
+ * board does not stay pinned to the pool thread.
+ */
+public final class BfsWorkspace {
+
+    /** Number of bit plane slots. */
+    public static final int PLANES = 3;
+
+    private static final ThreadLocal<BfsWorkspace> LOCAL = ThreadLocal.withInitial(BfsWorkspace::new);
+
+    private int rows;
+    private int cols;
+
+    private int[] stamps = new int[0];
+    private int epoch;
+
+    private int[] queue = new int[1];
+    private int head;
+    private int tail;
+
+    private final BitPlane[] planes = new BitPlane[PLANES];
+    private int[] ints = new int[0];
+    private long[] longs = new long[0];
+
+    /** Creates an empty workspace; buffers grow on first use. */
+    public BfsWorkspace() { }
+
+    /**
+     * Returns the calling thread's workspace, sized for a board.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return thread-confined workspace
+     */
+    public static BfsWorkspace forThread(int rows, int cols) {
+        BfsWorkspace ws = LOCAL.get();
+        ws.resize(rows, cols);
+        return ws;
+    }
+
+    /**
+     * Drops the calling thread's workspace and everything it holds.
+     * The next {@link #forThread(int, int)} starts with empty buffers.
+     */
+    public static void releaseThread() {
+        LOCAL.remove();
+    }
+
+    /**
+     * Sizes the buffers for a board. Keeps them when the size is unchanged;
+     * otherwise drops them, and they grow again on first use.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public void resize(int rows, int cols) {
+        if (rows == this.rows && cols == this.cols) return;
+        release();
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /** Drops every buffer. The size is kept. */
+    public void release() {
+        Arrays.fill(planes, null);
+        stamps = new int[0];
+        epoch = 0;
+        queue = new int[1];
+        head = 0;
+        tail = 0;
+        ints = new int[0];
+        longs = new long[0];
+    }
+
+    /** @return number of rows */
+    public int rows() { return rows; }
+
+    /** @return number of columns */
+    public int cols() { return cols; }
+
+    // ------------------------------------------------------------------
+    // Visit stamps and queue
+    // ------------------------------------------------------------------
+
+    /**
+     * Starts a new search: forgets every visit and empties the queue.
+     * Stamps and queue are allocated here, so flood-only callers never pay for them.
+     */
+    public void beginSearch() {
+        int size = Math.multiplyExact(rows, cols);
+        if (stamps.length < size) {
+            stamps = new int[size];
+            epoch = 0;
+        }
+        // Each key is queued at most once per search, so size slots are enough.
+        if (queue.length < size) {
+            queue = new int[Math.max(2, Integer.highestOneBit(size - 1) << 1)];
+        }
+
+        if (++epoch == 0) {
+            // Wrapped around after 2^32 searches; old stamps could match again.
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+        head = 0;
+        tail = 0;
+    }
+
+    /**
+     * Marks a cell visited in the current search.
+     *
+     * @param key packed key
+     * @return true if the cell was not visited before
+     */
+    public boolean visit(int key) {
+        if (stamps[key] == epoch) return false;
+        stamps[key] = epoch;
+        return true;
+    }
+
+    /**
+     * Checks if a cell was visited in the current search.
+     *
+     * @param key packed key
+     * @return true if visited
+     */
+    public boolean isVisited(int key) {
+        return stamps[key] == epoch;
+    }
+
+    /**
+     * Appends a key to the queue.
+     *
+     * @param key packed key
+     */
+    public void enqueue(int key) {
+        queue[tail++ & (queue.length - 1)] = key;
+    }
+
+    /**
+     * Removes the oldest key from the queue.
+     *
+     * @return packed key
+     */
+    public int dequeue() {
+        return queue[head++ & (queue.length - 1)];
+    }
+
+    /** @return true if the queue is empty */
+    public boolean queueIsEmpty() {
+        return head == tail;
+    }
+
+    // ------------------------------------------------------------------
+    // Planes and scratch arrays
+    // ------------------------------------------------------------------
+
+    /**
+     * Returns a reusable plane of the current size. Contents are left over
+     * from the last use.
+     *
+     * @param slot slot index in {@code [0, PLANES)}
+     * @return plane owned by this workspace
+     */
+    public BitPlane plane(int slot) {
+        BitPlane plane = planes[slot];
+        if (plane == null) {
+            plane = new BitPlane(rows, cols);
+            planes[slot] = plane;
+        }
+        return plane;
+    }
+
+    /**
+     * Returns a reusable int array of at least a given length.
+     *
+     * @param length minimum length
+     * @return array owned by this workspace
+     */
+    public int[] ints(int length) {
+        if (ints.length < length) ints = new int[length];
+        return ints;
+    }
+
+    /**
+     * Returns a reusable long array of at least a given length.
+     *
+     * @param length minimum length
+     * @return array owned by this workspace
+     */
+    public long[] longs(int length) {
+        if (longs.length < length) longs = new long[length];
+        return longs;
+    }
+}
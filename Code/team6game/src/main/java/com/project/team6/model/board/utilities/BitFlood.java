@@ -0,0 +1,257 @@
+package com.project.team6.model.board.utilities;
+
+/**
+ * Word-parallel 4-connected flood fill over {@link BitPlane}s.
+ * Each step moves a whole 64-tile word: rows are filled sideways with
+ * shift-and-mask (Kogge-Stone) fills, and the frontier moves between rows
+ * with plain word ANDs. Sweeps alternate down and up until nothing changes.
+ */
+public final class BitFlood {
+
+    private BitFlood() { }
+
+    /**
+     * Floods from a seed through open tiles.
+     *
+     * @param open    tiles that can be entered
+     * @param column  seed column
+     * @param row     seed row
+     * @param reached output plane of the same size; overwritten
+     * @return number of reached tiles, 0 if the seed is not open
+     */
+    public static int flood(BitPlane open, int column, int row, BitPlane reached) {
+        run(open, column, row, reached, null, 0);
+        return reached.cardinality();
+    }
+
+    /**
+     * Checks if one tile reaches another through open tiles.
+     * Stops as soon as the target is reached.
+     *
+     * @param open       tiles that can be entered
+     * @param fromColumn start column
+     * @param fromRow    start row
+     * @param toColumn   target column
+     * @param toRow      target row
+     * @param scratch    plane of the same size used as work space; overwritten
+     * @return true if a path exists
+     */
+    public static boolean reaches(BitPlane open,
+                                  int fromColumn, int fromRow,
+                                  int toColumn, int toRow,
+                                  BitPlane scratch) {
+        if (fromColumn == toColumn && fromRow == toRow) return true;
+        return run(open, fromColumn, fromRow, scratch, new int[] { toRow * open.cols() + toColumn }, 1);
+    }
+
+    /**
+     * Checks if one tile reaches every target through open tiles, in one flood.
+     * Stops as soon as the last target is reached or the frontier dies.
+     * <p>
+     * The first {@code count} entries of {@code targets} are reordered in place:
+     * reached targets are swapped past the pending ones.
+     *
+     * @param open       tiles that can be entered
+     * @param fromColumn start column
+     * @param fromRow    start row
+     * @param targets    packed keys {@code row * cols + column}; reordered
+     * @param count      number of targets to check
+     * @param scratch    plane of the same size used as work space; overwritten
+     * @return true if every target is reachable
+     */
+    public static boolean reachesAll(BitPlane open,
+                                     int fromColumn, int fromRow,
+                                     int[] targets, int count,
+                                     BitPlane scratch) {
+        int cols = open.cols();
+        int seed = fromRow * cols + fromColumn;
+        for (int i = 0; i < count; i++) {
+            int key = targets[i];
+            // A closed target can never be reached.
+            if (key != seed && !open.get(key % cols, key / cols)) return false;
+        }
+        return run(open, fromColumn, fromRow, scratch, targets, count);
+    }
+
+    /**
+     * Floods a grid at most 64 tiles wide, stored as one word per row.
+     * Used for single chunks, where a full {@link BitPlane} is not needed.
+     *
+     * @param open    open tiles per row
+     * @param reached seeds on entry, open tiles reachable from them on exit
+     * @param rows    number of rows to use
+     */
+    public static void floodRows(long[] open, long[] reached, int rows) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int r = 0; r < rows; r++) changed |= spreadRow(open, reached, r, rows);
+            for (int r = rows - 2; r >= 0; r--) changed |= spreadRow(open, reached, r, rows);
+        }
+    }
+
+    /**
+     * Marks open tiles that have no open 4-neighbor.
+     *
+     * @param open     tiles that can be entered
+     * @param isolated output plane of the same size; overwritten
+     * @return number of isolated tiles
+     */
+    public static int isolated(BitPlane open, BitPlane isolated) {
+        long[] o = open.words();
+        long[] out = isolated.words();
+        int rows = open.rows();
+        int wpr = open.wordsPerRow();
+        int count = 0;
+
+        for (int r = 0; r < rows; r++) {
+            int base = r * wpr;
+            for (int w = 0; w < wpr; w++) {
+                long cur = o[base + w];
+                long lowCarry  = w > 0       ? o[base + w - 1] >>> 63 : 0L;
+                long highCarry = w < wpr - 1 ? o[base + w + 1] << 63  : 0L;
+                long near = (cur << 1) | lowCarry | (cur >>> 1) | highCarry;
+                if (r > 0)        near |= o[base - wpr + w];
+                if (r < rows - 1) near |= o[base + wpr + w];
+                out[base + w] = cur & ~near;
+                count += Long.bitCount(out[base + w]);
+            }
+        }
+        return count;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    /**
+     * Runs the sweeps. With targets, returns true early once all are reached.
+     */
+    private static boolean run(BitPlane open, int column, int row,
+                               BitPlane reached, int[] targets, int pending) {
+        reached.clearAll();
+        if (!open.get(column, row)) return false;
+        reached.set(column, row);
+
+        long[] o = open.words();
+        long[] g = reached.words();
+        int rows = open.rows();
+        int cols = open.cols();
+        int wpr = open.wordsPerRow();
+        boolean hasTargets = targets != null;
+
+        fillRow(g, o, row * wpr, wpr);
+        if (hasTargets && (pending = settle(g, targets, pending, cols, wpr)) == 0) return true;
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int r = 1; r < rows; r++) {
+                changed |= spreadInto(g, o, r * wpr, (r - 1) * wpr, wpr);
+            }
+            if (hasTargets && (pending = settle(g, targets, pending, cols, wpr)) == 0) return true;
+            for (int r = rows - 2; r >= 0; r--) {
+                changed |= spreadInto(g, o, r * wpr, (r + 1) * wpr, wpr);
+            }
+            if (hasTargets && (pending = settle(g, targets, pending, cols, wpr)) == 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Swaps reached targets past the pending ones.
+     *
+     * @return number of targets still pending
+     */
+    private static int settle(long[] g, int[] targets, int pending, int cols, int wpr) {
+        for (int i = 0; i < pending; ) {
+            int key = targets[i];
+            int column = key % cols;
+            if ((g[(key / cols) * wpr + (column >>> 6)] & (1L << column)) != 0) {
+                targets[i] = targets[--pending];
+                targets[pending] = key;
+            } else {
+                i++;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Pulls reached bits from a neighbor row into a row, then fills the row sideways.
+     *
+     * @return true if the row gained bits
+     */
+    private static boolean spreadInto(long[] g, long[] o, int base, int fromBase, int wpr) {
+        boolean grew = false;
+        for (int w = 0; w < wpr; w++) {
+            long add = g[fromBase + w] & o[base + w] & ~g[base + w];
+            if (add != 0) {
+                g[base + w] |= add;
+                grew = true;
+            }
+        }
+        if (grew) fillRow(g, o, base, wpr);
+        return grew;
+    }
+
+    /**
+     * Pulls reached bits from both neighbor rows into a one-word row and fills it.
+     *
+     * @return true if the row gained bits
+     */
+    private static boolean spreadRow(long[] open, long[] reached, int r, int rows) {
+        long near = reached[r];
+        if (r > 0) near |= reached[r - 1];
+        if (r < rows - 1) near |= reached[r + 1];
+        long p = open[r];
+        long filled = fillDown(fillUp(near & p, p), p);
+        if (filled == reached[r]) return false;
+        reached[r] = filled;
+        return true;
+    }
+
+    /**
+     * Fills reached bits of one row along open runs, across word borders.
+     * One pass each way is enough: the up pass carries every seed to the
+     * top of its run and the down pass then only adds tiles below seeds.
+     */
+    private static void fillRow(long[] g, long[] o, int base, int wpr) {
+        long carry = 0L;
+        for (int w = 0; w < wpr; w++) {
+            long p = o[base + w];
+            long filled = fillUp(g[base + w] | (carry & p), p);
+            g[base + w] = filled;
+            carry = filled >>> 63;
+        }
+        carry = 0L;
+        for (int w = wpr - 1; w >= 0; w--) {
+            long p = o[base + w];
+            long filled = fillDown(g[base + w] | (carry & p), p);
+            g[base + w] = filled;
+            carry = (filled & 1L) << 63;
+        }
+    }
+
+    /** Occluded fill toward higher bits through the open mask p. */
+    private static long fillUp(long g, long p) {
+        g |= p & (g << 1);  p &= p << 1;
+        g |= p & (g << 2);  p &= p << 2;
+        g |= p & (g << 4);  p &= p << 4;
+        g |= p & (g << 8);  p &= p << 8;
+        g |= p & (g << 16); p &= p << 16;
+        g |= p & (g << 32);
+        return g;
+    }
+
+    /** Occluded fill toward lower bits through the open mask p. */
+    private static long fillDown(long g, long p) {
+        g |= p & (g >>> 1);  p &= p >>> 1;
+        g |= p & (g >>> 2);  p &= p >>> 2;
+        g |= p & (g >>> 4);  p &= p >>> 4;
+        g |= p & (g >>> 8);  p &= p >>> 8;
+        g |= p & (g >>> 16); p &= p >>> 16;
+        g |= p & (g >>> 32);
+        return g;
+    }
+}
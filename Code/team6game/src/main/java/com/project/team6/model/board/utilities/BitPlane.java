@@ -0,0 +1,205 @@
+package com.project.team6.model.board.utilities;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * One bit per tile, stored as row-aligned 64-bit words.
+ * Row {@code r} occupies words {@code [r * wordsPerRow, (r + 1) * wordsPerRow)}
+ * and column {@code c} is bit {@code c & 63} of word {@code c >>> 6} in that row.
+ * Bits past the last column are always zero, so word operations can
+ * shift freely without masking.
+ */
+public final class BitPlane {
+
+    private final int rows;
+    private final int cols;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    /**
+     * Creates an all-zero plane.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public BitPlane(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.words = new long[Math.multiplyExact(rows, wordsPerRow)];
+    }
+
+    private BitPlane(BitPlane other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.wordsPerRow = other.wordsPerRow;
+        this.words = other.words.clone();
+    }
+
+    /** @return number of rows */
+    public int rows() { return rows; }
+
+    /** @return number of columns */
+    public int cols() { return cols; }
+
+    /** @return number of words per row */
+    public int wordsPerRow() { return wordsPerRow; }
+
+    /**
+     * Exposes the backing words for word-parallel algorithms.
+     * Callers must keep bits past the last column clear.
+     *
+     * @return live word array
+     */
+    public long[] words() { return words; }
+
+    /**
+     * Reads one bit.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return true if set
+     */
+    public boolean get(int column, int row) {
+        return (words[wordIndex(column, row)] & (1L << column)) != 0;
+    }
+
+    /**
+     * Reads one bit by packed key {@code row * cols + column}.
+     *
+     * @param key packed key
+     * @return true if set
+     */
+    public boolean get(int key) {
+        return get(key % cols, key / cols);
+    }
+
+    /**
+     * Sets one bit.
+     *
+     * @param column column index
+     * @param row    row index
+     */
+    public void set(int column, int row) {
+        words[wordIndex(column, row)] |= 1L << column;
+    }
+
+    /**
+     * Sets one bit by packed key.
+     *
+     * @param key packed key
+     */
+    public void set(int key) {
+        set(key % cols, key / cols);
+    }
+
+    /**
+     * Writes one bit by packed key.
+     *
+     * @param key   packed key
+     * @param value new value
+     */
+    public void set(int key, boolean value) {
+        if (value) set(key); else clear(key);
+    }
+
+    /**
+     * Sets a run of bits in one row.
+     *
+     * @param row        row index
+     * @param fromColumn first column, inclusive
+     * @param toColumn   last column, exclusive
+     */
+    public void setRange(int row, int fromColumn, int toColumn) {
+        Objects.checkFromToIndex(fromColumn, toColumn, cols);
+        Objects.checkIndex(row, rows);
+        int base = row * wordsPerRow;
+        for (int column = fromColumn; column < toColumn; ) {
+            int bit = column & 63;
+            int span = Math.min(64 - bit, toColumn - column);
+            long mask = span == 64 ? -1L : ((1L << span) - 1) << bit;
+            words[base + (column >>> 6)] |= mask;
+            column += span;
+        }
+    }
+
+    /**
+     * Clears one bit.
+     *
+     * @param column column index
+     * @param row    row index
+     */
+    public void clear(int column, int row) {
+        words[wordIndex(column, row)] &= ~(1L << column);
+    }
+
+    /**
+     * Clears one bit by packed key.
+     *
+     * @param key packed key
+     */
+    public void clear(int key) {
+        clear(key % cols, key / cols);
+    }
+
+    /** Clears every bit. */
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Overwrites this plane with another of the same size.
+     *
+     * @param other source plane
+     * @throws IllegalArgumentException if sizes differ
+     */
+    public void copyFrom(BitPlane other) {
+        checkSameSize(other);
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Keeps only bits also set in another plane.
+     *
+     * @param other plane of the same size
+     */
+    public void and(BitPlane other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) words[i] &= other.words[i];
+    }
+
+    /**
+     * Clears bits that are set in another plane.
+     *
+     * @param other plane of the same size
+     */
+    public void andNot(BitPlane other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) words[i] &= ~other.words[i];
+    }
+
+    /** @return number of set bits */
+    public int cardinality() {
+        int count = 0;
+        for (long w : words) count += Long.bitCount(w);
+        return count;
+    }
+
+    /** @return an independent copy */
+    public BitPlane copy() {
+        return new BitPlane(this);
+    }
+
+    private int wordIndex(int column, int row) {
+        Objects.checkIndex(column, cols);
+        Objects.checkIndex(row, rows);
+        return row * wordsPerRow + (column >>> 6);
+    }
+
+    private void checkSameSize(BitPlane other) {
+        if (other.rows != rows || other.cols != cols) {
+            throw new IllegalArgumentException("BitPlane sizes differ");
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.project.team6.model.board.utilities;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open addressing hash map from non-negative ints to objects.
+ * Used for packed tile keys so lookups do not box.
+ *
+ * @param <V> value type
+ */
+public final class IntHashMap<V> {
+
+    /**
+     * Receives one entry during iteration.
+     *
+     * @param <V> value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    /** Creates an empty map. */
+    public IntHashMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map sized for an expected count.
+     *
+     * @param expected expected number of entries
+     */
+    public IntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    /** @return number of entries */
+    public int size() { return size; }
+
+    /** @return true if the map has no entries */
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Gets the value for a key.
+     *
+     * @param key key to look up
+     * @return value or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * Checks if a key is present.
+     *
+     * @param key key to look for
+     * @return true if present
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Stores a value for a key.
+     *
+     * @param key   non-negative key
+     * @param value value, not null
+     * @return previous value or null
+     * @throws IllegalArgumentException if key is negative
+     * @throws NullPointerException if value is null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key < 0) throw new IllegalArgumentException("key must be >= 0: " + key);
+        Objects.requireNonNull(value);
+        int slot = IntHashSet.mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                V old = (V) values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) rehash(keys.length * 2);
+        return null;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key key to remove
+     * @return removed value or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = find(key);
+        if (slot < 0) return null;
+        V old = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return old;
+    }
+
+    /** Removes all entries. Keeps the capacity. */
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Runs an action for every entry in table order.
+     *
+     * @param action action to run
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) action.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    private int find(int key) {
+        if (key < 0) return -1;
+        int slot = IntHashSet.mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftBack(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = IntHashSet.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        values[hole] = null;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int slot = IntHashSet.mix(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
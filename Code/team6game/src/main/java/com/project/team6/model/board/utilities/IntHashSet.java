@@ -0,0 +1,164 @@
+package com.project.team6.model.board.utilities;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open addressing hash set of non-negative ints.
+ * Used for packed tile keys so sets of cells do not box.
+ */
+public final class IntHashSet {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int size;
+    private int mask;
+
+    /** Creates an empty set. */
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty set sized for an expected count.
+     *
+     * @param expected expected number of keys
+     */
+    public IntHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    /** @return number of keys */
+    public int size() { return size; }
+
+    /** @return true if the set has no keys */
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Checks if a key is present.
+     *
+     * @param key key to look for
+     * @return true if present
+     */
+    public boolean contains(int key) {
+        if (key < 0) return false;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @param key non-negative key
+     * @return true if the key was not present before
+     * @throws IllegalArgumentException if key is negative
+     */
+    public boolean add(int key) {
+        if (key < 0) throw new IllegalArgumentException("key must be >= 0: " + key);
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size * 2 > keys.length) rehash(keys.length * 2);
+        return true;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key key to remove
+     * @return true if the key was present
+     */
+    public boolean remove(int key) {
+        if (key < 0) return false;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /** Removes all keys. Keeps the capacity. */
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * Runs an action for every key in table order.
+     *
+     * @param action action to run
+     */
+    public void forEach(IntConsumer action) {
+        for (int key : keys) {
+            if (key != EMPTY) action.accept(key);
+        }
+    }
+
+    /**
+     * Copies the keys to a new array in table order.
+     *
+     * @return array of keys
+     */
+    public int[] toArray() {
+        int[] out = new int[size];
+        int i = 0;
+        for (int key : keys) {
+            if (key != EMPTY) out[i++] = key;
+        }
+        return out;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /** Backward shift deletion keeps probe chains intact without tombstones. */
+    private void shiftBack(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = keys;
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        for (int key : old) {
+            if (key == EMPTY) continue;
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys[slot] = key;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.project.team6.model.board.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Word-parallel reachability check that also keeps one shortest path to
+ * each target.
+ * <p>
+ * Unlike {@link BitFlood}, the flood moves one step per round, so every
+ * reached tile lands in the plane of its distance mod 3. That is enough to
+ * walk a path back from a target without a parent array: the neighbor one
+ * step closer to the seed is the only one in the previous class.
+ * Not thread-safe; use one instance per thread.
+ */
+public final class PathFlood {
+
+    private final BitPlane[] layers = new BitPlane[3];
+    private BitPlane front;
+    private BitPlane next;
+    private final BitPlane marked;
+
+    private int[] pending = new int[16];
+    private int[] path = new int[64];
+    private int pathLength;
+
+    /**
+     * Creates the work planes for one grid size.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public PathFlood(int rows, int cols) {
+        for (int i = 0; i < layers.length; i++) layers[i] = new BitPlane(rows, cols);
+        this.front = new BitPlane(rows, cols);
+        this.next = new BitPlane(rows, cols);
+        this.marked = new BitPlane(rows, cols);
+    }
+
+    /**
+     * Checks if the seed reaches every target and records the union of one
+     * shortest path to each. The seed is not part of the paths.
+     *
+     * @param open    tiles that can be entered; same size as this flood
+     * @param seed    packed key {@code row * cols + column} of the seed
+     * @param targets packed keys to reach; not modified
+     * @param count   number of targets to check
+     * @return true if every target is reachable
+     */
+    public boolean connect(BitPlane open, int seed, int[] targets, int count) {
+        pathLength = 0;
+        int cols = open.cols();
+        for (int i = 0; i < count; i++) {
+            int key = targets[i];
+            // A closed target can never be reached.
+            if (key != seed && !open.get(key)) return false;
+        }
+        if (!open.get(seed)) return false;
+
+        if (pending.length < count) pending = new int[count];
+        System.arraycopy(targets, 0, pending, 0, count);
+        for (BitPlane layer : layers) layer.clearAll();
+        front.clearAll();
+        next.clearAll();
+        layers[0].set(seed);
+        front.set(seed);
+
+        int left = settle(layers[0], count);
+        int lo = seed / cols;
+        int hi = lo;
+        int distance = 0;
+        while (left > 0) {
+            BitPlane layer = layers[(distance + 1) % 3];
+            long span = step(open, layer, lo, hi);
+            if (span < 0) return false;
+
+            // Only the rows of the old frontier can hold bits.
+            clearRows(front, lo, hi);
+            BitPlane t = front;
+            front = next;
+            next = t;
+            lo = (int) (span >>> 32);
+            hi = (int) span;
+            distance++;
+            left = settle(layer, left);
+        }
+
+        marked.clearAll();
+        for (int i = 0; i < count; i++) walkBack(targets[i], seed, cols, open.rows());
+        return true;
+    }
+
+    /**
+     * Returns the path tiles of the last successful {@link #connect}, sorted.
+     *
+     * @return packed keys; empty after a failed check
+     */
+    public int[] pathKeys() {
+        int[] keys = Arrays.copyOf(path, pathLength);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    /**
+     * Moves the frontier one step into {@code next} and adds it to a layer.
+     *
+     * @return new frontier rows as {@code (lo << 32) | hi}, or -1 if it died
+     */
+    private long step(BitPlane open, BitPlane layer, int lo, int hi) {
+        long[] o = open.words();
+        long[] f = front.words();
+        long[] n = next.words();
+        long[] g = layer.words();
+        long[] a = layers[0].words();
+        long[] b = layers[1].words();
+        long[] c = layers[2].words();
+        int rows = open.rows();
+        int wpr = open.wordsPerRow();
+
+        int newLo = Integer.MAX_VALUE;
+        int newHi = -1;
+        for (int r = Math.max(0, lo - 1), end = Math.min(rows - 1, hi + 1); r <= end; r++) {
+            int base = r * wpr;
+            boolean grew = false;
+            for (int w = 0; w < wpr; w++) {
+                int i = base + w;
+                long cur = f[i];
+                long near = (cur << 1) | (cur >>> 1);
+                if (w > 0)       near |= f[i - 1] >>> 63;
+                if (w < wpr - 1) near |= f[i + 1] << 63;
+                if (r > 0)        near |= f[i - wpr];
+                if (r < rows - 1) near |= f[i + wpr];
+
+                long add = near & o[i] & ~(a[i] | b[i] | c[i]);
+                n[i] = add;
+                if (add != 0) {
+                    g[i] |= add;
+                    grew = true;
+                }
+            }
+            if (grew) {
+                newLo = Math.min(newLo, r);
+                newHi = r;
+            }
+        }
+        return newHi < 0 ? -1 : ((long) newLo << 32) | newHi;
+    }
+
+    /** Drops pending targets that are in a layer; returns how many remain. */
+    private int settle(BitPlane layer, int left) {
+        for (int i = 0; i < left; ) {
+            if (layer.get(pending[i])) {
+                pending[i] = pending[--left];
+            } else {
+                i++;
+            }
+        }
+        return left;
+    }
+
+    /** Walks from a target to the seed or to an already marked tile. */
+    private void walkBack(int key, int seed, int cols, int rows) {
+        int cls = classOf(key);
+        while (key != seed && !marked.get(key)) {
+            marked.set(key);
+            if (pathLength == path.length) path = Arrays.copyOf(path, pathLength * 2);
+            path[pathLength++] = key;
+
+            BitPlane previous = layers[(cls + 2) % 3];
+            int column = key % cols;
+            int row = key / cols;
+            if (column > 0 && previous.get(key - 1)) key -= 1;
+            else if (column < cols - 1 && previous.get(key + 1)) key += 1;
+            else if (row > 0 && previous.get(key - cols)) key -= cols;
+            else if (row < rows - 1 && previous.get(key + cols)) key += cols;
+            else throw new IllegalStateException("No step back from " + key);
+            cls = (cls + 2) % 3;
+        }
+    }
+
+    private int classOf(int key) {
+        for (int i = 0; i < layers.length; i++) {
+            if (layers[i].get(key)) return i;
+        }
+        throw new IllegalStateException("Tile was not reached: " + key);
+    }
+
+    private static void clearRows(BitPlane plane, int lo, int hi) {
+        int wpr = plane.wordsPerRow();
+        Arrays.fill(plane.words(), lo * wpr, (hi + 1) * wpr, 0L);
+    }
+}
@@ -5,6 +5,9 @@ package com.project.team6.model.board.utilities;
  * Stores whether the player was caught.
  */
 public final class TickSummary {
+    private static final TickSummary CAUGHT = new TickSummary(true);
+    private static final TickSummary NOT_CAUGHT = new TickSummary(false);
+
     /** True when an enemy reached the player this tick. */
     private final boolean playerCaught;
 
@@ -17,6 +20,17 @@ public final class TickSummary {
         this.playerCaught = playerCaught;
     }
 
+    /**
+     * Returns a shared summary instance.
+     * Summaries are immutable, so the board does not allocate one per tick.
+     *
+     * @param playerCaught true if the player was caught
+     * @return shared summary
+     */
+    public static TickSummary of(boolean playerCaught) {
+        return playerCaught ? CAUGHT : NOT_CAUGHT;
+    }
+
     /**
      * Reports if the player was caught this tick.
      *
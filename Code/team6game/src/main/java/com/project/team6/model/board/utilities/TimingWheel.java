@@ -0,0 +1,162 @@
+package com.project.team6.model.board.utilities;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Hierarchical timing wheel of int payloads, advanced one tick at a time.
+ * <p>
+ * Level l has 64 slots of 64^l ticks each. A timer sits on the lowest level
+ * whose slot range still contains its deadline, and drops a level when the
+ * wheel reaches that slot. Timers further out than the top level wait on an
+ * overflow list that is re-filed once per top-level turn. A tick costs the
+ * timers that fire plus the amortized cascades, not the number pending.
+ * <p>
+ * Timers live in parallel int and long arrays with a free list, so
+ * scheduling does not allocate once the pool has grown.
+ * Firing order is deterministic for a given sequence of calls.
+ */
+public final class TimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int LEVELS = 4;
+    private static final int NONE = -1;
+
+    /** Slot list heads and tails, level-major; the extra list is the overflow. */
+    private final int[] heads = new int[LEVELS * SLOTS + 1];
+    private final int[] tails = new int[LEVELS * SLOTS + 1];
+
+    /** Timer pool: link to the next timer in a list, deadline, payload. */
+    private int[] next = new int[16];
+    private long[] deadline = new long[16];
+    private int[] payload = new int[16];
+    private int poolUsed;
+    private int freeHead = NONE;
+
+    private long now;
+    private int size;
+
+    /** Creates an empty wheel at tick 0. */
+    public TimingWheel() {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+    }
+
+    /** @return current tick */
+    public long now() { return now; }
+
+    /** @return number of pending timers */
+    public int size() { return size; }
+
+    /** @return true if no timer is pending */
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Schedules a payload to fire after a delay.
+     *
+     * @param delayTicks ticks from now; values below 1 fire on the next tick
+     * @param value      payload passed back when the timer fires
+     */
+    public void schedule(long delayTicks, int value) {
+        int timer = allocate();
+        deadline[timer] = now + Math.max(1, delayTicks);
+        payload[timer] = value;
+        file(timer);
+        size++;
+    }
+
+    /**
+     * Moves one tick forward and fires every timer due on it.
+     * The callback may schedule new timers.
+     *
+     * @param fire receives the payload of each due timer
+     */
+    public void advance(IntConsumer fire) {
+        now++;
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = level * BITS;
+            if ((now & ((1L << shift) - 1)) != 0) continue;
+            if (level == LEVELS - 1 && (now & ((1L << (shift + BITS)) - 1)) == 0) {
+                cascade(LEVELS * SLOTS);
+            }
+            cascade(level * SLOTS + (int) ((now >>> shift) & (SLOTS - 1)));
+        }
+
+        int list = (int) (now & (SLOTS - 1));
+        int timer = heads[list];
+        heads[list] = NONE;
+        tails[list] = NONE;
+        while (timer != NONE) {
+            int following = next[timer];
+            int value = payload[timer];
+            release(timer);
+            size--;
+            fire.accept(value);
+            timer = following;
+        }
+    }
+
+    /** Drops every pending timer. The tick count is kept. */
+    public void clear() {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+        poolUsed = 0;
+        freeHead = NONE;
+        size = 0;
+    }
+
+    // -----------------------------------------------------------------
+    // Internals
+    // -----------------------------------------------------------------
+
+    /** Puts a timer on the list that matches its deadline. */
+    private void file(int timer) {
+        long when = deadline[timer];
+        int list = LEVELS * SLOTS;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = (level + 1) * BITS;
+            if ((when >>> shift) == (now >>> shift)) {
+                list = level * SLOTS + (int) ((when >>> (level * BITS)) & (SLOTS - 1));
+                break;
+            }
+        }
+
+        next[timer] = NONE;
+        if (tails[list] == NONE) heads[list] = timer;
+        else next[tails[list]] = timer;
+        tails[list] = timer;
+    }
+
+    /** Empties a list and files its timers again against the current tick. */
+    private void cascade(int list) {
+        int timer = heads[list];
+        heads[list] = NONE;
+        tails[list] = NONE;
+        while (timer != NONE) {
+            int following = next[timer];
+            file(timer);
+            timer = following;
+        }
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int timer = freeHead;
+            freeHead = next[timer];
+            return timer;
+        }
+        if (poolUsed == next.length) {
+            int capacity = next.length * 2;
+            next = Arrays.copyOf(next, capacity);
+            deadline = Arrays.copyOf(deadline, capacity);
+            payload = Arrays.copyOf(payload, capacity);
+        }
+        return poolUsed++;
+    }
+
+    private void release(int timer) {
+        next[timer] = freeHead;
+        freeHead = timer;
+    }
+}
@@ -16,6 +16,13 @@ import java.util.Collections;
  */
 public final class MovingEnemy extends Enemy {
 
+    /**
+     * Direction try-order for every (first, second) preference pair.
+     * Index is {@code slot(first) * SLOTS + slot(second)}, where slot 0 means no preference.
+     */
+    private static final int SLOTS = Direction.values().length + 1;
+    private static final Direction[][] ORDERS = buildOrders();
+
     /** Number of ticks between moves. Always >= 1. */
     private final int movePeriod;
 
@@ -81,21 +88,38 @@ public final class MovingEnemy extends Enemy {
                            : (dColumn > 0 ? Direction.RIGHT :
                              dColumn < 0 ? Direction.LEFT : null);
 
-        Direction[] order = order4(first, second);
+        Direction[] order = ORDERS[slot(first) * SLOTS + slot(second)];
 
+        // Work on packed keys so deciding does not allocate.
+        int key = board.positions().key(currentPos);
         for (Direction d : order) {
-            if (d == null) continue;
-            Position to = new Position(
-                    currentPos.column() + d.d_column,
-                    currentPos.row()    + d.d_row
-            );
-            if (board.isInBounds(to) && board.cellAt(to).isWalkableTerrain()) {
+            int to = board.neighborKey(key, d);
+            if (to >= 0 && board.isWalkableTerrain(to)) {
                 return d;
             }
         }
         return null;
     }
 
+    private static int slot(Direction d) {
+        return d == null ? 0 : d.ordinal() + 1;
+    }
+
+    private static Direction[][] buildOrders() {
+        Direction[] prefs = new Direction[SLOTS];
+        for (Direction d : Direction.values()) {
+            prefs[slot(d)] = d;
+        }
+
+        Direction[][] orders = new Direction[SLOTS * SLOTS][];
+        for (Direction a : prefs) {
+            for (Direction b : prefs) {
+                orders[slot(a) * SLOTS + slot(b)] = order4(a, b);
+            }
+        }
+        return orders;
+    }
+
     private static Direction[] order4(Direction a, Direction b) {
         Direction[] all = { Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT };
         java.util.LinkedHashSet<Direction> set = new java.util.LinkedHashSet<>();
@@ -5,7 +5,7 @@ import com.project.team6.model.board.Board;
 import com.project.team6.model.board.Position;
 
 /**
- * Required reward needed to win the game.
+ * Reward needed to win the game, unless created as optional.
  * Collected by the player for points.
  */
 public final class RegularReward extends Reward {
@@ -16,7 +16,19 @@ public final class RegularReward extends Reward {
      * @param position board position of the reward
      */
     public RegularReward(Position position) {
-        super(position, GameConfig.regularPoints, true);
+        this(position, true);
+    }
+
+    /**
+     * Creates a regular reward that may be optional.
+     * Timed respawns use optional ones, so they score without counting
+     * toward the win.
+     *
+     * @param position      board position of the reward
+     * @param requiredToWin true if the reward is needed to win
+     */
+    public RegularReward(Position position, boolean requiredToWin) {
+        super(position, GameConfig.regularPoints, requiredToWin);
     }
 
     /**
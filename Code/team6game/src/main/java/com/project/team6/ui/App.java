@@ -22,34 +22,34 @@ public final class App {
      * @param args command line arguments (not used)
      */
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
-            /** –––––––––––––––––––– BOARD GENERATION –––––––––––––––––––– */
-            BoardGenerator gen = new BoardGenerator();
+        /** –––––––––––––––––––– BOARD GENERATION –––––––––––––––––––– */
+        BoardGenerator gen = new BoardGenerator();
 
-            /** Option A: NONE – No barriers, with given rows/cols from client*/
-//            BarrierOptions opts = new BarrierOptions(BarrierMode.NONE);
+        /** Option A: NONE – No barriers, with given rows/cols from client*/
+//        BarrierOptions opts = new BarrierOptions(BarrierMode.NONE);
 
-            /** Option B: PROVIDED – populate barriers from given barrierList, with given rows/cols from client */
-//            GameConfig.addToBarrierList();
-//            BarrierOptions opts = new BarrierOptions(BarrierMode.PROVIDED);
+        /** Option B: PROVIDED – populate barriers from given barrierList, with given rows/cols from client */
+//        GameConfig.addToBarrierList();
+//        BarrierOptions opts = new BarrierOptions(BarrierMode.PROVIDED);
 
-            /** Option C: TEXT – populate barriers from textfile, with given rows/cols from textfile */
-//            GameConfig.setBoardDimensions(0,0);
-//            GameConfig.setMapResource("maps/level1.txt");
-//            BarrierOptions opts = new BarrierOptions(BarrierMode.TEXT);
+        /** Option C: TEXT – populate barriers from textfile, with given rows/cols from textfile */
+//        GameConfig.setBoardDimensions(0,0);
+//        GameConfig.setMapResource("maps/level1.txt");
+//        BarrierOptions opts = new BarrierOptions(BarrierMode.TEXT);
 
-            /** Option D: RANDOM – randomly put barriers, with given rows/cols from client */
-            BarrierOptions opts = new BarrierOptions(BarrierMode.RANDOM);
+        /** Option D: RANDOM – randomly put barriers, with given rows/cols from client */
+        BarrierOptions opts = new BarrierOptions(BarrierMode.RANDOM);
 
-            BoardGenerator.Output output = gen.generate(opts);
-            Board board = new Board(output);
+        BoardGenerator.Output output = gen.generate(opts);
+        Board board = new Board(output);
 
-            /** –––––––––––––––––––– SPAWNING –––––––––––––––––––– */
-            Spawner spawner = new Spawner(board);
+        /** –––––––––––––––––––– SPAWNING –––––––––––––––––––– */
+        // Placements are computed on a worker; the EDT only applies them.
+        Spawner spawner = new Spawner(board);
+        SpawnPlan plan = spawner.planAsync().join();
 
-            spawner.spawnRegularRewards();
-            spawner.spawnPunishments();
-            spawner.spawnEnemies();
+        SwingUtilities.invokeLater(() -> {
+            plan.applyTo(board);
             spawner.spawnBonusRewards();
 
             /** –––––––––––––––––––– GAME PANEL RENDERING –––––––––––––––––––– */
@@ -3,7 +3,6 @@ package com.project.team6.ui;
 import com.project.team6.controller.GameConfig;
 import com.project.team6.model.board.*;
 import com.project.team6.model.collectibles.*;
-import com.project.team6.model.collectibles.rewards.*;
 import com.project.team6.model.runtime.*;
 
 import javax.swing.*;
@@ -48,6 +47,9 @@ public final class GamePanel extends JPanel {
 
     private String bannerText = null;
 
+    /** Latest frame published by the controller; null until the first one. */
+    private volatile BoardSnapshot frame;
+
     /**
      * Creates the panel and loads images.
      * Sets size based on board rows and columns.
@@ -79,6 +81,17 @@ public final class GamePanel extends JPanel {
         // optional UI feedback; keep minimal
     }
 
+    /**
+     * Shows a new frame of the board and repaints.
+     * Painting only reads published frames, so it never changes the board.
+     *
+     * @param frame snapshot taken after the latest changes
+     */
+    public void showFrame(BoardSnapshot frame) {
+        this.frame = Objects.requireNonNull(frame);
+        repaint();
+    }
+
     /**
      * Shows a banner with a message.
      * Used on win or loss.
@@ -117,19 +130,20 @@ public final class GamePanel extends JPanel {
         int originX = 0;
         int originY = GameConfig.HUD_H;
 
-        // draw sprites
-        for (int row = 0; row < board.rows(); row++) {
-            for (int col = 0; col < board.cols(); col++) {
-                Position pos = new Position(col, row);
-                Cell cell = board.cellAt(pos);
+        // draw sprites from the latest published frame
+        BoardSnapshot frame = this.frame;
+        for (int row = 0; frame != null && row < frame.rows(); row++) {
+            for (int col = 0; col < frame.cols(); col++) {
+                Position pos = board.positions().at(col, row);
+                int index = row * frame.cols() + col;
 
                 int px = originX + col * GameConfig.TILE;
                 int py = originY + row * GameConfig.TILE;
 
                 if (renderMode == RenderMode.IMAGES) {
-                    drawCellSpritesForImages(g, cell, px, py, pos);
+                    drawCellSpritesForImages(g, frame, index, px, py, pos);
                 } else {        // RenderMode.SYMBOLS
-                    drawCellSpritesForSymbols(g, cell, px, py, pos);
+                    drawCellSpritesForSymbols(g, frame, index, px, py, pos);
                 }
             }
         }
@@ -199,19 +213,21 @@ public final class GamePanel extends JPanel {
      * Draws item and character sprites in a cell.
      * Items go under characters.
      *
-     * @param g   graphics context
-     * @param cell cell to draw
-     * @param px  x in pixels
-     * @param py  y in pixels
+     * @param g     graphics context
+     * @param frame board snapshot to read
+     * @param index packed key of the tile
+     * @param px    x in pixels
+     * @param py    y in pixels
      */
-    private void drawCellSpritesForImages(Graphics2D g, Cell cell, int px, int py, Position pos) {
+    private void drawCellSpritesForImages(Graphics2D g, BoardSnapshot frame, int index,
+                                          int px, int py, Position pos) {
         // floor background
         g.setColor(GameConfig.FLOOR_COLOR_IMAGES);
         g.fillRect(px, py, GameConfig.TILE, GameConfig.TILE);
 
         // EXPLOSION EFFECT (if caught)
-        if (board.explosionPos() != null
-                && board.explosionPos().equals(pos)) {
+        if (frame.explosionPos() != null
+                && frame.explosionPos().equals(pos)) {
 
             // then explosion sprite
             g.drawImage(GameConfig.imgExplosion, px, py, GameConfig.TILE, GameConfig.TILE, null);
@@ -221,7 +237,7 @@ public final class GamePanel extends JPanel {
         }
 
         // --- 1) Draw terrain background ---
-        switch (cell.terrain()) {
+        switch (frame.terrainAt(index)) {
             case WALL, BARRIER -> g.drawImage(GameConfig.imgWall, px, py, GameConfig.TILE, GameConfig.TILE, null);
             case START        -> g.drawImage(GameConfig.imgStart, px, py, GameConfig.TILE, GameConfig.TILE, null);
             case EXIT         -> g.drawImage(GameConfig.imgExit,  px, py, GameConfig.TILE, GameConfig.TILE, null);
@@ -233,23 +249,23 @@ public final class GamePanel extends JPanel {
 
         // --- 2) Draw collectibles ---
         // --- items first (under characters) ---
-        var item = cell.item();
-        if (item instanceof RegularReward) {
+        var item = frame.itemKind(index);
+        if (item == CollectibleRegistry.Kind.REGULAR_REWARD) {
             g.drawImage(GameConfig.imgRegularReward, px, py, GameConfig.TILE, GameConfig.TILE, null);
-        } else if (item instanceof BonusReward) {
+        } else if (item == CollectibleRegistry.Kind.BONUS_REWARD) {
             g.drawImage(GameConfig.imgBonusReward, px, py, GameConfig.TILE, GameConfig.TILE, null);
-        } else if (item instanceof Punishment) {
+        } else if (item == CollectibleRegistry.Kind.PUNISHMENT) {
             g.drawImage(GameConfig.imgPunishment, px, py, GameConfig.TILE, GameConfig.TILE, null);
         }
 
         // --- 3) Draw enemies ---
         // Enemy under Player so Player appears “in front”
-        if (cell.hasEnemy()) {
+        if (frame.hasEnemy(index)) {
             g.drawImage(GameConfig.imgEnemy, px, py, GameConfig.TILE, GameConfig.TILE, null);
         }
 
         // --- 4) Draw player last (on top) ---
-        if (cell.hasPlayer()) {
+        if (frame.hasPlayer(index)) {
             g.drawImage(GameConfig.imgPlayer, px, py, GameConfig.TILE, GameConfig.TILE, null);
         }
 
@@ -258,9 +274,10 @@ public final class GamePanel extends JPanel {
         g.drawRect(px, py, GameConfig.TILE, GameConfig.TILE);
     }
 
-    private void drawCellSpritesForSymbols(Graphics2D g, Cell cell, int px, int py, Position pos) {
+    private void drawCellSpritesForSymbols(Graphics2D g, BoardSnapshot frame, int index,
+                                           int px, int py, Position pos) {
         // background per terrain
-        switch (cell.terrain()) {
+        switch (frame.terrainAt(index)) {
             case WALL, BARRIER -> g.setColor(GameConfig.SYMBOLBACKGROUND_WALL_COLOR);
             case START         -> g.setColor(GameConfig.SYMBOLBACKGROUND_START_COLOR);
             case EXIT          -> g.setColor(GameConfig.SYMBOLBACKGROUND_EXIT_COLOR);
@@ -272,8 +289,8 @@ public final class GamePanel extends JPanel {
         g.setColor(GameConfig.GRID_COLOR);
         g.drawRect(px, py, GameConfig.TILE, GameConfig.TILE);
 
-        // ASCII symbol from Cell.symbol()
-        char sym = cell.symbol();
+        // ASCII symbol, same as Cell.symbol()
+        char sym = frame.symbol(index);
         if (sym != ' ') {
             // choose colour based on symbol
             Color fg = switch (sym) {
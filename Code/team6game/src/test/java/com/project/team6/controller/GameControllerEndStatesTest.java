@@ -1,17 +1,22 @@
 package com.project.team6.controller;
 
 import com.project.team6.model.board.Board;
+import com.project.team6.model.board.BoardSnapshot;
+import com.project.team6.model.board.CollectibleRegistry;
 import com.project.team6.model.board.Position;
 import com.project.team6.model.board.generators.BoardGenerator;
 import com.project.team6.model.board.generators.BoardGenerator.Output;
 import com.project.team6.model.board.generators.Spawner;
 import com.project.team6.model.board.generators.barrierProperties.BarrierMode;
 import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
+import com.project.team6.model.collectibles.CollectibleObject;
 import com.project.team6.model.runtime.GameState;
 import com.project.team6.model.runtime.Scoreboard;
 import com.project.team6.ui.GamePanel;
 import org.junit.jupiter.api.Test;
 
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.lang.reflect.Method;
 import java.util.List;
 
@@ -29,6 +34,8 @@ final class GameControllerEndStatesTest {
             Board board,
             Scoreboard scoreboard,
             GameState state,
+            Spawner spawner,
+            GamePanel view,
             GameController controller
     ) {}
 
@@ -51,7 +58,7 @@ final class GameControllerEndStatesTest {
         GamePanel view = new GamePanel(board, scoreboard, state);
 
         GameController controller = new GameController(board, spawner, scoreboard, state, view);
-        return new TestFixture(board, scoreboard, state, controller);
+        return new TestFixture(board, scoreboard, state, spawner, view, controller);
     }
 
     /**
@@ -63,6 +70,15 @@ final class GameControllerEndStatesTest {
         m.invoke(controller);
     }
 
+    /**
+     * Calls the private applyCollectible method using reflection.
+     */
+    private static void invokeApplyCollectible(GameController controller, CollectibleObject obj) throws Exception {
+        Method m = GameController.class.getDeclaredMethod("applyCollectible", CollectibleObject.class);
+        m.setAccessible(true);
+        m.invoke(controller, obj);
+    }
+
     /**
      * Game is won when all required rewards are collected and
      * the player stands on the exit tile.
@@ -104,4 +120,46 @@ final class GameControllerEndStatesTest {
         assertNotNull(fx.board.explosionPos());
         assertEquals(fx.board.player().position(), fx.board.explosionPos());
     }
+
+    /**
+     * A respawned reward scores but does not lower the required count,
+     * so it cannot stand in for an original reward.
+     */
+    @Test
+    void respawnedRewardDoesNotCountTowardWin() throws Exception {
+        TestFixture fx = newFixture(1);
+        fx.spawner.setRespawnDelay(CollectibleRegistry.Kind.REGULAR_REWARD, 1);
+        fx.spawner.notifyCollected(CollectibleRegistry.Kind.REGULAR_REWARD);
+        fx.spawner.onTick();
+
+        CollectibleObject respawn = fx.board.regularRewards().get(0);
+        assertFalse(respawn.isRequiredToWin());
+
+        int score = fx.scoreboard.score();
+        invokeApplyCollectible(fx.controller, respawn);
+
+        assertEquals(1, fx.scoreboard.requiredRemaining());
+        assertEquals(score + respawn.value(), fx.scoreboard.score());
+    }
+
+    /**
+     * Painting draws the published frame and leaves the board alone,
+     * so the next snapshot follows the published one directly.
+     */
+    @Test
+    void paintingDoesNotSnapshotTheBoard() {
+        TestFixture fx = newFixture(1);
+        BoardSnapshot published = fx.board.snapshot();
+        fx.view.showFrame(published);
+
+        BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+        for (int i = 0; i < 3; i++) {
+            Graphics2D g = image.createGraphics();
+            fx.view.setSize(200, 200);
+            fx.view.paint(g);
+            g.dispose();
+        }
+
+        assertEquals(published.version() + 1, fx.board.snapshot().version());
+    }
 }
@@ -10,6 +10,8 @@ import com.project.team6.model.board.generators.barrierProperties.BarrierMode;
 import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -38,30 +40,33 @@ final class FullBuildIntegrationTest {
         GameConfig.numEnemies = 3;
         GameConfig.enemyMovePeriod = 6;
 
-        BoardGenerator gen = new BoardGenerator();
-        BarrierOptions opts = new BarrierOptions(BarrierMode.RANDOM);
-        BoardGenerator.Output out = gen.generate(opts);
+        // Seeded boards, so a broken rule fails every run instead of some runs.
+        for (long seed = 0; seed < 20; seed++) {
+            BoardGenerator gen = new BoardGenerator(new Random(seed));
+            BarrierOptions opts = new BarrierOptions(BarrierMode.RANDOM);
+            BoardGenerator.Output out = gen.generate(opts);
 
-        Board board = new Board(out);
-        Spawner spawner = Spawner.withSeed(board, 1234L);
+            Board board = new Board(out);
+            Spawner spawner = Spawner.withSeed(board, 1234L + seed);
 
-        spawner.spawnRegularRewards();
-        spawner.spawnPunishments();
-        spawner.spawnEnemies();
-        spawner.spawnBonusRewards();
+            spawner.spawnRegularRewards();
+            spawner.spawnPunishments();
+            spawner.spawnEnemies();
+            spawner.spawnBonusRewards();
 
-        // Start and Exit should not hold items
-        assertNull(board.cellAt(board.start()).item());
-        assertNull(board.cellAt(board.exit()).item());
+            // Start and Exit should not hold items
+            assertNull(board.cellAt(board.start()).item());
+            assertNull(board.cellAt(board.exit()).item());
 
-        // Enemies should be at least 3 tiles away from start and exit
-        for (int row = 0; row < board.rows(); row++) {
-            for (int col = 0; col < board.cols(); col++) {
-                Cell c = board.cellAt(new Position(col, row));
-                if (c.hasEnemy()) {
-                    Position p = new Position(col, row);
-                    assertTrue(Board.chebyshev(p, board.start()) >= 3);
-                    assertTrue(Board.chebyshev(p, board.exit()) >= 3);
+            // Enemies should be at least 3 tiles away from start and exit
+            for (int row = 0; row < board.rows(); row++) {
+                for (int col = 0; col < board.cols(); col++) {
+                    Cell c = board.cellAt(new Position(col, row));
+                    if (c.hasEnemy()) {
+                        Position p = new Position(col, row);
+                        assertTrue(Board.chebyshev(p, board.start()) >= 3);
+                        assertTrue(Board.chebyshev(p, board.exit()) >= 3);
+                    }
                 }
             }
         }
@@ -0,0 +1,53 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests terrain edits and the indexes they keep in step.
+ */
+final class BoardSetTerrainTest {
+
+    @Test
+    void terrainEditUpdatesIndexesAndCount() {
+        Board board = TestBoards.empty(20, 20);
+        Position p = new Position(5, 5);
+        int key = board.positions().key(p);
+        int free = board.freeCellCount();
+        BoardSnapshot before = board.snapshot();
+
+        board.setTerrain(p, Cell.Terrain.WALL);
+
+        assertEquals(1, board.modificationCount());
+        assertEquals(Cell.Terrain.WALL, board.cellAt(p).terrain());
+        assertFalse(board.walkablePlane().get(key));
+        assertEquals(free - 1, board.freeCellCount());
+        assertEquals(Cell.Terrain.WALL, board.snapshot().terrainAt(key));
+        assertEquals(Cell.Terrain.FLOOR, before.terrainAt(key));
+
+        board.setTerrain(p, Cell.Terrain.WALL);
+        assertEquals(1, board.modificationCount());
+
+        board.setTerrain(p, Cell.Terrain.FLOOR);
+        assertEquals(2, board.modificationCount());
+        assertTrue(board.walkablePlane().get(key));
+        assertEquals(free, board.freeCellCount());
+    }
+
+    @Test
+    void rejectsGatesAndOccupiedTiles() {
+        Board board = TestBoards.empty7x7();
+        Position reward = new Position(2, 2);
+        board.registerCollectible(new RegularReward(reward));
+
+        assertThrows(IllegalArgumentException.class, () -> board.setTerrain(board.start(), Cell.Terrain.FLOOR));
+        assertThrows(IllegalArgumentException.class, () -> board.setTerrain(board.exit(), Cell.Terrain.WALL));
+        assertThrows(IllegalArgumentException.class, () -> board.setTerrain(new Position(3, 3), Cell.Terrain.EXIT));
+        assertThrows(IllegalArgumentException.class, () -> board.setTerrain(reward, Cell.Terrain.BARRIER));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.setTerrain(new Position(9, 0), Cell.Terrain.WALL));
+        assertEquals(0, board.modificationCount());
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.Direction;
+import com.project.team6.model.characters.enemies.MovingEnemy;
+import com.project.team6.model.collectibles.Punishment;
+import com.project.team6.model.collectibles.rewards.BonusReward;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests immutable board snapshots and their chunk sharing.
+ */
+final class BoardSnapshotTest {
+
+    @Test
+    void snapshotMatchesLiveBoard() {
+        Board board = TestBoards.empty(40, 70);
+        board.registerCollectible(new RegularReward(new Position(5, 5)));
+        board.registerCollectible(new BonusReward(new Position(40, 30), 10));
+        board.registerCollectible(new Punishment(new Position(66, 2)));
+        board.registerEnemy(new MovingEnemy(new Position(33, 33), 1));
+
+        BoardSnapshot frame = board.snapshot();
+        for (int index = 0; index < frame.size(); index++) {
+            Cell cell = board.cellAt(board.positions().at(index));
+            assertEquals(cell.terrain(), frame.terrainAt(index));
+            assertEquals(cell.item() != null, frame.hasItem(index));
+            assertEquals(cell.hasPlayer(), frame.hasPlayer(index));
+            assertEquals(cell.hasEnemy(), frame.hasEnemy(index));
+            assertEquals(cell.symbol(), frame.symbol(index));
+        }
+        assertEquals(CollectibleRegistry.Kind.BONUS_REWARD,
+                frame.itemKind(board.positions().key(new Position(40, 30))));
+    }
+
+    @Test
+    void oldSnapshotIsUnchangedAndCleanChunksAreShared() {
+        Board board = TestBoards.empty(100, 100);
+        Position start = board.player().position();
+
+        BoardSnapshot before = board.snapshot();
+        board.step(board.player(), Direction.RIGHT);
+        BoardSnapshot after = board.snapshot();
+
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(start, before.playerPosition());
+        assertTrue(before.hasPlayer(board.positions().key(start)));
+        assertFalse(after.hasPlayer(board.positions().key(start)));
+        assertTrue(after.hasPlayer(board.positions().key(board.player().position())));
+
+        int changed = BoardSnapshot.chunkOf(board.positions().key(start), board.cols());
+        int chunks = BoardSnapshot.chunkCount(board.rows(), board.cols());
+        for (int c = 0; c < chunks; c++) {
+            if (c == changed) {
+                assertNotSame(before.chunk(c), after.chunk(c));
+            } else {
+                assertSame(before.chunk(c), after.chunk(c));
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.team6.model.board;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.generators.BoardGenerator;
+import com.project.team6.model.board.generators.Spawner;
+import com.project.team6.model.board.utilities.BitFlood;
+import com.project.team6.model.board.utilities.BitPlane;
+import com.project.team6.model.board.utilities.Direction;
+import com.project.team6.model.board.utilities.IntHashSet;
+import com.project.team6.model.board.utilities.MoveResult;
+import com.project.team6.model.characters.enemies.MovingEnemy;
+import com.project.team6.model.collectibles.Punishment;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the chunked storage against the packed one and on a large world.
+ */
+final class ChunkedGridStorageTest {
+
+    @Test
+    void matchesPackedStorageUnderRandomWrites() {
+        Random random = new Random(3L);
+        int rows = 150;
+        int cols = 130;
+        Cell.Terrain[][] terrain = new Cell.Terrain[rows][cols];
+        for (Cell.Terrain[] row : terrain) {
+            Arrays.fill(row, Cell.Terrain.FLOOR);
+        }
+        // One mixed area; the rest stays uniform.
+        for (int i = 0; i < 300; i++) {
+            terrain[random.nextInt(64)][random.nextInt(64)] = Cell.Terrain.WALL;
+        }
+
+        PackedGridStorage packed = new PackedGridStorage(rows, cols, terrain);
+        ChunkedGridStorage chunked = new ChunkedGridStorage(TerrainSource.of(terrain));
+        assertEquals(0, chunked.materializedChunkCount());
+
+        for (int i = 0; i < 5_000; i++) {
+            int key = random.nextInt(rows * cols);
+            Position p = new Position(key % cols, key / cols);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    RegularReward r = random.nextBoolean() ? new RegularReward(p) : null;
+                    packed.setItem(key, r);
+                    chunked.setItem(key, r);
+                }
+                case 1 -> {
+                    MovingEnemy e = random.nextBoolean() ? new MovingEnemy(p, 1) : null;
+                    packed.setEnemy(key, e);
+                    chunked.setEnemy(key, e);
+                }
+                case 2 -> {
+                    Punishment pu = new Punishment(p);
+                    packed.setItem(key, pu);
+                    chunked.setItem(key, pu);
+                }
+                default -> {
+                    packed.setPlayer(key, null);
+                    chunked.setPlayer(key, null);
+                }
+            }
+        }
+
+        for (int key = 0; key < rows * cols; key++) {
+            assertEquals(packed.terrain(key), chunked.terrain(key));
+            assertSame(packed.item(key), chunked.item(key));
+            assertSame(packed.enemy(key), chunked.enemy(key));
+            assertEquals(packed.hasEnemy(key), chunked.hasEnemy(key));
+        }
+        for (Cell.Terrain t : Cell.Terrain.values()) {
+            assertEquals(packed.countTerrain(t), chunked.countTerrain(t));
+        }
+
+        BitPlane expected = new BitPlane(rows, cols);
+        BitPlane actual = new BitPlane(rows, cols);
+        packed.markWalkable(expected);
+        chunked.markWalkable(actual);
+        assertArrayEquals(expected.words(), actual.words());
+    }
+
+    @Test
+    void chunksMaterializeOnlyWhenTouched() {
+        ChunkedGridStorage storage = new ChunkedGridStorage(
+                new SparseTerrain(1_000, 1_000, new Position(0, 500), new Position(999, 500)));
+        assertEquals(256, storage.chunkCount());
+        assertEquals(0, storage.materializedChunkCount());
+
+        int key = 300 * 1_000 + 300;
+        storage.setItem(key, null);
+        assertEquals(0, storage.materializedChunkCount());
+
+        storage.setItem(key, new RegularReward(new Position(300, 300)));
+        storage.setItem(key + 1, new RegularReward(new Position(301, 300)));
+        assertEquals(1, storage.materializedChunkCount());
+        assertEquals(Cell.Terrain.FLOOR, storage.terrain(key));
+    }
+
+    @Test
+    void chunkFloodMatchesPlaneFlood() {
+        Random random = new Random(5L);
+        int rows = 150;
+        int cols = 200;
+        Cell.Terrain[][] terrain = new Cell.Terrain[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                // Open chunks on the left, one wall chunk, mixed chunks elsewhere.
+                boolean mixed = c >= 64 && !(r < 64 && c < 128);
+                boolean wall = r < 64 && c >= 64 && c < 128;
+                terrain[r][c] = wall || (mixed && random.nextInt(100) < 35)
+                        ? Cell.Terrain.WALL : Cell.Terrain.FLOOR;
+            }
+        }
+        ChunkedGridStorage chunked = new ChunkedGridStorage(TerrainSource.of(terrain));
+        int size = rows * cols;
+
+        for (int round = 0; round < 300; round++) {
+            if (round == 150) {
+                // Later rounds also run after terrain edits.
+                for (int i = 0; i < 2_000; i++) {
+                    chunked.setTerrain(random.nextInt(size),
+                            random.nextBoolean() ? Cell.Terrain.WALL : Cell.Terrain.FLOOR);
+                }
+            }
+            int from = random.nextInt(size);
+            int[] targets = new int[1 + random.nextInt(4)];
+            for (int i = 0; i < targets.length; i++) targets[i] = random.nextInt(size);
+            IntHashSet blocked = new IntHashSet();
+            int blocks = random.nextInt(200);
+            for (int i = 0; i < blocks; i++) blocked.add(random.nextInt(size));
+
+            BitPlane open = new BitPlane(rows, cols);
+            chunked.markWalkable(open);
+            blocked.forEach(open::clear);
+            open.set(from);
+            boolean expected = BitFlood.reachesAll(open, from % cols, from / cols,
+                    targets.clone(), targets.length, new BitPlane(rows, cols));
+
+            assertEquals(expected, ChunkFlood.reachesAll(chunked, from, targets, targets.length, blocked),
+                    "round " + round);
+        }
+    }
+
+    @Test
+    void largeWorldSpawnsAndPlays() {
+        int size = 10_000;
+        Position start = new Position(0, size / 2);
+        Position exit = new Position(size - 1, size / 2);
+        BoardGenerator.Output out = new BoardGenerator.Output(start, exit,
+                new SparseTerrain(size, size, start, exit));
+
+        Board board = new Board(out);
+        assertEquals(Board.StorageMode.CHUNKED, board.storageMode());
+
+        int floor = (size - 2) * (size - 2);
+        assertEquals(floor, board.freeCellCount());
+
+        GameConfig.regularRewardCount = 5;
+        GameConfig.numPunishments = 3;
+        GameConfig.numEnemies = 5;
+        GameConfig.enemyMovePeriod = 1;
+
+        Spawner spawner = Spawner.withSeed(board, 9L);
+        spawner.spawnRegularRewards();
+        spawner.spawnPunishments();
+        spawner.spawnEnemies();
+
+        assertEquals(5, board.regularRewards().size());
+        assertEquals(5, board.enemies().size());
+        assertEquals(floor - 13, board.freeCellCount());
+        // Placement checks reachability chunk by chunk.
+        assertFalse(board.hasWalkablePlane());
+
+        assertEquals(MoveResult.MOVED, board.step(board.player(), Direction.RIGHT));
+        board.tick(board.player().position());
+        assertEquals(new Position(1, size / 2), board.player().position());
+    }
+}
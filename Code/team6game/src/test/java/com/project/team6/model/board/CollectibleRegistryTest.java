@@ -0,0 +1,64 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.collectibles.Punishment;
+import com.project.team6.model.collectibles.rewards.BonusReward;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the keyed collectible registry.
+ */
+final class CollectibleRegistryTest {
+
+    @Test
+    void countsAndKeysFollowAddsAndRemoves() {
+        CollectibleRegistry registry = new CollectibleRegistry();
+        for (int key = 0; key < 10; key++) {
+            registry.add(key, new RegularReward(new Position(key, 0)));
+        }
+        registry.add(20, new Punishment(new Position(0, 2)));
+
+        assertEquals(10, registry.count(CollectibleRegistry.Kind.REGULAR_REWARD));
+        assertEquals(1, registry.count(CollectibleRegistry.Kind.PUNISHMENT));
+
+        assertNotNull(registry.remove(3));
+        assertNull(registry.remove(3));
+        assertNotNull(registry.remove(0));
+
+        int[] keys = registry.keys(CollectibleRegistry.Kind.REGULAR_REWARD).sorted().toArray();
+        assertArrayEquals(new int[] { 1, 2, 4, 5, 6, 7, 8, 9 }, keys);
+        assertEquals(8, registry.items(CollectibleRegistry.Kind.REGULAR_REWARD).size());
+    }
+
+    @Test
+    void boardCollectRemovesFromRegistry() {
+        Board board = TestBoards.empty7x7();
+        Position p = new Position(2, 2);
+        board.registerCollectible(new RegularReward(p));
+        board.registerCollectible(new BonusReward(new Position(3, 3), 0));
+
+        assertEquals(1, board.regularRewards().size());
+        assertTrue(board.collectAt(p).isPresent());
+
+        assertTrue(board.regularRewards().isEmpty());
+        assertNull(board.collectibles().get(board.positions().key(p)));
+        assertTrue(board.hasActiveBonusRewards());
+    }
+
+    @Test
+    void replacingAnItemKeepsOneEntryPerCell() {
+        CollectibleRegistry registry = new CollectibleRegistry();
+        registry.add(5, new RegularReward(new Position(5, 0)));
+        registry.add(5, new Punishment(new Position(5, 0)));
+
+        assertEquals(0, registry.count(CollectibleRegistry.Kind.REGULAR_REWARD));
+        assertEquals(1, registry.count(CollectibleRegistry.Kind.PUNISHMENT));
+        assertTrue(Arrays.equals(new int[] { 5 },
+                registry.keys(CollectibleRegistry.Kind.PUNISHMENT).toArray()));
+    }
+}
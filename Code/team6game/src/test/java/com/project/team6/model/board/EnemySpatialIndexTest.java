@@ -0,0 +1,71 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.utilities.Direction;
+import com.project.team6.model.characters.enemies.MovingEnemy;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the enemy spatial index against brute-force scans.
+ */
+final class EnemySpatialIndexTest {
+
+    @Test
+    void queriesMatchBruteForceWhileEnemiesMove() {
+        Random random = new Random(21L);
+        Board board = TestBoards.empty(45, 70);
+        List<MovingEnemy> all = new ArrayList<>();
+
+        while (all.size() < 120) {
+            Position p = new Position(1 + random.nextInt(68), 1 + random.nextInt(43));
+            if (board.cellAt(p).hasEnemy()) continue;
+            MovingEnemy e = new MovingEnemy(p, 1);
+            board.registerEnemy(e);
+            all.add(e);
+        }
+
+        Direction[] dirs = Direction.values();
+        for (int round = 0; round < 200; round++) {
+            for (MovingEnemy e : all) {
+                board.step(e, dirs[random.nextInt(dirs.length)]);
+            }
+
+            Position center = new Position(random.nextInt(70), random.nextInt(45));
+            int radius = random.nextInt(12);
+
+            Set<MovingEnemy> expected = new HashSet<>();
+            int nearest = Integer.MAX_VALUE;
+            for (MovingEnemy e : all) {
+                int d = Board.chebyshev(e.position(), center);
+                if (d <= radius) expected.add(e);
+                nearest = Math.min(nearest, d);
+            }
+
+            assertEquals(expected, new HashSet<>(board.enemiesWithin(center, radius)));
+            assertEquals(nearest, Board.chebyshev(board.nearestEnemy(center).orElseThrow().position(), center));
+        }
+
+        for (MovingEnemy e : all) {
+            assertSame(e, board.enemyAt(e.position()));
+        }
+    }
+
+    @Test
+    void emptyBoardHasNoNearestEnemy() {
+        Board board = TestBoards.empty(20, 20);
+        Position center = new Position(10, 10);
+
+        assertTrue(board.nearestEnemy(center).isEmpty());
+        assertTrue(board.enemiesWithin(center, 5).isEmpty());
+        assertNull(board.enemyAt(center));
+        assertThrows(IllegalArgumentException.class, () -> board.enemiesWithin(center, -1));
+    }
+}
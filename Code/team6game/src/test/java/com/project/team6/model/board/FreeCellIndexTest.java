@@ -0,0 +1,65 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.generators.helpers.SpawnerHelper;
+import com.project.team6.model.board.utilities.Direction;
+import com.project.team6.model.characters.enemies.MovingEnemy;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The free cell index must always match a full scan of the board.
+ */
+final class FreeCellIndexTest {
+
+    @Test
+    void indexFollowsItemsEnemiesAndMoves() {
+        Board board = TestBoards.empty7x7();
+        assertMatchesScan(board);
+
+        board.registerCollectible(new RegularReward(new Position(1, 3)));
+        board.registerEnemy(new MovingEnemy(new Position(4, 4), 1));
+        assertMatchesScan(board);
+
+        // Player walks onto the reward, collects it, then walks on.
+        board.step(board.player(), Direction.RIGHT);
+        board.collectAt(board.player().position());
+        assertMatchesScan(board);
+
+        board.step(board.player(), Direction.RIGHT);
+        assertTrue(board.view().isFreeFloor(board.positions().key(1, 3)));
+        assertMatchesScan(board);
+
+        // Writes through a cell view are tracked too.
+        board.cellAt(new Position(5, 5)).setItem(new RegularReward(new Position(5, 5)));
+        assertMatchesScan(board);
+    }
+
+    @Test
+    void samplesAreDistinctFreeCells() {
+        Board board = TestBoards.empty7x7();
+        int[] sample = board.sampleFreeCells(10, new Random(3L));
+
+        Set<Integer> seen = new HashSet<>();
+        for (int key : sample) {
+            assertTrue(seen.add(key), "duplicate key " + key);
+            assertTrue(board.view().isFreeFloor(key));
+        }
+        assertEquals(10, sample.length);
+        assertEquals(25, board.sampleFreeCells(100, new Random(3L)).length);
+    }
+
+    private static void assertMatchesScan(Board board) {
+        int[] indexed = board.freeCellKeys();
+        Arrays.sort(indexed);
+        assertArrayEquals(SpawnerHelper.freeFloorKeys(board), indexed);
+        assertEquals(indexed.length, board.freeCellCount());
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.characters.enemies.MovingEnemy;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the read-only grid view of a board.
+ */
+final class GridViewTest {
+
+    @Test
+    void viewReadsLiveBoardState() {
+        Board board = TestBoards.empty7x7();
+        GridView view = board.view();
+        PositionTable positions = board.positions();
+
+        int reward = positions.key(2, 2);
+        int enemy = positions.key(4, 4);
+        board.registerCollectible(new RegularReward(positions.at(reward)));
+        board.registerEnemy(new MovingEnemy(positions.at(enemy), 1));
+
+        assertEquals(Cell.Terrain.WALL, view.terrainAt(0));
+        assertEquals(Cell.Terrain.START, view.terrainAt(positions.key(board.start())));
+        assertFalse(view.isWalkable(0));
+        assertTrue(view.hasItem(reward));
+        assertTrue(view.hasEnemy(enemy));
+        assertTrue(view.hasPlayer(positions.key(board.start())));
+        assertFalse(view.isFreeFloor(reward));
+        assertTrue(view.isFreeFloor(positions.key(3, 3)));
+    }
+
+    @Test
+    void forEachCellVisitsEveryTileInOrder() {
+        Board board = TestBoards.empty7x7();
+        int[] next = { 0 };
+        int[] occupied = { 0 };
+
+        board.view().forEachCell((index, terrain, hasItem, isOccupied) -> {
+            assertEquals(next[0]++, index);
+            if (isOccupied) occupied[0]++;
+        });
+
+        assertEquals(49, next[0]);
+        assertEquals(1, occupied[0]);
+    }
+
+    @Test
+    void accessorsAreBoundsChecked() {
+        GridView view = TestBoards.empty7x7().view();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> view.terrainAt(49));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.isWalkable(-1));
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.characters.enemies.MovingEnemy;
+import com.project.team6.model.collectibles.Punishment;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the packed storage behind board cells.
+ */
+final class PackedGridStorageTest {
+
+    @Test
+    void cellViewsShareBoardState() {
+        Board board = TestBoards.empty7x7();
+        Position p = new Position(2, 2);
+
+        RegularReward reward = new RegularReward(p);
+        board.cellAt(p).setItem(reward);
+
+        assertSame(reward, board.cellAt(p).item());
+        assertSame(reward, board.cellAt(new Position(2, 2)).item());
+        assertTrue(board.view().hasItem(2 * board.cols() + 2));
+    }
+
+    @Test
+    void itemSlotsAreReusedAfterClearing() {
+        PackedGridStorage storage = new PackedGridStorage(1, 2,
+                new Cell.Terrain[][] { { Cell.Terrain.FLOOR, Cell.Terrain.FLOOR } });
+
+        RegularReward first = new RegularReward(new Position(0, 0));
+        Punishment second = new Punishment(new Position(1, 0));
+
+        storage.setItem(0, first);
+        storage.setItem(0, null);
+        storage.setItem(1, second);
+
+        assertNull(storage.item(0));
+        assertSame(second, storage.item(1));
+    }
+
+    @Test
+    void occupancyBitsTrackEnemies() {
+        Board board = TestBoards.empty7x7();
+        Position p = new Position(3, 3);
+        MovingEnemy enemy = new MovingEnemy(p, 1);
+
+        board.registerEnemy(enemy);
+        assertTrue(board.cellAt(p).hasEnemy());
+        assertSame(enemy, board.cellAt(p).enemy());
+
+        board.cellAt(p).removeOccupant(enemy);
+        assertFalse(board.cellAt(p).hasEnemy());
+        assertNull(board.cellAt(p).enemy());
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.team6.model.board;
+
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests position hashing and the interned position table.
+ */
+final class PositionTableTest {
+
+    @Test
+    void equalPositionsHashTheSame() {
+        Set<Position> set = new HashSet<>();
+        set.add(new Position(3, 4));
+
+        assertTrue(set.contains(new Position(3, 4)));
+        assertFalse(set.contains(new Position(4, 3)));
+    }
+
+    @Test
+    void keysRoundTripToSharedInstances() {
+        Board board = TestBoards.empty7x7();
+        PositionTable table = board.positions();
+
+        int key = table.key(new Position(5, 2));
+        assertEquals(2 * 7 + 5, key);
+        assertEquals(5, table.column(key));
+        assertEquals(2, table.row(key));
+
+        assertSame(table.at(key), table.at(5, 2));
+        assertSame(table.at(key), table.intern(new Position(5, 2)));
+    }
+
+    @Test
+    void outOfBoundsKeysAreRejected() {
+        PositionTable table = new PositionTable(3, 4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> table.at(12));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.key(new Position(4, 0)));
+        assertFalse(table.contains(-1, 0));
+    }
+}
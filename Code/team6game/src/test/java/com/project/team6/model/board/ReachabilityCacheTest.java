@@ -0,0 +1,72 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.board.generators.helpers.SpawnerHelper;
+import com.project.team6.model.board.utilities.IntHashSet;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The component-label cache should match the flood and rebuild only after terrain edits.
+ */
+final class ReachabilityCacheTest {
+
+    @Test
+    void matchesFloodAcrossTerrainEdits() {
+        Random random = new Random(23L);
+        Board board = TestBoards.randomWalls(random, 25, 40);
+        int size = board.rows() * board.cols();
+        ReachabilityCache cache = new ReachabilityCache(board);
+        IntHashSet none = new IntHashSet();
+        none.add(size);   // off the board: ignored, but forces the flood path
+
+        for (int round = 0; round < 30; round++) {
+            for (int i = 0; i < 50; i++) {
+                int from = random.nextInt(size);
+                int to = random.nextInt(size);
+                assertEquals(SpawnerHelper.canReach(board, from, to, none), cache.canReach(from, to));
+            }
+            assertEquals(round + 1, cache.rebuildCount());
+
+            Position p = new Position(1 + random.nextInt(38), 1 + random.nextInt(23));
+            if (!p.equals(board.player().position())) {
+                Cell.Terrain t = board.cellAt(p).terrain() == Cell.Terrain.FLOOR
+                        ? Cell.Terrain.WALL : Cell.Terrain.FLOOR;
+                board.setTerrain(p, t);
+            } else {
+                board.setTerrain(new Position(1, 1), Cell.Terrain.WALL);
+                board.setTerrain(new Position(1, 1), Cell.Terrain.FLOOR);
+            }
+        }
+    }
+
+    @Test
+    void canReachUsesCacheUntilBoardChanges() {
+        Board board = TestBoards.empty(30, 30);
+        int from = board.positions().key(board.start());
+        int to = board.positions().key(board.exit());
+
+        assertTrue(SpawnerHelper.canReach(board, from, to, null));
+        ReachabilityCache cache = board.reachabilityCache();
+        assertTrue(SpawnerHelper.canReach(board, from, to, new IntHashSet()));
+        assertEquals(1, cache.rebuildCount());
+
+        for (int row = 1; row < 29; row++) {
+            board.setTerrain(new Position(15, row), Cell.Terrain.BARRIER);
+        }
+        assertFalse(SpawnerHelper.canReach(board, from, to, null));
+        assertEquals(2, cache.rebuildCount());
+    }
+
+    @Test
+    void eachBoardOwnsItsCache() {
+        Board a = TestBoards.empty(10, 10);
+        Board b = TestBoards.empty(10, 10);
+
+        assertSame(a.reachabilityCache(), a.reachabilityCache());
+        assertNotSame(a.reachabilityCache(), b.reachabilityCache());
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.team6.model.board;
+
+import com.project.team6.model.collectibles.Punishment;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that region counts follow item writes.
+ */
+final class RegionCountsTest {
+
+    @Test
+    void countsFollowRegisterAndCollect() {
+        Board board = TestBoards.empty(20, 20);
+        board.registerCollectible(new RegularReward(new Position(1, 1)));
+
+        RegionCounts regions = board.regionCounts(5);
+        int topLeft = board.positions().key(new Position(0, 0));
+        assertEquals(1, regions.count(topLeft));
+
+        board.registerCollectible(new Punishment(new Position(4, 4)));
+        board.registerCollectible(new Punishment(new Position(5, 5)));
+        assertEquals(2, regions.count(topLeft));
+        assertEquals(1, regions.count(board.positions().key(new Position(9, 9))));
+
+        board.collectAt(new Position(1, 1));
+        assertEquals(1, regions.count(topLeft));
+        assertSame(regions, board.regionCounts(5));
+    }
+
+    @Test
+    void newSizeRebuildsFromTheBoard() {
+        Board board = TestBoards.empty(20, 20);
+        board.regionCounts(5);
+        board.registerCollectible(new RegularReward(new Position(1, 1)));
+        board.registerCollectible(new RegularReward(new Position(6, 6)));
+
+        RegionCounts coarse = board.regionCounts(10);
+        assertEquals(2, coarse.count(board.positions().key(new Position(0, 0))));
+        assertThrows(IllegalArgumentException.class, () -> board.regionCounts(0));
+    }
+}
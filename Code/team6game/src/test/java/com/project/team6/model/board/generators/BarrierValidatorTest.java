@@ -0,0 +1,64 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.helpers.BarrierValidator;
+import com.project.team6.model.board.generators.helpers.GeneratorHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The incremental validator should accept exactly what the full check accepts.
+ */
+final class BarrierValidatorTest {
+
+    @Test
+    void matchesFullValidationOnRandomPlacements() {
+        Random random = new Random(21);
+        for (int round = 0; round < 30; round++) {
+            int rows = 3 + random.nextInt(18);
+            int cols = 3 + random.nextInt(18);
+            boolean[][] walls = GeneratorHelper.perimeterWalls(rows, cols);
+            boolean[][] barriers = new boolean[rows][cols];
+            Position start = new Position(0, rows / 2);
+            Position exit = new Position(cols - 1, rows / 2);
+            BarrierValidator validator = new BarrierValidator(walls, barriers, start, exit);
+            int passable = (rows - 2) * (cols - 2) + 2;
+
+            for (int attempt = 0; attempt < rows * cols; attempt++) {
+                int column = 1 + random.nextInt(cols - 2);
+                int row = 1 + random.nextInt(rows - 2);
+                if (barriers[row][column]) {
+                    assertFalse(validator.tryPlace(column, row));
+                    continue;
+                }
+
+                barriers[row][column] = true;
+                boolean expected = GeneratorHelper.isBarrierConfigurationValid(walls, barriers, start, exit);
+                barriers[row][column] = expected;
+
+                assertEquals(expected, validator.tryPlace(column, row),
+                        rows + "x" + cols + " at (" + column + "," + row + ")");
+                if (expected) passable--;
+                assertEquals(passable, validator.passableCount());
+                assertEquals(0, validator.isolatedCount());
+            }
+        }
+    }
+
+    @Test
+    void rejectsBorderCellsAndInvalidStartingLayouts() {
+        boolean[][] walls = GeneratorHelper.perimeterWalls(5, 5);
+        boolean[][] barriers = new boolean[5][5];
+        Position start = new Position(0, 2);
+        Position exit = new Position(4, 2);
+        BarrierValidator validator = new BarrierValidator(walls, barriers, start, exit);
+        assertThrows(IllegalArgumentException.class, () -> validator.tryPlace(0, 1));
+
+        barriers[1][1] = barriers[2][1] = barriers[3][1] = true;
+        assertThrows(IllegalArgumentException.class,
+                () -> new BarrierValidator(walls, barriers, start, exit));
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.barrierProperties.BarrierMode;
+import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
+import com.project.team6.model.board.generators.helpers.BinaryMap;
+import com.project.team6.model.board.generators.helpers.GeneratorHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the binary map format against the text maps it replaces.
+ */
+final class BinaryMapTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void convertedLevelLoadsLikeTheTextMap() throws Exception {
+        String oldResource = GameConfig.mapResource;
+        try {
+            GameConfig.setMapResource("maps/level1.txt");
+            BoardGenerator.Output text = new BoardGenerator(new Random(1))
+                    .generate(new BarrierOptions(BarrierMode.TEXT));
+
+            Path source = Path.of(getClass().getClassLoader().getResource("maps/level1.txt").toURI());
+            for (boolean rle : new boolean[] { false, true }) {
+                Path binary = dir.resolve(rle ? "level1-rle.t6m" : "level1.t6m");
+                BinaryMap.convertText(source, binary, rle);
+
+                GameConfig.setMapResource(binary.toString());
+                // level1 has no S or E, so both modes draw the gates from the same seed.
+                BoardGenerator.Output loaded = new BoardGenerator(new Random(1))
+                        .generate(new BarrierOptions(BarrierMode.BINARY));
+                assertEquals(text.start(), loaded.start());
+                assertEquals(text.exit(), loaded.exit());
+                assertArrayEquals(text.terrain(), loaded.terrain(), "rle " + rle);
+            }
+        } finally {
+            GameConfig.setMapResource(oldResource);
+        }
+    }
+
+    @Test
+    void randomLayoutsRoundTripInBothEncodings() {
+        Random random = new Random(3);
+        for (int round = 0; round < 20; round++) {
+            int rows = 3 + random.nextInt(40);
+            int cols = 3 + random.nextInt(40);
+            boolean[][] walls = GeneratorHelper.perimeterWalls(rows, cols);
+            boolean[][] barriers = new boolean[rows][cols];
+            for (int row = 1; row < rows - 1; row++) {
+                for (int col = 1; col < cols - 1; col++) barriers[row][col] = random.nextInt(4) == 0;
+            }
+            Position start = new Position(0, rows / 2);
+            Position exit = new Position(cols - 1, rows / 2);
+            Cell.Terrain[][] terrain = GeneratorHelper.toTerrainGrid(rows, cols, walls, barriers, start, exit);
+            BoardGenerator.Output layout = new BoardGenerator.Output(rows, cols, start, exit, terrain);
+
+            for (boolean rle : new boolean[] { false, true }) {
+                byte[] bytes = BinaryMap.encode(layout.source(), start, exit, rle);
+                BoardGenerator.Output back = BinaryMap.read(ByteBuffer.wrap(bytes));
+                assertArrayEquals(terrain, back.terrain());
+            }
+        }
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedFiles() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryMap.read(ByteBuffer.allocate(64)));
+
+        boolean[][] walls = GeneratorHelper.perimeterWalls(8, 8);
+        Position start = new Position(0, 4);
+        Position exit = new Position(7, 4);
+        Cell.Terrain[][] terrain = GeneratorHelper.toTerrainGrid(8, 8, walls, new boolean[8][8], start, exit);
+        byte[] bytes = BinaryMap.encode(new BoardGenerator.Output(8, 8, start, exit, terrain).source(),
+                start, exit, false);
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryMap.read(ByteBuffer.wrap(bytes, 0, bytes.length - 1).slice()));
+
+        // A raw payload must be exactly the packed grid.
+        byte[] longer = Arrays.copyOf(bytes, bytes.length + 4);
+        ByteBuffer.wrap(longer).putInt(32, bytes.length - 36 + 4);
+        assertThrows(IllegalArgumentException.class, () -> BinaryMap.read(ByteBuffer.wrap(longer)));
+
+        // Code 3 names no terrain.
+        byte[] badCode = bytes.clone();
+        badCode[36 + 5] |= 0b1100;
+        assertThrows(IllegalArgumentException.class, () -> BinaryMap.read(ByteBuffer.wrap(badCode)));
+        assertDoesNotThrow(() -> BinaryMap.read(ByteBuffer.wrap(bytes)));
+
+        // rows * cols must fit in an int.
+        byte[] huge = bytes.clone();
+        ByteBuffer.wrap(huge).putInt(8, 50_000).putInt(12, 50_000);
+        IllegalArgumentException tooLarge = assertThrows(IllegalArgumentException.class,
+                () -> BinaryMap.read(ByteBuffer.wrap(huge)));
+        assertEquals("Map is too large", tooLarge.getMessage());
+
+        // Start and exit are both set or both left to the loader.
+        byte[] loneStart = bytes.clone();
+        ByteBuffer.wrap(loneStart).putInt(24, -1).putInt(28, -1);
+        assertThrows(IllegalArgumentException.class, () -> BinaryMap.read(ByteBuffer.wrap(loneStart)));
+        byte[] badExit = bytes.clone();
+        ByteBuffer.wrap(badExit).putInt(16, -1).putInt(20, -1).putInt(24, 99);
+        assertThrows(IllegalArgumentException.class, () -> BinaryMap.read(ByteBuffer.wrap(badExit)));
+        byte[] noGates = bytes.clone();
+        ByteBuffer.wrap(noGates).putInt(16, -1).putInt(20, -1).putInt(24, -1).putInt(28, -1);
+        assertNull(BinaryMap.read(ByteBuffer.wrap(noGates)).start());
+    }
+}
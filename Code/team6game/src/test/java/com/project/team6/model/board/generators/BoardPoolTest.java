@@ -0,0 +1,124 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.generators.barrierProperties.BarrierMode;
+import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the pool refills in the background, retries, and counts hits and misses.
+ */
+final class BoardPoolTest {
+
+    @Test
+    void workersFillTheQueueAndTakesAreHits() throws InterruptedException {
+        AtomicInteger built = new AtomicInteger();
+        try (BoardPool pool = new BoardPool(() -> {
+            built.incrementAndGet();
+            Board board = TestBoards.empty7x7();
+            return new BoardPool.Ready(board, new Spawner(board, new Random(1)));
+        }, 2, 1)) {
+            awaitReady(pool, 2);
+            BoardPool.Ready first = pool.take();
+            BoardPool.Ready second = pool.take();
+            assertNotSame(first.board(), second.board());
+
+            awaitReady(pool, 2);
+            BoardPool.Stats stats = pool.stats();
+            assertEquals(2, stats.hits());
+            assertEquals(0, stats.misses());
+            assertTrue(stats.refills() >= 4);
+            assertTrue(stats.maxRefillMillis() >= stats.averageRefillMillis());
+            assertTrue(built.get() >= stats.refills());
+        }
+    }
+
+    @Test
+    void failingProducerKeepsTheErrorAndMissesSurfaceIt() throws InterruptedException {
+        try (BoardPool pool = new BoardPool(() -> {
+            throw new IllegalStateException("bad profile");
+        }, 1, 1)) {
+            for (int i = 0; i < 200 && pool.stats().failures() < 2; i++) Thread.sleep(5);
+            assertTrue(pool.stats().failures() >= 2);
+            assertEquals("bad profile", pool.stats().lastFailure().getMessage());
+            assertThrows(IllegalStateException.class, pool::take);
+            assertEquals(1, pool.stats().misses());
+        }
+    }
+
+    @Test
+    void workersRetryAfterFailedBuilds() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        try (BoardPool pool = new BoardPool(() -> {
+            if (calls.incrementAndGet() <= 3) throw new IllegalStateException("not yet");
+            Board board = TestBoards.empty7x7();
+            return new BoardPool.Ready(board, new Spawner(board, new Random(1)));
+        }, 1, 1)) {
+            awaitReady(pool, 1);
+            assertEquals(3, pool.stats().failures());
+            assertEquals("not yet", pool.stats().lastFailure().getMessage());
+        }
+    }
+
+    @Test
+    void clearDropsBoardsBuiltBeforeIt() throws InterruptedException {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<BoardPool.Ready> first = new AtomicReference<>();
+        try (BoardPool pool = new BoardPool(() -> {
+            Board board = TestBoards.empty7x7();
+            BoardPool.Ready ready = new BoardPool.Ready(board, new Spawner(board, new Random(1)));
+            if (first.compareAndSet(null, ready)) {
+                building.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return ready;
+        }, 1, 1)) {
+            assertTrue(building.await(2, TimeUnit.SECONDS));
+            pool.clear();
+            release.countDown();
+
+            awaitReady(pool, 1);
+            assertNotSame(first.get(), pool.take());
+        }
+    }
+
+    @Test
+    void realPoolHandsOutSpawnedBoards() throws InterruptedException {
+        GameConfig.setBoardDimensions(12, 12);
+        GameConfig.regularRewardCount = 4;
+        GameConfig.numPunishments = 3;
+        GameConfig.numEnemies = 0;
+        GameConfig.bonusRewardCount = 0;
+
+        BoardPool pool = new BoardPool(new BarrierOptions(BarrierMode.NONE), 1, 1);
+        try {
+            awaitReady(pool, 1);
+            BoardPool.Ready ready = pool.take();
+            assertEquals(4, ready.board().regularRewards().size());
+            assertEquals(1, pool.stats().hits());
+        } finally {
+            pool.close();
+        }
+        assertThrows(IllegalStateException.class, pool::take);
+    }
+
+    private static void awaitReady(BoardPool pool, int count) throws InterruptedException {
+        for (int i = 0; i < 400 && pool.stats().ready() < count; i++) Thread.sleep(5);
+        assertEquals(count, pool.stats().ready());
+    }
+}
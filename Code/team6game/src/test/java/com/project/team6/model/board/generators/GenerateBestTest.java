@@ -0,0 +1,84 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.barrierProperties.BarrierMode;
+import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
+import com.project.team6.model.board.generators.helpers.GeneratorHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests layout measures and best-of-K generation.
+ */
+final class GenerateBestTest {
+
+    @Test
+    void measuresOpenRoomAndCorridor() {
+        boolean[][] walls = GeneratorHelper.perimeterWalls(7, 7);
+        boolean[][] barriers = new boolean[7][7];
+        Position start = new Position(0, 3);
+        Position exit = new Position(6, 3);
+
+        MapQuality room = MapQuality.measure(output(walls, barriers, start, exit));
+        assertEquals(6, room.pathLength());
+        assertEquals(0, room.deadEnds());
+        assertEquals(2, room.chokePoints());   // the tiles in front of both gates
+
+        // Block every row but the middle one: a straight corridor.
+        for (int column = 1; column < 6; column++) {
+            for (int row : new int[] { 1, 2, 4, 5 }) barriers[row][column] = true;
+        }
+        MapQuality corridor = MapQuality.measure(output(walls, barriers, start, exit));
+        assertEquals(6, corridor.pathLength());
+        assertEquals(5, corridor.chokePoints());
+
+        barriers[3][3] = true;
+        assertEquals(-1, MapQuality.measure(output(walls, barriers, start, exit)).pathLength());
+        assertEquals(2, MapQuality.measure(output(walls, barriers, start, exit)).deadEnds());
+    }
+
+    @Test
+    void sameSeedPicksSameWinnerWithTheBestScore() {
+        int oldRows = GameConfig.rows;
+        int oldCols = GameConfig.cols;
+        double oldDensity = GameConfig.boardBarrierPercentage;
+        try {
+            GameConfig.setBoardDimensions(16, 16);
+            GameConfig.boardBarrierPercentage = 0.25;
+            BarrierOptions opts = new BarrierOptions(BarrierMode.RANDOM);
+
+            ConcurrentLinkedQueue<Double> scores = new ConcurrentLinkedQueue<>();
+            BoardGenerator.LayoutScorer scorer = layout -> {
+                double score = MapQuality.defaultScorer().score(layout);
+                scores.add(score);
+                return score;
+            };
+            BoardGenerator.Output a = new BoardGenerator(new Random(11)).generateBest(opts, 6, scorer);
+            assertEquals(6, scores.size());
+            double best = scores.stream().mapToDouble(Double::doubleValue).max().orElseThrow();
+            assertEquals(best, MapQuality.defaultScorer().score(a));
+
+            BoardGenerator.Output b = new BoardGenerator(new Random(11)).generateBest(opts, 6, scorer);
+            assertEquals(a.start(), b.start());
+            assertEquals(a.exit(), b.exit());
+            assertArrayEquals(a.terrain(), b.terrain());
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BoardGenerator().generateBest(opts, 0, scorer));
+        } finally {
+            GameConfig.setBoardDimensions(oldRows, oldCols);
+            GameConfig.boardBarrierPercentage = oldDensity;
+        }
+    }
+
+    private static BoardGenerator.Output output(boolean[][] walls, boolean[][] barriers,
+                                                Position start, Position exit) {
+        Cell.Terrain[][] terrain = GeneratorHelper.toTerrainGrid(7, 7, walls, barriers, start, exit);
+        return new BoardGenerator.Output(7, 7, start, exit, terrain);
+    }
+}
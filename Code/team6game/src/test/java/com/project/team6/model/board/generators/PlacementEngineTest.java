@@ -0,0 +1,179 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.helpers.PlacementEngine;
+import com.project.team6.model.board.generators.helpers.SpawnerHelper;
+import com.project.team6.model.board.generators.helpers.SpeculativeValidator;
+import com.project.team6.model.board.utilities.IntHashSet;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the block-cut-tree and speculative placement checks against flood checks.
+ */
+final class PlacementEngineTest {
+
+    @Test
+    void canBlockMatchesFloodOnRandomBoards() {
+        Random random = new Random(11L);
+        for (int round = 0; round < 20; round++) {
+            Board board = TestBoards.randomWalls(random, 12, 15);
+            int start = board.positions().key(board.start());
+            int[] required = {
+                    board.positions().key(board.exit()),
+                    board.positions().key(new Position(1, 1)),
+                    board.positions().key(new Position(13, 10))
+            };
+
+            PlacementEngine engine = new PlacementEngine(board, start, required);
+            IntHashSet blocked = new IntHashSet();
+
+            for (int key : SpawnerHelper.freeFloorKeys(board)) {
+                if (contains(required, key)) continue;
+
+                blocked.add(key);
+                boolean expected = reachesAll(board, start, required, blocked);
+                assertEquals(expected, engine.canBlock(key), "round " + round + " key " + key);
+
+                if (expected && random.nextInt(3) == 0) {
+                    engine.block(key);
+                } else {
+                    blocked.remove(key);
+                }
+            }
+        }
+    }
+
+    @Test
+    void allModesPlaceTheSameCells() {
+        GameConfig.numPunishments = 12;
+        GameConfig.numEnemies = 6;
+
+        for (long seed = 1; seed <= 10; seed++) {
+            Board expected = spawn(seed, Spawner.PlacementMode.FLOOD);
+            for (Spawner.PlacementMode mode : Spawner.PlacementMode.values()) {
+                Board actual = spawn(seed, mode);
+                for (int row = 0; row < expected.rows(); row++) {
+                    for (int col = 0; col < expected.cols(); col++) {
+                        Position p = new Position(col, row);
+                        assertEquals(expected.cellAt(p).symbol(), actual.cellAt(p).symbol(),
+                                mode + " seed " + seed);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void speculativeValidatorMatchesSequentialChecks() {
+        Random random = new Random(4L);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 10; round++) {
+                Board board = TestBoards.randomWalls(random, 20, 30);
+                int start = board.positions().key(board.start());
+                int[] required = {
+                        board.positions().key(board.exit()),
+                        board.positions().key(new Position(1, 1))
+                };
+                int[] candidates = Arrays.stream(SpawnerHelper.freeFloorKeys(board))
+                        .filter(key -> !contains(required, key))
+                        .toArray();
+
+                SpeculativeValidator validator = new SpeculativeValidator(board, start, required, candidates, pool);
+                IntHashSet blocked = new IntHashSet();
+                for (int key : candidates) {
+                    blocked.add(key);
+                    boolean expected = SpawnerHelper.canReachAll(board, start, required, blocked);
+                    if (!expected) blocked.remove(key);
+
+                    assertEquals(expected, validator.tryBlock(key), "round " + round + " key " + key);
+                }
+                assertEquals(candidates.length, validator.speculatedCount());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void speculativeValidatorRarelyRevalidatesWhenMostCandidatesPass() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Board board = TestBoards.empty(40, 40);
+            int start = board.positions().key(board.start());
+            int[] required = {
+                    board.positions().key(board.exit()),
+                    board.positions().key(new Position(1, 1)),
+                    board.positions().key(new Position(38, 38))
+            };
+            int[] free = Arrays.stream(SpawnerHelper.freeFloorKeys(board))
+                    .filter(key -> !contains(required, key))
+                    .toArray();
+            Random random = new Random(6L);
+            for (int i = free.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = free[i];
+                free[i] = free[j];
+                free[j] = t;
+            }
+            int[] candidates = Arrays.copyOf(free, 80);
+
+            SpeculativeValidator validator = new SpeculativeValidator(board, start, required, candidates, pool);
+            IntHashSet blocked = new IntHashSet();
+            int accepted = 0;
+            for (int key : candidates) {
+                blocked.add(key);
+                boolean expected = SpawnerHelper.canReachAll(board, start, required, blocked);
+                if (!expected) blocked.remove(key);
+
+                boolean actual = validator.tryBlock(key);
+                assertEquals(expected, actual, "key " + key);
+                if (actual) accepted++;
+            }
+            assertTrue(accepted > candidates.length * 3 / 4, "accepted " + accepted);
+            // Only commits that land on a kept path force a second check.
+            assertTrue(validator.revalidatedCount() <= 2,
+                    "revalidated " + validator.revalidatedCount() + " of " + accepted);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Helpers
+    // ------------------------------------------------------------------
+
+    private static Board spawn(long seed, Spawner.PlacementMode mode) {
+        Board board = TestBoards.randomWalls(new Random(seed), 14, 18);
+        board.registerCollectible(new RegularReward(new Position(1, 1)));
+
+        Spawner spawner = new Spawner(board, new Random(seed), mode);
+        spawner.spawnPunishments();
+        spawner.spawnEnemies();
+        return board;
+    }
+
+    private static boolean reachesAll(Board board, int start, int[] targets, IntHashSet blocked) {
+        for (int target : targets) {
+            if (!SpawnerHelper.canReach(board, start, target, blocked)) return false;
+        }
+        return true;
+    }
+
+    private static boolean contains(int[] keys, int key) {
+        for (int k : keys) {
+            if (k == key) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.helpers.PoissonDiscSampler;
+import com.project.team6.model.collectibles.rewards.RegularReward;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Poisson-disc spawns should keep their spacing and stay deterministic.
+ */
+final class PoissonDiscSamplerTest {
+
+    @AfterEach
+    void resetSpacing() {
+        GameConfig.spawnMinDistance = 0;
+    }
+
+    @Test
+    void samplesKeepMinimumDistanceAndAvoidItems() {
+        for (long seed = 1; seed <= 10; seed++) {
+            Board board = TestBoards.randomWalls(new Random(seed), 30, 40);
+            board.registerCollectible(new RegularReward(new Position(1, 1)));
+            int cols = board.cols();
+            int minDistance = 4;
+
+            int[] keys = PoissonDiscSampler.sample(board, new Random(seed), 20, minDistance, null);
+            assertTrue(keys.length > 0);
+            int one = 1 * cols + 1;
+            for (int i = 0; i < keys.length; i++) {
+                assertTrue(board.view().isFreeFloor(keys[i]));
+                assertTrue(distance2(keys[i], one, cols) >= minDistance * minDistance, "too close to item");
+                for (int j = i + 1; j < keys.length; j++) {
+                    assertTrue(distance2(keys[i], keys[j], cols) >= minDistance * minDistance,
+                            "seed " + seed + ": " + keys[i] + " and " + keys[j]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameSamples() {
+        Board board = TestBoards.empty(40, 40);
+        int[] a = PoissonDiscSampler.sample(board, new Random(7), 25, 5, key -> key % 2 == 0);
+        int[] b = PoissonDiscSampler.sample(board, new Random(7), 25, 5, key -> key % 2 == 0);
+        assertArrayEquals(a, b);
+        for (int key : a) assertEquals(0, key % 2);
+    }
+
+    @Test
+    void spacedRegularRewardsStillMeetTheCount() {
+        GameConfig.regularRewardCount = 30;
+        GameConfig.spawnMinDistance = 3;
+
+        Board board = TestBoards.empty(20, 20);
+        Spawner.withSeed(board, 3L).spawnRegularRewards();
+        List<RegularReward> rewards = board.regularRewards();
+        assertEquals(30, rewards.size());
+
+        Board again = TestBoards.empty(20, 20);
+        Spawner.withSeed(again, 3L).spawnRegularRewards();
+        for (int i = 0; i < rewards.size(); i++) {
+            assertEquals(rewards.get(i).position(), again.regularRewards().get(i).position());
+        }
+    }
+
+    private static int distance2(int a, int b, int cols) {
+        int dc = a % cols - b % cols;
+        int dr = a / cols - b / cols;
+        return dc * dc + dr * dr;
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.Position;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plans computed off the board thread should match direct spawning.
+ */
+final class SpawnPlanTest {
+
+    @Test
+    void appliedPlanMatchesDirectSpawning() throws Exception {
+        GameConfig.regularRewardCount = 6;
+        GameConfig.numPunishments = 5;
+        GameConfig.numEnemies = 4;
+
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            for (long seed = 1; seed <= 5; seed++) {
+                Board direct = TestBoards.randomWalls(new Random(seed), 20, 26);
+                Spawner spawner = Spawner.withSeed(direct, seed);
+                spawner.spawnRegularRewards();
+                spawner.spawnPunishments();
+                spawner.spawnEnemies();
+
+                Board planned = TestBoards.randomWalls(new Random(seed), 20, 26);
+                SpawnPlan plan = Spawner.withSeed(planned, seed).planAsync(worker).get();
+                assertEquals(0, planned.regularRewards().size(), "planning must not touch the board");
+
+                plan.applyTo(planned);
+                for (int row = 0; row < direct.rows(); row++) {
+                    for (int col = 0; col < direct.cols(); col++) {
+                        Position p = new Position(col, row);
+                        assertEquals(direct.cellAt(p).symbol(), planned.cellAt(p).symbol(), "seed " + seed);
+                    }
+                }
+                assertEquals(direct.enemies().size(), planned.enemies().size());
+            }
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void stalePlanIsRejectedWithoutChanges() {
+        GameConfig.regularRewardCount = 3;
+        GameConfig.numPunishments = 0;
+        GameConfig.numEnemies = 0;
+
+        Board board = TestBoards.empty(12, 12);
+        SpawnPlan plan = Spawner.withSeed(board, 2L).plan();
+
+        board.setTerrain(new Position(1, 1), Cell.Terrain.WALL);
+        assertThrows(IllegalStateException.class, () -> plan.applyTo(board));
+        assertEquals(0, board.regularRewards().size());
+    }
+}
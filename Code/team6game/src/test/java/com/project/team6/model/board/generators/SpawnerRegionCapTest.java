@@ -0,0 +1,81 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.CollectibleRegistry;
+import com.project.team6.model.board.RegionCounts;
+import com.project.team6.model.board.generators.helpers.SpeculativeValidator;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that spawning respects per-region item caps.
+ */
+final class SpawnerRegionCapTest {
+
+    @AfterEach
+    void resetCaps() {
+        GameConfig.spawnRegionSize = 0;
+        GameConfig.spawnRegionCap = 0;
+        GameConfig.spawnMinDistance = 0;
+    }
+
+    @Test
+    void rewardsAndPunishmentsStayUnderTheCap() {
+        GameConfig.spawnRegionSize = 5;
+        GameConfig.spawnRegionCap = 3;
+        GameConfig.regularRewardCount = 20;
+        GameConfig.numPunishments = 15;
+
+        for (long seed = 1; seed <= 5; seed++) {
+            Board board = TestBoards.empty(20, 20);
+            Spawner spawner = Spawner.withSeed(board, seed);
+            spawner.spawnRegularRewards();
+            spawner.spawnPunishments();
+
+            assertEquals(20, board.regularRewards().size());
+            assertTrue(board.collectibles().count(CollectibleRegistry.Kind.PUNISHMENT) > 0);
+            RegionCounts regions = board.regionCounts(5);
+            for (int key = 0; key < board.rows() * board.cols(); key++) {
+                assertTrue(regions.count(key) <= 3, "seed " + seed + " key " + key);
+            }
+        }
+    }
+
+    @Test
+    void countWinsWhenCapsCannotFitIt() {
+        GameConfig.spawnRegionSize = 10;
+        GameConfig.spawnRegionCap = 1;
+        GameConfig.spawnMinDistance = 2;
+        GameConfig.regularRewardCount = 12;
+
+        Board board = TestBoards.empty(20, 20);
+        Spawner.withSeed(board, 8L).spawnRegularRewards();
+        assertEquals(12, board.regularRewards().size());
+    }
+
+    @Test
+    void cappedParallelPlacementStaysInBatches() {
+        GameConfig.spawnRegionSize = 4;
+        GameConfig.spawnRegionCap = 1;
+        GameConfig.regularRewardCount = 6;
+        GameConfig.numPunishments = 30;
+
+        Board board = TestBoards.empty(24, 24);
+        Spawner spawner = new Spawner(board, new Random(5L), Spawner.PlacementMode.PARALLEL_FLOOD);
+        spawner.spawnRegularRewards();
+        spawner.spawnPunishments();
+
+        // Regions fill up during the pass, so some candidates are skipped.
+        SpeculativeValidator validator = spawner.lastSpeculativeValidator();
+        assertNotNull(validator);
+        assertTrue(validator.speculatedCount() > 0);
+        assertEquals(0, validator.directCount());
+        assertTrue(board.collectibles().count(CollectibleRegistry.Kind.PUNISHMENT) > 0);
+    }
+}
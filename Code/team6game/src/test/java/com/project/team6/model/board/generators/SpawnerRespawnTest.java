@@ -0,0 +1,65 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.CollectibleRegistry;
+import com.project.team6.model.board.Position;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests timed respawns of regular rewards and punishments.
+ */
+final class SpawnerRespawnTest {
+
+    @Test
+    void collectedRewardRespawnsAfterItsDelay() {
+        GameConfig.regularRewardCount = 1;
+        Board board = TestBoards.empty(10, 10);
+        Spawner spawner = Spawner.withSeed(board, 4L);
+        spawner.spawnRegularRewards();
+        spawner.setRespawnDelay(CollectibleRegistry.Kind.REGULAR_REWARD, 5);
+
+        Position reward = board.regularRewards().get(0).position();
+        board.collectAt(reward);
+        spawner.notifyCollected(CollectibleRegistry.Kind.REGULAR_REWARD);
+        assertEquals(1, spawner.pendingRespawns());
+
+        for (int t = 0; t < 4; t++) spawner.onTick();
+        assertEquals(0, board.regularRewards().size());
+        spawner.onTick();
+        assertEquals(1, board.regularRewards().size());
+        assertEquals(0, spawner.pendingRespawns());
+    }
+
+    @Test
+    void staggeredWaveSpawnsOnePerInterval() {
+        Board board = TestBoards.empty(12, 12);
+        Spawner spawner = Spawner.withSeed(board, 9L);
+        spawner.scheduleWave(CollectibleRegistry.Kind.PUNISHMENT, 4, 2, 3);
+
+        int[] counts = new int[12];
+        for (int t = 1; t < counts.length; t++) {
+            spawner.onTick();
+            counts[t] = board.collectibles().count(CollectibleRegistry.Kind.PUNISHMENT);
+        }
+        assertEquals(0, counts[1]);
+        assertEquals(1, counts[2]);
+        assertEquals(2, counts[5]);
+        assertEquals(3, counts[8]);
+        assertEquals(4, counts[11]);
+    }
+
+    @Test
+    void kindsWithoutDelayAreIgnoredAndBonusesRejected() {
+        Board board = TestBoards.empty7x7();
+        Spawner spawner = Spawner.withSeed(board, 1L);
+
+        spawner.notifyCollected(CollectibleRegistry.Kind.PUNISHMENT);
+        assertEquals(0, spawner.pendingRespawns());
+        assertThrows(IllegalArgumentException.class,
+                () -> spawner.setRespawnDelay(CollectibleRegistry.Kind.BONUS_REWARD, 3));
+    }
+}
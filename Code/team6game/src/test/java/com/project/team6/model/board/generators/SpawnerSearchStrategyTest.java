@@ -0,0 +1,71 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.helpers.SpawnerHelper;
+import com.project.team6.model.board.generators.helpers.SpawnerHelper.SearchResult;
+import com.project.team6.model.board.generators.helpers.SpawnerHelper.SearchStrategy;
+import com.project.team6.model.board.utilities.IntHashSet;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Goal-directed searches should agree with the flood and do less work on open maps.
+ */
+final class SpawnerSearchStrategyTest {
+
+    @Test
+    void everyStrategyAgreesWithFlood() {
+        Random random = new Random(17L);
+        for (int round = 0; round < 40; round++) {
+            Board board = TestBoards.randomWalls(random, 10 + random.nextInt(20), 10 + random.nextInt(80));
+            int size = board.rows() * board.cols();
+            int from = board.positions().key(board.start());
+
+            IntHashSet blocked = new IntHashSet();
+            for (int i = 0; i < 10; i++) blocked.add(random.nextInt(size));
+            blocked.remove(from);
+
+            for (int i = 0; i < 10; i++) {
+                int to = random.nextInt(size);
+                boolean expected = SpawnerHelper.canReach(board, from, to, blocked);
+                for (SearchStrategy strategy : SearchStrategy.values()) {
+                    SearchResult result = SpawnerHelper.search(board, from, to, blocked, strategy);
+                    assertEquals(expected, result.reachable(), strategy + " round " + round);
+                }
+            }
+        }
+    }
+
+    @Test
+    void goalDirectedSearchesExpandLessOnOpenMaps() {
+        Board board = TestBoards.empty(101, 101);
+        int from = board.positions().key(new Position(45, 50));
+        int to = board.positions().key(new Position(55, 50));
+
+        int bfs = SpawnerHelper.search(board, from, to, null, SearchStrategy.BFS).expanded();
+        int both = SpawnerHelper.search(board, from, to, null, SearchStrategy.BIDIRECTIONAL).expanded();
+        SearchResult aStar = SpawnerHelper.search(board, from, to, null, SearchStrategy.A_STAR);
+
+        assertTrue(aStar.reachable());
+        assertTrue(both < bfs, both + " vs " + bfs);
+        assertTrue(aStar.expanded() <= 11, aStar.toString());
+    }
+
+    @Test
+    void closedTargetIsRejectedWithoutSearching() {
+        Board board = TestBoards.empty7x7();
+        int from = board.positions().key(board.start());
+        int wall = board.positions().key(new Position(0, 0));
+
+        for (SearchStrategy strategy : SearchStrategy.values()) {
+            SearchResult result = SpawnerHelper.search(board, from, wall, null, strategy);
+            assertFalse(result.reachable());
+            assertEquals(0, result.expanded());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.team6.model.board.generators;
+
+import com.project.team6.controller.GameConfig;
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.barrierProperties.BarrierMode;
+import com.project.team6.model.board.generators.barrierProperties.BarrierOptions;
+import com.project.team6.model.board.generators.helpers.TextMapParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the streaming text map parser.
+ */
+final class TextMapParserTest {
+
+    private static final String MAP = "XXXXX\nS.#.E\nXXXXX";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void lineEndingsParseToTheSameGrid() {
+        TextMapParser.Result lf = parse(MAP + "\n");
+        assertEquals(new Position(0, 1), lf.start());
+        assertEquals(new Position(4, 1), lf.exit());
+        assertEquals(Cell.Terrain.BARRIER, lf.terrain()[1][2]);
+        assertEquals(Cell.Terrain.WALL, lf.terrain()[2][4]);
+
+        for (String text : new String[] { MAP, MAP.replace("\n", "\r\n") + "\r\n", MAP.replace("\n", "\r") }) {
+            TextMapParser.Result other = parse(text);
+            assertArrayEquals(lf.terrain(), other.terrain());
+            assertEquals(lf.start(), other.start());
+            assertEquals(lf.exit(), other.exit());
+        }
+    }
+
+    @Test
+    void reportsLineAndColumnOfBadRows() {
+        IllegalArgumentException narrow = assertThrows(IllegalArgumentException.class,
+                () -> parse("XXXXX\r\nX..X\r\nXXXXX"));
+        assertEquals("test.txt:2:5: line is 4 wide, expected 5", narrow.getMessage());
+
+        IllegalArgumentException wide = assertThrows(IllegalArgumentException.class,
+                () -> parse("XXX\nXXX\nX..X\n"));
+        assertEquals("test.txt:3:4: line is wider than 3", wide.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> parse(""));
+        assertThrows(IllegalArgumentException.class, () -> parse("\nXXX"));
+    }
+
+    @Test
+    void loneGateReadsAsFloor() {
+        TextMapParser.Result map = parse("XXX\nS..\nXXX\n");
+        assertNull(map.start());
+        assertNull(map.exit());
+        assertEquals(Cell.Terrain.FLOOR, map.terrain()[1][0]);
+    }
+
+    @Test
+    void textModeReadsFilesLikeResources() throws Exception {
+        String oldResource = GameConfig.mapResource;
+        try {
+            GameConfig.setMapResource("maps/level1.txt");
+            BoardGenerator.Output resource = new BoardGenerator(new Random(1))
+                    .generate(new BarrierOptions(BarrierMode.TEXT));
+
+            // The same map with CRLF line breaks, read from the filesystem.
+            Path source = Path.of(getClass().getClassLoader().getResource("maps/level1.txt").toURI());
+            String crlf = String.join("\r\n", Files.readAllLines(source)) + "\r\n";
+            Path file = dir.resolve("level1-crlf.txt");
+            Files.writeString(file, crlf);
+
+            GameConfig.setMapResource(file.toString());
+            BoardGenerator.Output loaded = new BoardGenerator(new Random(1))
+                    .generate(new BarrierOptions(BarrierMode.TEXT));
+            assertEquals(resource.start(), loaded.start());
+            assertEquals(resource.exit(), loaded.exit());
+            assertArrayEquals(resource.terrain(), loaded.terrain());
+        } finally {
+            GameConfig.setMapResource(oldResource);
+        }
+    }
+
+    private static TextMapParser.Result parse(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return TextMapParser.parse(new ByteArrayInputStream(bytes), "test.txt");
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.team6.model.board.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests epoch stamps, the ring queue, and per-thread reuse.
+ */
+final class BfsWorkspaceTest {
+
+    @Test
+    void newSearchForgetsVisitsAndEmptiesQueue() {
+        BfsWorkspace ws = new BfsWorkspace();
+        ws.resize(5, 7);
+
+        ws.beginSearch();
+        assertTrue(ws.visit(12));
+        assertFalse(ws.visit(12));
+        ws.enqueue(12);
+        ws.enqueue(3);
+        assertEquals(12, ws.dequeue());
+
+        ws.beginSearch();
+        assertFalse(ws.isVisited(12));
+        assertTrue(ws.queueIsEmpty());
+    }
+
+    @Test
+    void queueHoldsEveryCellOnce() {
+        BfsWorkspace ws = new BfsWorkspace();
+        ws.resize(9, 13);
+        for (int round = 0; round < 3; round++) {
+            ws.beginSearch();
+            for (int key = 0; key < 9 * 13; key++) ws.enqueue(key);
+            for (int key = 0; key < 9 * 13; key++) assertEquals(key, ws.dequeue());
+            assertTrue(ws.queueIsEmpty());
+        }
+    }
+
+    @Test
+    void threadWorkspaceIsReusedUntilSizeChanges() {
+        BfsWorkspace a = BfsWorkspace.forThread(10, 10);
+        BitPlane plane = a.plane(0);
+        BfsWorkspace b = BfsWorkspace.forThread(10, 10);
+
+        assertSame(a, b);
+        assertSame(plane, b.plane(0));
+
+        BfsWorkspace c = BfsWorkspace.forThread(10, 70);
+        assertSame(a, c);
+        assertEquals(70, c.plane(0).cols());
+    }
+
+    @Test
+    void buffersDoNotOutliveTheirBoardSize() {
+        BfsWorkspace ws = new BfsWorkspace();
+        ws.resize(200, 200);
+        ws.beginSearch();
+        assertEquals(40_000, ws.ints(40_000).length);
+        assertEquals(40_000, ws.longs(40_000).length);
+
+        ws.resize(4, 4);
+        assertEquals(16, ws.ints(16).length);
+        assertEquals(16, ws.longs(16).length);
+        ws.beginSearch();
+        assertTrue(ws.visit(15));
+
+        BfsWorkspace before = BfsWorkspace.forThread(10, 10);
+        BfsWorkspace.releaseThread();
+        assertNotSame(before, BfsWorkspace.forThread(10, 10));
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.team6.model.board.utilities;
+
+import com.project.team6.model.board.Cell;
+import com.project.team6.model.board.Position;
+import com.project.team6.model.board.generators.helpers.GeneratorHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the word-parallel flood against the plain BFS helpers.
+ */
+final class BitFloodTest {
+
+    @Test
+    void floodMatchesBfsOnRandomGrids() {
+        Random random = new Random(11L);
+        int[] widths = {3, 63, 64, 65, 130};
+
+        for (int cols : widths) {
+            for (int round = 0; round < 20; round++) {
+                int rows = 3 + random.nextInt(40);
+                Cell.Terrain[][] terrain = randomTerrain(rows, cols, 0.35, random);
+                Position start = new Position(random.nextInt(cols), random.nextInt(rows));
+                terrain[start.row()][start.column()] = Cell.Terrain.FLOOR;
+
+                boolean[][] visited = new boolean[rows][cols];
+                int expected = GeneratorHelper.BFSCount(terrain, start, visited);
+
+                BitPlane reached = new BitPlane(rows, cols);
+                int actual = GeneratorHelper.BFSCount(GeneratorHelper.passablePlane(terrain), start, reached);
+
+                assertEquals(expected, actual);
+                for (int row = 0; row < rows; row++) {
+                    for (int column = 0; column < cols; column++) {
+                        assertEquals(visited[row][column], reached.get(column, row));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void reachesFollowsWindingPathAcrossWords() {
+        // Serpentine: every other row open, linked at alternating ends.
+        int rows = 9;
+        int cols = 150;
+        BitPlane open = new BitPlane(rows, cols);
+        for (int row = 0; row < rows; row += 2) {
+            for (int column = 0; column < cols; column++) open.set(column, row);
+            if (row + 1 < rows) open.set(row % 4 == 0 ? cols - 1 : 0, row + 1);
+        }
+
+        BitPlane scratch = new BitPlane(rows, cols);
+        assertTrue(BitFlood.reaches(open, 0, 0, 0, rows - 1, scratch));
+
+        open.clear(cols - 1, 1);
+        assertFalse(BitFlood.reaches(open, 0, 0, 0, rows - 1, scratch));
+    }
+
+    @Test
+    void reachesAllMatchesOneFloodPerTarget() {
+        Random random = new Random(8L);
+        for (int round = 0; round < 60; round++) {
+            int rows = 3 + random.nextInt(30);
+            int cols = 3 + random.nextInt(140);
+            BitPlane open = GeneratorHelper.passablePlane(randomTerrain(rows, cols, 0.3, random));
+            open.set(0, 0);
+
+            int[] targets = new int[1 + random.nextInt(6)];
+            boolean expected = true;
+            BitPlane scratch = new BitPlane(rows, cols);
+            for (int i = 0; i < targets.length; i++) {
+                int column = random.nextInt(cols);
+                int row = random.nextInt(rows);
+                targets[i] = row * cols + column;
+                expected &= BitFlood.reaches(open, 0, 0, column, row, scratch);
+            }
+
+            assertEquals(expected, BitFlood.reachesAll(open, 0, 0, targets, targets.length, scratch));
+        }
+    }
+
+    @Test
+    void pathFloodKeepsOpenPathsToEveryTarget() {
+        Random random = new Random(14L);
+        for (int round = 0; round < 60; round++) {
+            int rows = 3 + random.nextInt(30);
+            int cols = 3 + random.nextInt(140);
+            BitPlane open = GeneratorHelper.passablePlane(randomTerrain(rows, cols, 0.3, random));
+            open.set(0, 0);
+
+            int[] targets = new int[1 + random.nextInt(6)];
+            for (int i = 0; i < targets.length; i++) targets[i] = random.nextInt(rows * cols);
+            boolean expected = BitFlood.reachesAll(open, 0, 0, targets.clone(), targets.length,
+                    new BitPlane(rows, cols));
+
+            PathFlood paths = new PathFlood(rows, cols);
+            assertEquals(expected, paths.connect(open, 0, targets, targets.length));
+            if (!expected) continue;
+
+            // The paths alone, plus the seed, still connect every target.
+            BitPlane onPath = new BitPlane(rows, cols);
+            onPath.set(0);
+            for (int key : paths.pathKeys()) {
+                assertTrue(open.get(key));
+                onPath.set(key);
+            }
+            assertTrue(BitFlood.reachesAll(onPath, 0, 0, targets.clone(), targets.length,
+                    new BitPlane(rows, cols)));
+        }
+    }
+
+    @Test
+    void pathFloodPathsAreShortest() {
+        BitPlane open = new BitPlane(9, 70);
+        for (int row = 0; row < 9; row++) open.setRange(row, 0, 70);
+        PathFlood paths = new PathFlood(9, 70);
+
+        assertTrue(paths.connect(open, 0, new int[] { 8 * 70 + 69 }, 1));
+        assertEquals(8 + 69, paths.pathKeys().length);
+    }
+
+    @Test
+    void isolatedMatchesHasIsolatedFloor() {
+        Random random = new Random(5L);
+        for (int round = 0; round < 50; round++) {
+            int rows = 3 + random.nextInt(10);
+            int cols = 3 + random.nextInt(140);
+            Cell.Terrain[][] terrain = randomTerrain(rows, cols, 0.6, random);
+
+            BitPlane passable = GeneratorHelper.passablePlane(terrain);
+            int isolated = BitFlood.isolated(passable, new BitPlane(rows, cols));
+
+            assertEquals(GeneratorHelper.hasIsolatedFloor(terrain), isolated > 0);
+            assertEquals(GeneratorHelper.countPassable(terrain), passable.cardinality());
+        }
+    }
+
+    private static Cell.Terrain[][] randomTerrain(int rows, int cols, double wallChance, Random random) {
+        Cell.Terrain[][] terrain = new Cell.Terrain[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < cols; column++) {
+                terrain[row][column] = random.nextDouble() < wallChance
+                        ? Cell.Terrain.WALL : Cell.Terrain.FLOOR;
+            }
+        }
+        return terrain;
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.team6.model.board.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the primitive int set and map against java.util collections.
+ */
+final class IntHashSetTest {
+
+    @Test
+    void matchesHashSetUnderRandomAddsAndRemoves() {
+        Random random = new Random(7L);
+        IntHashSet set = new IntHashSet();
+        Set<Integer> reference = new HashSet<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                assertEquals(reference.add(key), set.add(key));
+            } else {
+                assertEquals(reference.remove(key), set.remove(key));
+            }
+        }
+
+        assertEquals(reference.size(), set.size());
+        for (int key = 0; key < 500; key++) {
+            assertEquals(reference.contains(key), set.contains(key));
+        }
+    }
+
+    @Test
+    void mapStoresAndRemovesValues() {
+        IntHashMap<String> map = new IntHashMap<>();
+        for (int key = 0; key < 100; key++) {
+            map.put(key * 31, "v" + key);
+        }
+
+        assertEquals("v5", map.get(155));
+        assertEquals("v5", map.remove(155));
+        assertNull(map.get(155));
+        assertEquals(99, map.size());
+    }
+
+    @Test
+    void negativeKeysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet().add(-1));
+        assertFalse(new IntHashSet().contains(-1));
+    }
+}
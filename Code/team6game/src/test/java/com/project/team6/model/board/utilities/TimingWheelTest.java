@@ -0,0 +1,76 @@
+package com.project.team6.model.board.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that timers fire on their exact tick across every wheel level.
+ */
+final class TimingWheelTest {
+
+    @Test
+    void timersFireOnTheirDeadline() {
+        TimingWheel wheel = new TimingWheel();
+        Random random = new Random(5);
+        int[] delays = new int[2000];
+        for (int i = 0; i < delays.length; i++) {
+            // Mix of near, middle and far delays, including level boundaries.
+            delays[i] = switch (i % 4) {
+                case 0 -> 1 + random.nextInt(64);
+                case 1 -> 64 * (1 + random.nextInt(64));
+                case 2 -> 1 + random.nextInt(5000);
+                default -> 1 + random.nextInt(300_000);
+            };
+            wheel.schedule(delays[i], i);
+        }
+        assertEquals(delays.length, wheel.size());
+
+        long[] firedAt = new long[delays.length];
+        while (!wheel.isEmpty()) {
+            wheel.advance(i -> firedAt[i] = wheel.now());
+        }
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(delays[i], firedAt[i], "timer " + i);
+        }
+    }
+
+    @Test
+    void timersBeyondTheTopLevelWaitOnOverflow() {
+        TimingWheel wheel = new TimingWheel();
+        long far = (1L << 24) + 70;
+        wheel.schedule(far, 1);
+        wheel.schedule(3, 2);
+
+        List<Long> fired = new ArrayList<>();
+        while (!wheel.isEmpty()) {
+            wheel.advance(i -> fired.add(wheel.now()));
+        }
+        assertEquals(List.of(3L, far), fired);
+    }
+
+    @Test
+    void callbacksCanRescheduleAndClearDropsEverything() {
+        TimingWheel wheel = new TimingWheel();
+        wheel.schedule(0, 7);
+
+        List<Long> fired = new ArrayList<>();
+        for (int t = 0; t < 10; t++) {
+            wheel.advance(i -> {
+                fired.add(wheel.now());
+                if (fired.size() < 3) wheel.schedule(2, i);
+            });
+        }
+        assertEquals(List.of(1L, 3L, 5L), fired);
+
+        wheel.schedule(1, 1);
+        wheel.schedule(100, 2);
+        wheel.clear();
+        assertTrue(wheel.isEmpty());
+        wheel.advance(i -> fail("cleared timer fired"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.team6.model.characters.enemies;
+
+import com.project.team6.model.board.Board;
+import com.project.team6.model.board.PositionTable;
+import com.project.team6.model.board.Position;
+import com.project.team6.testutil.TestBoards;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The steady-state enemy tick must not allocate.
+ */
+final class MovingEnemyAllocationTest {
+
+    private static final int ENEMIES = 10_000;
+
+    @Test
+    void steadyStateTickAllocatesNothingWithTenThousandEnemies() {
+        Board board = TestBoards.empty(202, 202);
+        PositionTable positions = board.positions();
+
+        // Warm the interned table so every tile already has its Position.
+        for (int key = 0; key < positions.size(); key++) {
+            positions.at(key);
+        }
+
+        MovingEnemy[] enemies = new MovingEnemy[ENEMIES];
+        int placed = 0;
+        for (int row = 1; row <= 200 && placed < ENEMIES; row += 2) {
+            for (int col = 2; col <= 200 && placed < ENEMIES; col += 2) {
+                enemies[placed] = new MovingEnemy(positions.at(col, row), 1);
+                board.registerEnemy(enemies[placed]);
+                placed++;
+            }
+        }
+        assertEquals(ENEMIES, placed);
+
+        // Two far targets keep the crowd moving back and forth.
+        Position west = positions.at(1, 100);
+        Position east = positions.at(200, 100);
+
+        for (int i = 0; i < 400; i++) {
+            board.tick(i % 40 < 20 ? west : east);
+        }
+
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long overheadStart = mx.getThreadAllocatedBytes(thread);
+        long overhead = mx.getThreadAllocatedBytes(thread) - overheadStart;
+
+        long columnsBefore = columnSum(enemies);
+        long before = mx.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100; i++) {
+            board.tick(i % 40 < 20 ? west : east);
+        }
+        long allocated = mx.getThreadAllocatedBytes(thread) - before - overhead;
+
+        assertNotEquals(columnsBefore, columnSum(enemies), "enemies should keep moving");
+        assertEquals(0L, allocated, "bytes allocated across 100 steady-state ticks");
+    }
+
+    private static long columnSum(MovingEnemy[] enemies) {
+        long sum = 0;
+        for (MovingEnemy e : enemies) {
+            sum += e.position().column();
+        }
+        return sum;
+    }
+}
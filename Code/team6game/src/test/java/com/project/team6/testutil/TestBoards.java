@@ -7,6 +7,7 @@ import com.project.team6.model.board.generators.BoardGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Builds small boards for tests.
@@ -40,6 +41,52 @@ public final class TestBoards {
         return new Board(out);
     }
 
+    /**
+     * Returns an empty board of any size with a perimeter wall.
+     * Start is on the west edge and exit on the east edge, both on the middle row.
+     */
+    public static Board empty(int rows, int cols) {
+        Cell.Terrain[][] terrain = new Cell.Terrain[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                boolean border = (col == 0 || col == cols - 1 || row == 0 || row == rows - 1);
+                terrain[row][col] = border ? Cell.Terrain.WALL : Cell.Terrain.FLOOR;
+            }
+        }
+
+        Position start = new Position(0, rows / 2);
+        Position exit  = new Position(cols - 1, rows / 2);
+        terrain[start.row()][start.column()] = Cell.Terrain.START;
+        terrain[exit.row()][exit.column()]   = Cell.Terrain.EXIT;
+
+        return new Board(new BoardGenerator.Output(rows, cols, start, exit, terrain));
+    }
+
+    /**
+     * Returns a board with a perimeter wall and about one interior wall in four.
+     * Start and exit are placed as in {@link #empty(int, int)};
+     * (1,1) and (cols-2,rows-2) are always floor.
+     */
+    public static Board randomWalls(Random random, int rows, int cols) {
+        Cell.Terrain[][] terrain = new Cell.Terrain[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                boolean border = (col == 0 || col == cols - 1 || row == 0 || row == rows - 1);
+                boolean wall = border || random.nextInt(4) == 0;
+                terrain[row][col] = wall ? Cell.Terrain.WALL : Cell.Terrain.FLOOR;
+            }
+        }
+        terrain[1][1] = Cell.Terrain.FLOOR;
+        terrain[rows - 2][cols - 2] = Cell.Terrain.FLOOR;
+
+        Position start = new Position(0, rows / 2);
+        Position exit  = new Position(cols - 1, rows / 2);
+        terrain[start.row()][start.column()] = Cell.Terrain.START;
+        terrain[exit.row()][exit.column()]   = Cell.Terrain.EXIT;
+
+        return new Board(new BoardGenerator.Output(rows, cols, start, exit, terrain));
+    }
+
     /**
      * Lists interior cells for quick placement in tests.
      */